@@ -0,0 +1,23 @@
+package com.devmatch.api.project.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página de resultados de búsqueda de proyectos públicos junto con sus
+ * recuentos por faceta. {@code facets} es null si no se pudieron calcular
+ * sin recurrir a la base de datos.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectFacetedSearchResponseDto {
+
+    private List<ProjectResponseDto> items;
+    private String nextCursor;
+    private boolean hasMore;
+    private ProjectSearchFacetsDto facets;
+}
@@ -0,0 +1,92 @@
+package com.devmatch.api.project.application.dto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Conjunto de campos de {@link ProjectResponseDto} pedidos por el cliente
+ * (parámetro {@code fields=id,title,status,tags}).
+ *
+ * Además de recortar la respuesta serializada, permite al mapper saltarse
+ * el enriquecimiento que ningún campo pedido necesita: owner y profile
+ * types, miembros del equipo y tags. El ID se incluye siempre.
+ */
+public final class ProjectFields {
+
+    /**
+     * ID del filtro Jackson declarado en {@link ProjectResponseDto}
+     */
+    public static final String FILTER_ID = "projectFields";
+
+    public static final ProjectFields ALL = new ProjectFields(null);
+
+    private static final Set<String> KNOWN_FIELDS = Set.of(
+            "id", "title", "description", "status", "ownerId", "repoUrl", "coverImageUrl",
+            "estimatedDurationWeeks", "maxTeamSize", "ownerUsername", "teamMembers", "tags",
+            "public", "active", "deleted", "createdAt", "updatedAt");
+
+    private final Set<String> names;
+
+    private ProjectFields(Set<String> names) {
+        this.names = names;
+    }
+
+    /**
+     * Interpreta el parámetro {@code fields}
+     * @param fields Nombres de campo separados por comas (null o vacío para todos)
+     * @return Conjunto de campos
+     * @throws IllegalArgumentException Si algún campo no existe
+     */
+    public static ProjectFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (String name : names) {
+            if (!KNOWN_FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Campo de proyecto desconocido: " + name);
+            }
+        }
+        names.add("id");
+        return new ProjectFields(Collections.unmodifiableSet(names));
+    }
+
+    /**
+     * @return true si se piden todos los campos
+     */
+    public boolean isAll() {
+        return names == null;
+    }
+
+    /**
+     * @return Nombres de los campos pedidos (solo si no se piden todos)
+     */
+    public Set<String> names() {
+        return names != null ? names : KNOWN_FIELDS;
+    }
+
+    public boolean includes(String field) {
+        return names == null || names.contains(field);
+    }
+
+    /**
+     * El owner se necesita para su username y como líder del equipo
+     */
+    public boolean needsOwner() {
+        return includes("ownerUsername") || includes("teamMembers");
+    }
+
+    public boolean needsMembers() {
+        return includes("teamMembers");
+    }
+
+    public boolean needsTags() {
+        return includes("tags");
+    }
+}
@@ -0,0 +1,25 @@
+package com.devmatch.api.project.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de un ID en la consulta de varios proyectos a la vez.
+ * {@code project} solo se informa si el estado es {@link LookupStatus#FOUND}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectLookupResultDto {
+
+    private Long id;
+    private LookupStatus status;
+    private ProjectResponseDto project;
+
+    public enum LookupStatus {
+        FOUND,
+        NOT_FOUND,
+        FORBIDDEN
+    }
+}
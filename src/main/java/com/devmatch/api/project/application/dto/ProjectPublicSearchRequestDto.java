@@ -25,6 +25,11 @@ public class ProjectPublicSearchRequestDto {
      */
     private List<Long> tagIds;
     
+    /**
+     * Modo de coincidencia de tags: ANY (al menos uno, por defecto) o ALL (todos)
+     */
+    private String tagMatch;
+    
     /**
      * Solo proyectos activos (true) o incluir inactivos (false)
      */
@@ -49,4 +54,14 @@ public class ProjectPublicSearchRequestDto {
      * Duración máxima estimada en semanas
      */
     private Integer maxDurationWeeks;
-} 
\ No newline at end of file
+    
+    /**
+     * Cursor opaco devuelto en la página anterior (solo búsqueda paginada)
+     */
+    private String cursor;
+    
+    /**
+     * Tamaño de página solicitado (solo búsqueda paginada)
+     */
+    private Integer limit;
+}
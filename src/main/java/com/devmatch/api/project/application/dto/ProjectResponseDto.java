@@ -1,6 +1,7 @@
 package com.devmatch.api.project.application.dto;
 
 import com.devmatch.api.project.domain.model.valueobject.ProjectStatus;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,7 +11,10 @@ import java.util.List;
 
 /**
  * DTO para respuestas de proyectos
+ * Admite respuestas parciales con el filtro {@link ProjectFields#FILTER_ID};
+ * sin filtro configurado se serializan todos los campos.
  */
+@JsonFilter(ProjectFields.FILTER_ID)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
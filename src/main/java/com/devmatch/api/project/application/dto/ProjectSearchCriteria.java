@@ -0,0 +1,41 @@
+package com.devmatch.api.project.application.dto;
+
+import com.devmatch.api.project.domain.model.valueobject.ProjectStatus;
+
+import java.util.List;
+
+/**
+ * Criterios ya validados de búsqueda de proyectos. Todos son opcionales.
+ *
+ * @param title Texto a buscar en el título
+ * @param status Estado del proyecto
+ * @param isActive Filtrar por proyectos activos o inactivos
+ * @param minTeamSize Tamaño mínimo del equipo
+ * @param maxTeamSize Tamaño máximo del equipo
+ * @param minDurationWeeks Duración mínima en semanas
+ * @param maxDurationWeeks Duración máxima en semanas
+ * @param tagIds IDs de tags
+ * @param matchAllTags true si el proyecto debe tener todos los tags, false si basta con uno
+ */
+public record ProjectSearchCriteria(String title, ProjectStatus status, Boolean isActive,
+                                    Integer minTeamSize, Integer maxTeamSize,
+                                    Integer minDurationWeeks, Integer maxDurationWeeks,
+                                    List<Long> tagIds, boolean matchAllTags) {
+
+    public boolean hasTitle() {
+        return title != null && !title.isBlank();
+    }
+
+    public boolean hasTags() {
+        return tagIds != null && !tagIds.isEmpty();
+    }
+
+    /**
+     * Mismos criterios sin el filtro de título, para cuando el texto ya se ha
+     * resuelto con el índice de texto completo
+     */
+    public ProjectSearchCriteria withoutTitle() {
+        return new ProjectSearchCriteria(null, status, isActive, minTeamSize, maxTeamSize,
+                minDurationWeeks, maxDurationWeeks, tagIds, matchAllTags);
+    }
+}
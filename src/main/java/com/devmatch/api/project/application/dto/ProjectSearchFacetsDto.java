@@ -0,0 +1,45 @@
+package com.devmatch.api.project.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recuentos por faceta de una búsqueda de proyectos públicos, calculados
+ * sobre todos los proyectos que cumplen el filtro (no solo la página).
+ * Los tramos incluyen {@code min} y {@code max} para poder enviarlos tal
+ * cual como filtro; un extremo null indica un tramo abierto.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSearchFacetsDto {
+
+    private long total;
+    private Map<String, Long> status;
+    private List<TagFacetDto> tags;
+    private List<RangeFacetDto> teamSize;
+    private List<RangeFacetDto> durationWeeks;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TagFacetDto {
+        private Long tagId;
+        private String name;
+        private long count;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RangeFacetDto {
+        private String key;
+        private Integer min;
+        private Integer max;
+        private long count;
+    }
+}
@@ -0,0 +1,34 @@
+package com.devmatch.api.project.application.dto;
+
+import com.devmatch.api.project.domain.model.valueobject.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO de proyecto para listados.
+ * En lugar de la descripción completa lleva su extracto, calculado al
+ * guardar el proyecto; la descripción completa solo se sirve en el detalle
+ * ({@link ProjectResponseDto}). No incluye miembros del equipo.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSummaryDto {
+
+    private Long id;
+    private String title;
+    private String descriptionSummary;
+    private ProjectStatus status;
+    private Long ownerId;
+    private String ownerUsername;
+    private Integer estimatedDurationWeeks;
+    private Integer maxTeamSize;
+    private List<String> tags;
+    private boolean isPublic;
+    private boolean isActive;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,16 @@
+package com.devmatch.api.project.application.event;
+
+/**
+ * Evento publicado tras cualquier escritura que afecte a un proyecto:
+ * creación, edición, cambios de estado o visibilidad, tags y miembros.
+ *
+ * @param projectId ID del proyecto modificado
+ * @param remote true si el cambio se hizo en otro nodo y se conoce a través
+ *               de {@code project_changes}; ya está confirmado y persistido
+ */
+public record ProjectChangedEvent(Long projectId, boolean remote) {
+
+    public ProjectChangedEvent(Long projectId) {
+        this(projectId, false);
+    }
+}
@@ -2,11 +2,15 @@ package com.devmatch.api.project.application.mapper;
 
 import com.devmatch.api.project.application.dto.ProjectApplicationResponseDto;
 import com.devmatch.api.project.domain.model.ProjectApplication;
+import com.devmatch.api.user.application.dto.shared.UserSummaryDto;
 import com.devmatch.api.user.application.port.in.UserQueryUseCase;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -14,6 +18,7 @@ import java.util.stream.Collectors;
  */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class ProjectApplicationMapper {
     
     private final UserQueryUseCase userQueryUseCase;
@@ -24,37 +29,19 @@ public class ProjectApplicationMapper {
      * @return DTO de respuesta
      */
     public ProjectApplicationResponseDto toResponseDto(ProjectApplication application) {
-        try {
-            // Obtener información del usuario que aplicó
-            var user = userQueryUseCase.findUserById(application.getUserId());
-            
-            // Manejar profileTypes para evitar null
-            List<String> profileTypes = user.getProfileTypes();
-            if (profileTypes == null) {
-                profileTypes = List.of();
-            }
-            
-            return ProjectApplicationResponseDto.builder()
-                .id(application.getId())
-                .projectId(application.getProjectId())
-                .userId(application.getUserId())
-                .userUsername(user.getUsername())
-                .userFirstName(user.getFirstName())
-                .userLastName(user.getLastName())
-                .userProfileTypes(profileTypes)
-                .motivationMessage(application.getMotivationMessage().getValue())
-                .status(application.getStatus())
-                .seenByOwner(application.isSeenByOwner())
-                .submittedAt(application.getSubmittedAt())
-                .resolvedAt(application.getResolvedAt())
-                .createdAt(application.getCreatedAt())
-                .updatedAt(application.getUpdatedAt())
-                .build();
-                
-        } catch (Exception e) {
+        return toResponseDto(application, loadApplicants(Collections.singletonList(application.getUserId())));
+    }
+
+    private ProjectApplicationResponseDto toResponseDto(ProjectApplication application,
+                                                        Map<Long, UserSummaryDto> applicants) {
+        // Obtener información del usuario que aplicó
+        UserSummaryDto user = applicants.get(application.getUserId());
+
+        if (user == null) {
             // Si no se puede obtener la información del usuario, crear DTO con datos básicos
-            System.err.println("Error obteniendo información del usuario para aplicación " + application.getId() + ": " + e.getMessage());
-            
+            log.warn("Error obteniendo información del usuario para aplicación {}: usuario {} no encontrado",
+                    application.getId(), application.getUserId());
+
             return ProjectApplicationResponseDto.builder()
                 .id(application.getId())
                 .projectId(application.getProjectId())
@@ -72,16 +59,51 @@ public class ProjectApplicationMapper {
                 .updatedAt(application.getUpdatedAt())
                 .build();
         }
+
+        // Manejar profileTypes para evitar null
+        List<String> profileTypes = user.getProfileTypes();
+        if (profileTypes == null) {
+            profileTypes = List.of();
+        }
+
+        return ProjectApplicationResponseDto.builder()
+            .id(application.getId())
+            .projectId(application.getProjectId())
+            .userId(application.getUserId())
+            .userUsername(user.getUsername())
+            .userFirstName(user.getFirstName())
+            .userLastName(user.getLastName())
+            .userProfileTypes(profileTypes)
+            .motivationMessage(application.getMotivationMessage().getValue())
+            .status(application.getStatus())
+            .seenByOwner(application.isSeenByOwner())
+            .submittedAt(application.getSubmittedAt())
+            .resolvedAt(application.getResolvedAt())
+            .createdAt(application.getCreatedAt())
+            .updatedAt(application.getUpdatedAt())
+            .build();
     }
     
     /**
-     * Convierte una lista de entidades de dominio a una lista de DTOs de respuesta
+     * Convierte una lista de entidades de dominio a una lista de DTOs de respuesta.
+     * Los usuarios se cargan todos juntos en un número fijo de consultas.
      * @param applications Lista de entidades de dominio
      * @return Lista de DTOs de respuesta
      */
     public List<ProjectApplicationResponseDto> toResponseDtoList(List<ProjectApplication> applications) {
+        Map<Long, UserSummaryDto> applicants = loadApplicants(
+                applications.stream().map(ProjectApplication::getUserId).toList());
         return applications.stream()
-                .map(this::toResponseDto)
+                .map(application -> toResponseDto(application, applicants))
                 .collect(Collectors.toList());
     }
-} 
\ No newline at end of file
+
+    private Map<Long, UserSummaryDto> loadApplicants(List<Long> userIds) {
+        try {
+            return userQueryUseCase.findUsersByIds(userIds);
+        } catch (Exception e) {
+            log.warn("Error obteniendo información de los usuarios {}: {}", userIds, e.getMessage());
+            return Map.of();
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.devmatch.api.project.application.mapper;
 
+import com.devmatch.api.project.application.dto.ProjectFields;
 import com.devmatch.api.project.application.dto.ProjectRequestDto;
 import com.devmatch.api.project.application.dto.ProjectResponseDto;
+import com.devmatch.api.project.application.port.out.ProjectTeamRepositoryPort;
+import com.devmatch.api.project.application.port.out.ProjectTeamRepositoryPort.TeamMemberData;
 import com.devmatch.api.project.domain.model.Project;
 import com.devmatch.api.project.domain.model.valueobject.ProjectTitle;
 import com.devmatch.api.project.domain.model.valueobject.ProjectDescription;
@@ -11,12 +14,16 @@ import com.devmatch.api.project.domain.model.valueobject.ProjectDuration;
 import com.devmatch.api.project.domain.model.valueobject.TeamSize;
 import com.devmatch.api.project.infrastructure.out.persistence.entity.ProjectEntity;
 import com.devmatch.api.project.infrastructure.out.persistence.mapper.ProjectPersistenceMapper;
+import com.devmatch.api.user.application.dto.shared.UserSummaryDto;
 import com.devmatch.api.user.application.port.in.UserQueryUseCase;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -24,10 +31,12 @@ import java.util.stream.Collectors;
  */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class ProjectMapper {
     
     private final UserQueryUseCase userQueryUseCase;
     private final ProjectPersistenceMapper projectPersistenceMapper;
+    private final ProjectTeamRepositoryPort projectTeamRepositoryPort;
     
     /**
      * Convierte un DTO de solicitud a una entidad de dominio
@@ -55,38 +64,16 @@ public class ProjectMapper {
      * @return DTO de respuesta
      */
     public ProjectResponseDto toResponseDto(Project project) {
-        String ownerUsername = null;
-        List<ProjectResponseDto.ProjectMemberDto> teamMembers = new ArrayList<>();
-        
-        try {
-            // Obtener información del owner
-            var owner = userQueryUseCase.findUserById(project.getOwnerId());
-            ownerUsername = owner.getUsername();
-            
-            // Obtener el primer profile type del usuario (por ahora solo el primero)
-            String profileType = null;
-            if (owner.getProfileTypes() != null && !owner.getProfileTypes().isEmpty()) {
-                profileType = owner.getProfileTypes().get(0); // Tomar el primero
-            }
-            
-            // Agregar el owner como miembro del equipo (líder)
-            teamMembers.add(new ProjectResponseDto.ProjectMemberDto(
-                owner.getId(),
-                owner.getUsername(),
-                "LEADER", // Posición en el proyecto
-                profileType // Profile type del usuario
-            ));
-            
-            // TODO: Agregar otros miembros del equipo cuando se implemente la funcionalidad
-            // Por ahora solo está el owner
-            
-        } catch (Exception e) {
-            // Si no se puede obtener la información del owner, continuar sin ella
-            // Esto puede pasar si el usuario fue eliminado
-            System.err.println("Error obteniendo información del owner para proyecto " + project.getId() + ": " + e.getMessage());
-            e.printStackTrace();
-        }
-        
+        return toResponseDto(project, loadTeams(
+                Collections.singletonList(project.getId()), Collections.singletonList(project.getOwnerId()),
+                ProjectFields.ALL), ProjectFields.ALL);
+    }
+
+    private ProjectResponseDto toResponseDto(Project project, Teams teams, ProjectFields fields) {
+        UserSummaryDto owner = fields.needsOwner()
+                ? resolveOwner(project.getId(), project.getOwnerId(), teams.owners())
+                : null;
+
         return new ProjectResponseDto(
             project.getId(),
             project.getTitle().getValue(),
@@ -97,8 +84,8 @@ public class ProjectMapper {
             project.getCoverImageUrl() != null ? project.getCoverImageUrl().getNormalizedValue() : null,
             project.getEstimatedDuration() != null ? project.getEstimatedDuration().getWeeks() : null,
             project.getMaxTeamSize() != null ? project.getMaxTeamSize().getValue() : null,
-            ownerUsername,
-            teamMembers,
+            owner != null ? owner.getUsername() : null,
+            fields.needsMembers() ? toTeamMembers(owner, teams.members().get(project.getId())) : null,
             new ArrayList<>(), // tags - se manejarán en método sobrecargado
             project.isPublic(),
             project.isActive(),
@@ -114,40 +101,18 @@ public class ProjectMapper {
      * @return DTO de respuesta con tags
      */
     public ProjectResponseDto toResponseDto(ProjectEntity projectEntity) {
-        String ownerUsername = null;
-        List<ProjectResponseDto.ProjectMemberDto> teamMembers = new ArrayList<>();
-        
-        try {
-            // Obtener información del owner
-            var owner = userQueryUseCase.findUserById(projectEntity.getOwnerId());
-            ownerUsername = owner.getUsername();
-            
-            // Obtener el primer profile type del usuario (por ahora solo el primero)
-            String profileType = null;
-            if (owner.getProfileTypes() != null && !owner.getProfileTypes().isEmpty()) {
-                profileType = owner.getProfileTypes().get(0); // Tomar el primero
-            }
-            
-            // Agregar el owner como miembro del equipo (líder)
-            teamMembers.add(new ProjectResponseDto.ProjectMemberDto(
-                owner.getId(),
-                owner.getUsername(),
-                "LEADER", // Posición en el proyecto
-                profileType // Profile type del usuario
-            ));
-            
-            // TODO: Agregar otros miembros del equipo cuando se implemente la funcionalidad
-            // Por ahora solo está el owner
-            
-        } catch (Exception e) {
-            // Si no se puede obtener la información del owner, continuar sin ella
-            // Esto puede pasar si el usuario fue eliminado
-            System.err.println("Error obteniendo información del owner para proyecto " + projectEntity.getId() + ": " + e.getMessage());
-            e.printStackTrace();
-        }
+        return toResponseDto(projectEntity, loadTeams(
+                Collections.singletonList(projectEntity.getId()), Collections.singletonList(projectEntity.getOwnerId()),
+                ProjectFields.ALL), ProjectFields.ALL);
+    }
+
+    private ProjectResponseDto toResponseDto(ProjectEntity projectEntity, Teams teams, ProjectFields fields) {
+        UserSummaryDto owner = fields.needsOwner()
+                ? resolveOwner(projectEntity.getId(), projectEntity.getOwnerId(), teams.owners())
+                : null;
         
-        // Extraer tags
-        List<String> tags = projectPersistenceMapper.extractTagNames(projectEntity);
+        // Extraer tags (la colección es perezosa: si no se piden no se consultan)
+        List<String> tags = fields.needsTags() ? projectPersistenceMapper.extractTagNames(projectEntity) : null;
         
         return new ProjectResponseDto(
             projectEntity.getId(),
@@ -159,8 +124,8 @@ public class ProjectMapper {
             projectEntity.getCoverImageUrl(),
             projectEntity.getEstimatedDurationWeeks(),
             projectEntity.getMaxTeamSize(),
-            ownerUsername,
-            teamMembers,
+            owner != null ? owner.getUsername() : null,
+            fields.needsMembers() ? toTeamMembers(owner, teams.members().get(projectEntity.getId())) : null,
             tags,
             projectEntity.isPublic(),
             projectEntity.isActive(),
@@ -171,26 +136,135 @@ public class ProjectMapper {
     }
 
     /**
-     * Convierte una lista de entidades de dominio a una lista de DTOs de respuesta
+     * Convierte una lista de entidades de dominio a una lista de DTOs de respuesta.
+     * Owners y equipos se cargan para toda la lista en un número fijo de consultas.
      * @param projects Lista de entidades de dominio
      * @return Lista de DTOs de respuesta
      */
     public List<ProjectResponseDto> toResponseDtoList(List<Project> projects) {
+        return toResponseDtoList(projects, ProjectFields.ALL);
+    }
+
+    /**
+     * Convierte una lista de entidades de dominio a DTOs de respuesta, cargando
+     * solo el enriquecimiento que necesitan los campos pedidos
+     * @param projects Lista de entidades de dominio
+     * @param fields Campos pedidos
+     * @return Lista de DTOs de respuesta
+     */
+    public List<ProjectResponseDto> toResponseDtoList(List<Project> projects, ProjectFields fields) {
+        Teams teams = loadTeams(
+                projects.stream().map(Project::getId).toList(),
+                projects.stream().map(Project::getOwnerId).toList(),
+                fields);
         return projects.stream()
-                .map(this::toResponseDto)
+                .map(project -> toResponseDto(project, teams, fields))
                 .collect(Collectors.toList());
     }
 
     /**
-     * Convierte una lista de entidades JPA a una lista de DTOs de respuesta (incluye tags)
+     * Convierte una lista de entidades JPA a una lista de DTOs de respuesta (incluye tags).
+     * Owners y equipos se cargan para toda la lista en un número fijo de consultas.
      * @param projectEntities Lista de entidades JPA
      * @return Lista de DTOs de respuesta con tags
      */
     public List<ProjectResponseDto> toResponseDtoListWithTags(List<ProjectEntity> projectEntities) {
+        return toResponseDtoListWithTags(projectEntities, ProjectFields.ALL);
+    }
+
+    /**
+     * Convierte una lista de entidades JPA a DTOs de respuesta, cargando solo
+     * el enriquecimiento que necesitan los campos pedidos
+     * @param projectEntities Lista de entidades JPA
+     * @param fields Campos pedidos
+     * @return Lista de DTOs de respuesta
+     */
+    public List<ProjectResponseDto> toResponseDtoListWithTags(List<ProjectEntity> projectEntities, ProjectFields fields) {
+        Teams teams = loadTeams(
+                projectEntities.stream().map(ProjectEntity::getId).toList(),
+                projectEntities.stream().map(ProjectEntity::getOwnerId).toList(),
+                fields);
         return projectEntities.stream()
-                .map(this::toResponseDto)
+                .map(projectEntity -> toResponseDto(projectEntity, teams, fields))
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Carga owners y miembros activos de todos los proyectos a la vez: una
+     * consulta de equipos más las del lote de owners, nunca una por proyecto.
+     * Lo que ningún campo pedido necesita no se consulta.
+     */
+    private Teams loadTeams(List<Long> projectIds, List<Long> ownerIds, ProjectFields fields) {
+        if (!fields.needsOwner()) {
+            return new Teams(Map.of(), Map.of());
+        }
+
+        Map<Long, UserSummaryDto> owners;
+        try {
+            owners = userQueryUseCase.findUsersByIds(ownerIds);
+        } catch (Exception e) {
+            // Si no se pueden obtener los owners, continuar sin ellos
+            log.warn("Error obteniendo información de los owners {}: {}", ownerIds, e.getMessage());
+            owners = Map.of();
+        }
+
+        if (!fields.needsMembers()) {
+            return new Teams(owners, Map.of());
+        }
+
+        Map<Long, List<TeamMemberData>> members;
+        try {
+            members = projectTeamRepositoryPort.findActiveMembersByProjectIds(projectIds).stream()
+                    .collect(Collectors.groupingBy(TeamMemberData::projectId));
+        } catch (Exception e) {
+            // Si no se pueden obtener los miembros, el equipo queda solo con el owner
+            log.warn("Error obteniendo los miembros de los proyectos {}: {}", projectIds, e.getMessage());
+            members = Map.of();
+        }
+        return new Teams(owners, members);
+    }
+
+    private UserSummaryDto resolveOwner(Long projectId, Long ownerId, Map<Long, UserSummaryDto> owners) {
+        UserSummaryDto owner = ownerId != null ? owners.get(ownerId) : null;
+        if (owner == null) {
+            // Esto puede pasar si el usuario fue eliminado
+            log.warn("No se encontró el owner {} del proyecto {}", ownerId, projectId);
+        }
+        return owner;
+    }
+
+    /**
+     * El owner aparece primero como líder del equipo y después el resto de
+     * miembros activos, cada uno con su primer profile type
+     */
+    private List<ProjectResponseDto.ProjectMemberDto> toTeamMembers(UserSummaryDto owner, List<TeamMemberData> members) {
+        List<ProjectResponseDto.ProjectMemberDto> teamMembers = new ArrayList<>();
+        if (owner != null) {
+            teamMembers.add(new ProjectResponseDto.ProjectMemberDto(
+                owner.getId(),
+                owner.getUsername(),
+                "LEADER", // Posición en el proyecto
+                owner.getPrimaryProfileType()
+            ));
+        }
+        if (members != null) {
+            for (TeamMemberData member : members) {
+                if (owner != null && member.userId().equals(owner.getId())) {
+                    continue;
+                }
+                teamMembers.add(new ProjectResponseDto.ProjectMemberDto(
+                    member.userId(),
+                    member.username(),
+                    member.memberRole(),
+                    member.profileType()
+                ));
+            }
+        }
+        return teamMembers;
+    }
+
+    private record Teams(Map<Long, UserSummaryDto> owners, Map<Long, List<TeamMemberData>> members) {
+    }
     
     /**
      * Actualiza una entidad existente con datos del DTO de solicitud
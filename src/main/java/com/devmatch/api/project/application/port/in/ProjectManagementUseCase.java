@@ -1,12 +1,20 @@
 package com.devmatch.api.project.application.port.in;
 
+import com.devmatch.api.project.application.dto.ProjectFacetedSearchResponseDto;
+import com.devmatch.api.project.application.dto.ProjectFields;
+import com.devmatch.api.project.application.dto.ProjectLookupResultDto;
 import com.devmatch.api.project.application.dto.ProjectRequestDto;
 import com.devmatch.api.project.application.dto.ProjectResponseDto;
 import com.devmatch.api.project.application.dto.ProjectPublicSearchRequestDto;
+import com.devmatch.api.project.application.dto.ProjectSummaryDto;
 import com.devmatch.api.project.application.dto.ProjectTagsRequestDto;
 import com.devmatch.api.project.domain.model.valueobject.ProjectStatus;
+import com.devmatch.api.shared.application.dto.CursorPageResponseDto;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Caso de uso para la gestión de proyectos (CRUD y operaciones de negocio)
@@ -76,19 +84,31 @@ public interface ProjectManagementUseCase {
     /**
      * Obtiene todos los proyectos de un usuario
      * @param ownerId ID del propietario de los proyectos
+     * @param fields Campos pedidos; el enriquecimiento que no necesitan no se carga
      * @return Lista de proyectos del usuario
      */
-    List<ProjectResponseDto> getProjectsByOwner(Long ownerId);
+    List<ProjectResponseDto> getProjectsByOwner(Long ownerId, ProjectFields fields);
 
     /**
      * Obtiene proyectos de un usuario específico con filtros y lógica de seguridad
-     * Solo devuelve proyectos públicos o propios del usuario autenticado
+     * Solo devuelve proyectos públicos, propios o de los que el usuario autenticado es miembro
      * @param ownerId ID del propietario de los proyectos
      * @param authenticatedUserId ID del usuario autenticado que solicita los proyectos
      * @param filter DTO con los criterios de búsqueda y filtrado (opcional)
+     * @param fields Campos pedidos; el enriquecimiento que no necesitan no se carga
      * @return Lista de proyectos que el usuario autenticado puede ver
      */
-    List<ProjectResponseDto> getProjectsByOwnerWithSecurity(Long ownerId, Long authenticatedUserId, ProjectPublicSearchRequestDto filter);
+    List<ProjectResponseDto> getProjectsByOwnerWithSecurity(Long ownerId, Long authenticatedUserId, ProjectPublicSearchRequestDto filter, ProjectFields fields);
+
+    /**
+     * Obtiene proyectos de un usuario específico con filtros, lógica de seguridad y paginación por cursor
+     * @param ownerId ID del propietario de los proyectos
+     * @param authenticatedUserId ID del usuario autenticado que solicita los proyectos
+     * @param filter DTO con los criterios de búsqueda, el cursor y el tamaño de página (opcional)
+     * @param fields Campos pedidos; el enriquecimiento que no necesitan no se carga
+     * @return Página de proyectos que el usuario autenticado puede ver
+     */
+    CursorPageResponseDto<ProjectResponseDto> getProjectsByOwnerPage(Long ownerId, Long authenticatedUserId, ProjectPublicSearchRequestDto filter, ProjectFields fields);
 
     /**
      * Obtiene un proyecto específico por su ID
@@ -98,6 +118,16 @@ public interface ProjectManagementUseCase {
      */
     ProjectResponseDto getProjectById(Long projectId, Long userId);
 
+    /**
+     * Obtiene varios proyectos por ID, con las mismas reglas de visibilidad que
+     * {@link #getProjectById(Long, Long)} aplicadas a cada uno
+     * @param projectIds IDs de los proyectos (como máximo el límite configurado)
+     * @param userId ID del usuario que solicita los proyectos
+     * @return Un resultado por ID, en el orden recibido, con el proyecto o el motivo por el que no se devuelve
+     * @throws IllegalArgumentException Si se piden más IDs de los permitidos
+     */
+    List<ProjectLookupResultDto> getProjectsByIds(List<Long> projectIds, Long userId);
+
     /**
      * Obtiene un proyecto público específico por su ID
      * Solo proyectos públicos y activos
@@ -106,12 +136,28 @@ public interface ProjectManagementUseCase {
      */
     ProjectResponseDto getPublicProjectById(Long projectId);
 
+    /**
+     * Obtiene la ETag de la versión actual de un proyecto, sin acceder a base de datos.
+     * Debe pedirse antes de leer el proyecto.
+     * @param projectId ID del proyecto
+     * @return ETag débil o vacío si aún no se conoce la versión
+     */
+    Optional<String> getProjectETag(Long projectId);
+
+    /**
+     * Obtiene la ETag de la versión actual del catálogo de proyectos, sin acceder a base de datos.
+     * Cambia con cualquier proyecto. Debe pedirse antes de leer los proyectos.
+     * @return ETag débil o vacío si aún no se conocen las versiones
+     */
+    Optional<String> getCatalogETag();
+
     /**
      * Obtiene todos los proyectos públicos
      * Solo proyectos públicos y activos
+     * @param fields Campos pedidos; el enriquecimiento y los joins que no necesitan no se hacen
      * @return Lista de todos los proyectos públicos
      */
-    List<ProjectResponseDto> getAllPublicProjects();
+    List<ProjectResponseDto> getAllPublicProjects(ProjectFields fields);
 
     /**
      * Busca y filtra proyectos públicos con criterios múltiples
@@ -120,6 +166,55 @@ public interface ProjectManagementUseCase {
      */
     List<ProjectResponseDto> searchPublicProjects(ProjectPublicSearchRequestDto filter);
 
+    /**
+     * Exporta los proyectos públicos y activos en formato NDJSON (un objeto JSON por línea),
+     * en orden de ID ascendente y sin cargar el catálogo entero en memoria
+     * @param afterId Último ID recibido en una exportación anterior (null para empezar desde el principio)
+     * @param output Destino de la exportación; no se cierra
+     * @throws IOException Si falla la escritura (por ejemplo, el cliente se desconecta)
+     */
+    void exportPublicProjects(Long afterId, OutputStream output) throws IOException;
+
+    /**
+     * Obtiene una página de proyectos públicos y activos, del más reciente al más antiguo
+     * @param cursor Cursor devuelto en la página anterior (null para la primera)
+     * @param limit Tamaño de página (opcional, acotado por configuración)
+     * @return Página de proyectos públicos
+     */
+    CursorPageResponseDto<ProjectResponseDto> getPublicProjectsPage(String cursor, Integer limit);
+
+    /**
+     * Busca proyectos públicos con paginación por cursor
+     * @param filter DTO con los criterios de búsqueda, el cursor y el tamaño de página
+     * @return Página de proyectos públicos que coinciden con los filtros
+     */
+    CursorPageResponseDto<ProjectResponseDto> searchPublicProjectsPage(ProjectPublicSearchRequestDto filter);
+
+    /**
+     * Busca proyectos públicos con paginación por cursor e incluye los recuentos
+     * por estado, tag, tamaño de equipo y duración de todos los resultados
+     * @param filter Filtros de búsqueda, cursor y tamaño de página
+     * @return Página de proyectos y recuentos por faceta
+     */
+    ProjectFacetedSearchResponseDto searchPublicProjectsWithFacets(ProjectPublicSearchRequestDto filter);
+
+    /**
+     * Obtiene una página de resúmenes de proyectos públicos y activos, del más
+     * reciente al más antiguo, con el extracto de la descripción en lugar de
+     * la descripción completa
+     * @param cursor Cursor devuelto en la página anterior (null para la primera)
+     * @param limit Tamaño de página (opcional, acotado por configuración)
+     * @return Página de resúmenes de proyectos públicos
+     */
+    CursorPageResponseDto<ProjectSummaryDto> getPublicProjectSummariesPage(String cursor, Integer limit);
+
+    /**
+     * Busca proyectos públicos con paginación por cursor y devuelve sus resúmenes
+     * @param filter Filtros de búsqueda, cursor y tamaño de página
+     * @return Página de resúmenes de proyectos que coinciden con los filtros
+     */
+    CursorPageResponseDto<ProjectSummaryDto> searchPublicProjectSummariesPage(ProjectPublicSearchRequestDto filter);
+
     /**
      * Agrega tags a un proyecto
      * @param projectId ID del proyecto
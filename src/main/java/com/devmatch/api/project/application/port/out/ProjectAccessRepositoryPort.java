@@ -0,0 +1,43 @@
+package com.devmatch.api.project.application.port.out;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto de salida de solo lectura con los datos de propiedad, visibilidad y
+ * membresía de los proyectos, usado para construir el índice de autorización.
+ */
+public interface ProjectAccessRepositoryPort {
+
+    /**
+     * Obtiene los datos de acceso de todos los proyectos (incluidos eliminados)
+     * @return Lista de datos de acceso
+     */
+    List<ProjectAccessData> findAllProjects();
+
+    /**
+     * Obtiene los datos de acceso de un proyecto
+     * @param projectId ID del proyecto
+     * @return Datos de acceso o vacío si el proyecto no existe
+     */
+    Optional<ProjectAccessData> findProject(Long projectId);
+
+    /**
+     * Obtiene todas las membresías activas
+     * @return Pares proyecto/usuario de miembros activos
+     */
+    List<MembershipData> findAllActiveMemberships();
+
+    /**
+     * Obtiene los IDs de los miembros activos de un proyecto
+     * @param projectId ID del proyecto
+     * @return IDs de usuario
+     */
+    List<Long> findActiveMemberIds(Long projectId);
+
+    record ProjectAccessData(Long projectId, Long ownerId, boolean isPublic, boolean isActive, boolean isDeleted) {
+    }
+
+    record MembershipData(Long projectId, Long userId) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.devmatch.api.project.application.port.out;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Puerto de salida para la tabla compartida de cambios de proyectos.
+ * Cada nodo registra sus escrituras y lee las de los demás para mantener al
+ * día sus índices y cachés en memoria.
+ */
+public interface ProjectChangeFeedRepositoryPort {
+
+    /**
+     * Registra el cambio de un proyecto
+     * @param projectId ID del proyecto modificado
+     * @param nodeId Identificador del nodo que hizo el cambio
+     */
+    void recordChange(Long projectId, String nodeId);
+
+    /**
+     * Obtiene los cambios registrados desde un instante
+     * @param since Instante desde el que leer (incluido)
+     * @return Cambios ordenados por ID
+     */
+    List<ChangeData> findChangesSince(Instant since);
+
+    /**
+     * Elimina los cambios anteriores a un instante
+     * @param before Instante límite
+     * @return Número de filas eliminadas
+     */
+    int deleteOlderThan(Instant before);
+
+    record ChangeData(long id, Long projectId, String nodeId) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.devmatch.api.project.application.port.out;
+
+import java.util.function.Consumer;
+
+/**
+ * Puerto de salida para exportar el catálogo público de proyectos fila a
+ * fila, sin cargarlo entero en memoria.
+ */
+public interface ProjectExportRepositoryPort {
+
+    /**
+     * Recorre los proyectos públicos, activos y no eliminados en orden de ID
+     * ascendente, entregando cada uno según se lee
+     * @param afterId Último ID ya exportado (null para empezar desde el principio)
+     * @param consumer Receptor de cada fila; si lanza una excepción el recorrido se aborta
+     */
+    void streamPublicProjects(Long afterId, Consumer<ExportRow> consumer);
+
+    /**
+     * @param projectId ID del proyecto
+     * @param payload Respuesta del modelo de lectura en JSON, o null si aún no se ha proyectado
+     */
+    record ExportRow(Long projectId, String payload) {
+    }
+}
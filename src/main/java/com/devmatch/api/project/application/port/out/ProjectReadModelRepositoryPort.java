@@ -0,0 +1,70 @@
+package com.devmatch.api.project.application.port.out;
+
+import com.devmatch.api.project.application.dto.ProjectResponseDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Puerto de salida del modelo de lectura de proyectos: la respuesta ya
+ * montada (owner, tags y miembros) guardada por ID de proyecto.
+ */
+public interface ProjectReadModelRepositoryPort {
+
+    /**
+     * Obtiene la respuesta guardada de un proyecto
+     * @param projectId ID del proyecto
+     * @return Respuesta o vacío si aún no se ha proyectado
+     */
+    Optional<ProjectResponseDto> findById(Long projectId);
+
+    /**
+     * Obtiene las respuestas guardadas de varios proyectos
+     * @param projectIds IDs de los proyectos
+     * @return Respuestas encontradas, en cualquier orden
+     */
+    List<ProjectResponseDto> findAllByIds(Collection<Long> projectIds);
+
+    /**
+     * Obtiene la versión de la respuesta guardada de varios proyectos. La
+     * versión crece con cada reescritura que cambia la respuesta.
+     * @param projectIds IDs de los proyectos
+     * @return Versión por ID de los proyectos que tienen fila
+     */
+    Map<Long, Long> findVersions(Collection<Long> projectIds);
+
+    /**
+     * Obtiene la versión de todas las respuestas guardadas
+     * @return Versión por ID de proyecto
+     */
+    Map<Long, Long> findAllVersions();
+
+    /**
+     * Inserta o reemplaza la respuesta de un proyecto. Reescribir la misma
+     * respuesta no cambia su versión.
+     * @param project Respuesta completa del proyecto
+     */
+    void save(ProjectResponseDto project);
+
+    /**
+     * Inserta la respuesta de un proyecto solo si no existe ya, para rellenar
+     * huecos sin pisar una escritura concurrente más reciente
+     * @param project Respuesta completa del proyecto
+     */
+    void saveIfAbsent(ProjectResponseDto project);
+
+    /**
+     * Bloquea la fila del proyecto en {@code projects} hasta el final de la
+     * transacción, para serializar las proyecciones de un mismo proyecto
+     * @param projectId ID del proyecto
+     */
+    void lockProject(Long projectId);
+
+    /**
+     * Elimina la respuesta de un proyecto que ya no existe
+     * @param projectId ID del proyecto
+     */
+    void delete(Long projectId);
+}
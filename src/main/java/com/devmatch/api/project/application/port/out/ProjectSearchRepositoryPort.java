@@ -0,0 +1,65 @@
+package com.devmatch.api.project.application.port.out;
+
+import com.devmatch.api.project.domain.model.valueobject.ProjectStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Puerto de salida de solo lectura con los atributos filtrables de los
+ * proyectos, usado para construir el índice de búsqueda en memoria.
+ */
+public interface ProjectSearchRepositoryPort {
+
+    /**
+     * Obtiene los atributos de búsqueda de todos los proyectos públicos no eliminados
+     * @return Lista de documentos de búsqueda
+     */
+    List<ProjectSearchData> findAllSearchable();
+
+    /**
+     * Obtiene los atributos de búsqueda de un proyecto
+     * @param projectId ID del proyecto
+     * @return Documento de búsqueda o vacío si el proyecto no existe
+     */
+    Optional<ProjectSearchData> findSearchData(Long projectId);
+
+    /**
+     * Obtiene las asociaciones proyecto/tag vigentes de los proyectos públicos no eliminados
+     * @return Pares proyecto/tag
+     */
+    List<ProjectTagData> findAllSearchableProjectTags();
+
+    /**
+     * Obtiene los IDs de los tags vigentes de un proyecto
+     * @param projectId ID del proyecto
+     * @return IDs de tags
+     */
+    List<Long> findTagIds(Long projectId);
+
+    /**
+     * Obtiene los IDs de los proyectos no eliminados que tienen asociado un tag,
+     * sean públicos o no
+     * @param tagId ID del tag
+     * @return IDs de proyectos
+     */
+    List<Long> findProjectIdsByTagId(Long tagId);
+
+    /**
+     * Obtiene el nombre de varios tags
+     * @param tagIds IDs de los tags
+     * @return Nombre por ID de los tags que existen
+     */
+    Map<Long, String> findTagNames(Collection<Long> tagIds);
+
+    record ProjectSearchData(Long projectId, String title, ProjectStatus status, boolean isPublic,
+                             boolean isActive, boolean isDeleted, Integer maxTeamSize,
+                             Integer estimatedDurationWeeks, LocalDateTime createdAt) {
+    }
+
+    record ProjectTagData(Long projectId, Long tagId) {
+    }
+}
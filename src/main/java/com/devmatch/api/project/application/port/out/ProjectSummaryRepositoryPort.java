@@ -0,0 +1,20 @@
+package com.devmatch.api.project.application.port.out;
+
+import com.devmatch.api.project.application.dto.ProjectSummaryDto;
+
+import java.util.List;
+
+/**
+ * Puerto de salida con la proyección ligera de proyectos para listados:
+ * columnas escalares, extracto de la descripción, username del propietario
+ * y nombres de tags, sin leer la columna {@code description}.
+ */
+public interface ProjectSummaryRepositoryPort {
+
+    /**
+     * Obtiene el resumen de varios proyectos no eliminados
+     * @param projectIds IDs de los proyectos
+     * @return Resúmenes en el mismo orden que los IDs, omitiendo los que no existen
+     */
+    List<ProjectSummaryDto> findAllByIds(List<Long> projectIds);
+}
@@ -0,0 +1,22 @@
+package com.devmatch.api.project.application.port.out;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Puerto de salida de solo lectura con los miembros activos de varios
+ * proyectos, ya unidos a su username y primer profile type, para poder
+ * incrustar el equipo en las respuestas sin una consulta por proyecto.
+ */
+public interface ProjectTeamRepositoryPort {
+
+    /**
+     * Obtiene los miembros activos de un conjunto de proyectos
+     * @param projectIds IDs de los proyectos
+     * @return Miembros ordenados por proyecto y fecha de incorporación
+     */
+    List<TeamMemberData> findActiveMembersByProjectIds(Collection<Long> projectIds);
+
+    record TeamMemberData(Long projectId, Long userId, String username, String memberRole, String profileType) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.devmatch.api.project.application.port.out;
+
+import com.devmatch.api.shared.application.text.KeyBackfillBatch;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto de salida con el texto indexable de los proyectos (título y
+ * descripción), usado para construir el índice de texto completo y para
+ * mantener las columnas derivadas de ese texto: la clave de búsqueda del
+ * título ({@code projects.title_key}) y el extracto de la descripción que
+ * muestran los listados ({@code projects.description_summary}).
+ */
+public interface ProjectTextRepositoryPort {
+
+    /**
+     * Obtiene el texto de todos los proyectos no eliminados
+     * @return Lista de documentos de texto
+     */
+    List<ProjectTextData> findAllIndexable();
+
+    /**
+     * Obtiene el texto de un proyecto no eliminado
+     * @param projectId ID del proyecto
+     * @return Documento de texto o vacío si el proyecto no existe o está eliminado
+     */
+    Optional<ProjectTextData> findIndexable(Long projectId);
+
+    /**
+     * Recalcula la clave de búsqueda del título y el extracto de la descripción
+     * tras crear o editar un proyecto
+     * @param projectId ID del proyecto
+     * @param title Título actual
+     * @param descriptionSummary Extracto de la descripción actual
+     */
+    void refreshDerivedText(Long projectId, String title, String descriptionSummary);
+
+    /**
+     * Lee, por orden de ID, un tramo de proyectos y calcula la clave y el
+     * extracto de los que aún no los tienen. Ninguna de las dos columnas está
+     * indexada, así que se recorre la clave primaria en tramos acotados.
+     * @param afterId Se leen los proyectos con ID mayor que este
+     * @param batchSize Número máximo de proyectos a leer
+     * @return Último ID leído, si se llegó al final y cuántos se actualizaron
+     */
+    KeyBackfillBatch backfillMissingKeys(long afterId, int batchSize);
+
+    record ProjectTextData(Long projectId, String title, String description) {
+    }
+}
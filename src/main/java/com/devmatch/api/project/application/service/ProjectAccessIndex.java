@@ -0,0 +1,230 @@
+package com.devmatch.api.project.application.service;
+
+import com.devmatch.api.project.application.event.ProjectChangedEvent;
+import com.devmatch.api.project.application.port.out.ProjectAccessRepositoryPort;
+import com.devmatch.api.project.application.port.out.ProjectAccessRepositoryPort.MembershipData;
+import com.devmatch.api.project.application.port.out.ProjectAccessRepositoryPort.ProjectAccessData;
+import com.devmatch.api.project.domain.model.ProjectAccess;
+import com.devmatch.api.shared.application.util.RebuildTracker;
+import com.devmatch.api.shared.application.util.SortedLongArrays;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice en memoria de propiedad y membresía de proyectos.
+ *
+ * Guarda por proyecto su {@link ProjectAccess} y por usuario los IDs de los
+ * proyectos que posee y de los que es miembro, como arrays {@code long[]}
+ * ordenados. Permite resolver la autorización de las operaciones sobre
+ * proyectos sin leer el proyecto de base de datos.
+ *
+ * Se mantiene con los {@link ProjectChangedEvent} publicados tras cada
+ * escritura, tanto de este nodo como de los demás ({@link ProjectChangeFeed}),
+ * y se reconstruye por completo periódicamente. Un proyecto que no esté en el
+ * índice se carga de base de datos en el momento.
+ */
+@Component
+@Slf4j
+public class ProjectAccessIndex {
+
+    private final ProjectAccessRepositoryPort projectAccessRepositoryPort;
+    private final Object writeLock = new Object();
+    private final RebuildTracker<Long> rebuildTracker = new RebuildTracker<>();
+
+    private volatile Map<Long, ProjectAccess> projects = new ConcurrentHashMap<>();
+    private volatile Map<Long, UserProjects> users = new ConcurrentHashMap<>();
+    private volatile boolean built;
+
+    public ProjectAccessIndex(ProjectAccessRepositoryPort projectAccessRepositoryPort) {
+        this.projectAccessRepositoryPort = projectAccessRepositoryPort;
+    }
+
+    /**
+     * Obtiene los datos de acceso de un proyecto, incluidos los eliminados
+     * @param projectId ID del proyecto
+     * @return Datos de acceso o vacío si el proyecto no existe
+     */
+    public Optional<ProjectAccess> findProject(Long projectId) {
+        ProjectAccess access = projects.get(projectId);
+        if (access != null) {
+            return Optional.of(access);
+        }
+        return Optional.ofNullable(loadProject(projectId, false));
+    }
+
+    /**
+     * @return IDs ordenados de los proyectos cuyo propietario es el usuario
+     */
+    public long[] getOwnedProjectIds(Long userId) {
+        ensureBuilt();
+        UserProjects userProjects = users.get(userId);
+        return userProjects != null ? userProjects.owned() : SortedLongArrays.EMPTY;
+    }
+
+    /**
+     * @return IDs ordenados de los proyectos en los que el usuario es miembro activo
+     */
+    public long[] getMemberProjectIds(Long userId) {
+        ensureBuilt();
+        UserProjects userProjects = users.get(userId);
+        return userProjects != null ? userProjects.member() : SortedLongArrays.EMPTY;
+    }
+
+    /**
+     * Recarga un proyecto tras confirmarse la transacción que lo modificó
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        try {
+            loadProject(event.projectId(), true);
+        } catch (Exception e) {
+            // El proyecto se corregirá en la próxima reconstrucción completa
+            projects.remove(event.projectId());
+            log.warn("No se pudo actualizar el índice de acceso del proyecto {}: {}", event.projectId(), e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * Reconstruye el índice completo desde base de datos
+     */
+    @Scheduled(fixedDelayString = "${project.access-index.rebuild-ms:600000}",
+            initialDelayString = "${project.access-index.rebuild-ms:600000}")
+    public void rebuild() {
+        rebuildTracker.begin();
+        List<Long> toReplay = List.of();
+        try {
+            Map<Long, List<Long>> membersByProject = new HashMap<>();
+            for (MembershipData membership : projectAccessRepositoryPort.findAllActiveMemberships()) {
+                membersByProject.computeIfAbsent(membership.projectId(), key -> new ArrayList<>()).add(membership.userId());
+            }
+
+            Map<Long, ProjectAccess> rebuiltProjects = new ConcurrentHashMap<>();
+            Map<Long, UserProjects> rebuiltUsers = new ConcurrentHashMap<>();
+            for (ProjectAccessData data : projectAccessRepositoryPort.findAllProjects()) {
+                ProjectAccess access = toAccess(data, membersByProject.getOrDefault(data.projectId(), List.of()));
+                apply(rebuiltProjects, rebuiltUsers, null, access);
+            }
+
+            synchronized (writeLock) {
+                projects = rebuiltProjects;
+                users = rebuiltUsers;
+                built = true;
+                toReplay = rebuildTracker.swapped();
+            }
+            log.debug("Índice de acceso a proyectos reconstruido con {} proyectos", rebuiltProjects.size());
+        } catch (Exception e) {
+            log.warn("No se pudo reconstruir el índice de acceso a proyectos: {}", e.getMessage());
+        } finally {
+            rebuildTracker.end();
+        }
+
+        // Los cambios confirmados mientras se leía pueden no estar en la foto recién cargada
+        for (Long projectId : toReplay) {
+            onProjectChanged(new ProjectChangedEvent(projectId));
+        }
+    }
+
+    private void ensureBuilt() {
+        if (!built) {
+            rebuild();
+        }
+    }
+
+    private ProjectAccess loadProject(Long projectId, boolean overwrite) {
+        Optional<ProjectAccessData> data = projectAccessRepositoryPort.findProject(projectId);
+        ProjectAccess loaded = data
+                .map(projectData -> toAccess(projectData, projectAccessRepositoryPort.findActiveMemberIds(projectId)))
+                .orElse(null);
+
+        synchronized (writeLock) {
+            ProjectAccess previous = projects.get(projectId);
+            if (!overwrite && previous != null) {
+                // Otro hilo lo cargó entretanto; su versión es igual o más reciente
+                return previous;
+            }
+            apply(projects, users, previous, loaded);
+            rebuildTracker.changed(projectId);
+        }
+        return loaded;
+    }
+
+    private static ProjectAccess toAccess(ProjectAccessData data, List<Long> memberIds) {
+        return new ProjectAccess(data.projectId(), data.ownerId(), data.isPublic(), data.isActive(), data.isDeleted(),
+                SortedLongArrays.of(memberIds));
+    }
+
+    /**
+     * Sustituye la entrada de un proyecto y actualiza los arrays por usuario
+     * con la diferencia entre la versión anterior y la nueva
+     */
+    private static void apply(Map<Long, ProjectAccess> projectMap, Map<Long, UserProjects> userMap,
+                              ProjectAccess previous, ProjectAccess current) {
+        Long projectId = current != null ? current.projectId() : previous != null ? previous.projectId() : null;
+        if (projectId == null) {
+            return;
+        }
+
+        Long previousOwner = previous != null ? previous.ownerId() : null;
+        Long currentOwner = current != null ? current.ownerId() : null;
+        if (previousOwner != null && !previousOwner.equals(currentOwner)) {
+            updateUser(userMap, previousOwner, projectId, false, true);
+        }
+        if (currentOwner != null) {
+            updateUser(userMap, currentOwner, projectId, true, true);
+        }
+
+        long[] previousMembers = previous != null ? previous.memberIds() : SortedLongArrays.EMPTY;
+        long[] currentMembers = current != null ? current.memberIds() : SortedLongArrays.EMPTY;
+        for (long memberId : previousMembers) {
+            if (!SortedLongArrays.contains(currentMembers, memberId)) {
+                updateUser(userMap, memberId, projectId, false, false);
+            }
+        }
+        for (long memberId : currentMembers) {
+            if (!SortedLongArrays.contains(previousMembers, memberId)) {
+                updateUser(userMap, memberId, projectId, true, false);
+            }
+        }
+
+        if (current != null) {
+            projectMap.put(projectId, current);
+        } else {
+            projectMap.remove(projectId);
+        }
+    }
+
+    private static void updateUser(Map<Long, UserProjects> userMap, long userId, long projectId,
+                                   boolean add, boolean owned) {
+        userMap.compute(userId, (key, existing) -> {
+            UserProjects base = existing != null ? existing : UserProjects.NONE;
+            long[] ownedIds = base.owned();
+            long[] memberIds = base.member();
+            if (owned) {
+                ownedIds = add ? SortedLongArrays.insert(ownedIds, projectId) : SortedLongArrays.remove(ownedIds, projectId);
+            } else {
+                memberIds = add ? SortedLongArrays.insert(memberIds, projectId) : SortedLongArrays.remove(memberIds, projectId);
+            }
+            return ownedIds.length == 0 && memberIds.length == 0 ? null : new UserProjects(ownedIds, memberIds);
+        });
+    }
+
+    private record UserProjects(long[] owned, long[] member) {
+        private static final UserProjects NONE = new UserProjects(SortedLongArrays.EMPTY, SortedLongArrays.EMPTY);
+    }
+}
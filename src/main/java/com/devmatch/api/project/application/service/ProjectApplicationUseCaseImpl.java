@@ -2,10 +2,12 @@ package com.devmatch.api.project.application.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.devmatch.api.project.application.dto.ProjectApplicationResponseDto;
+import com.devmatch.api.project.application.event.ProjectChangedEvent;
 import com.devmatch.api.project.application.mapper.ProjectApplicationMapper;
 import com.devmatch.api.project.application.port.in.ProjectApplicationUseCase;
 import com.devmatch.api.project.application.port.out.ProjectRepositoryPort;
@@ -14,6 +16,7 @@ import com.devmatch.api.project.application.port.out.ProjectApplicationRepositor
 import com.devmatch.api.project.domain.exception.ProjectNotFoundException;
 import com.devmatch.api.project.domain.exception.ProjectOperationNotAllowedException;
 import com.devmatch.api.project.domain.model.Project;
+import com.devmatch.api.project.domain.model.ProjectAccess;
 import com.devmatch.api.project.domain.model.ProjectApplication;
 import com.devmatch.api.project.domain.model.valueobject.MotivationMessage;
 import com.devmatch.api.user.application.port.out.UserRepositoryPort;
@@ -32,6 +35,8 @@ public class ProjectApplicationUseCaseImpl implements ProjectApplicationUseCase
     private final ProjectMemberRepositoryPort projectMemberRepositoryPort;
     private final ProjectApplicationRepositoryPort projectApplicationRepositoryPort;
     private final ProjectApplicationMapper projectApplicationMapper;
+    private final ProjectAccessIndex projectAccessIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void applyToProject(Long projectId, Long userId, String motivationMessage) {
@@ -78,12 +83,8 @@ public class ProjectApplicationUseCaseImpl implements ProjectApplicationUseCase
 
     @Override
     public List<ProjectApplicationResponseDto> getProjectApplications(Long projectId, Long ownerId) {
-        // 1. Validar que el proyecto existe
-        Project project = projectRepositoryPort.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-        
-        // 2. Validar que el usuario es el propietario del proyecto
-        if (!project.isOwner(ownerId)) {
+        // 1-2. Validar que el proyecto existe y que el usuario es su propietario (índice en memoria)
+        if (!requireProjectAccess(projectId).isOwner(ownerId)) {
             throw new ProjectOperationNotAllowedException(
                     "El usuario con ID " + ownerId + " no es el propietario del proyecto con ID " + projectId);
         }
@@ -124,12 +125,8 @@ public class ProjectApplicationUseCaseImpl implements ProjectApplicationUseCase
 
     @Override
     public void acceptApplication(Long projectId, Long applicationId, Long ownerId) {
-        // 1. Validar que el proyecto existe
-        Project project = projectRepositoryPort.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-        
-        // 2. Validar que el usuario es el propietario del proyecto
-        if (!project.isOwner(ownerId)) {
+        // 1-2. Validar que el proyecto existe y que el usuario es su propietario (índice en memoria)
+        if (!requireProjectAccess(projectId).isOwner(ownerId)) {
             throw new ProjectOperationNotAllowedException(
                     "El usuario con ID " + ownerId + " no es el propietario del proyecto con ID " + projectId);
         }
@@ -151,6 +148,8 @@ public class ProjectApplicationUseCaseImpl implements ProjectApplicationUseCase
         }
         
         // 5. Validar que el proyecto no está lleno
+        Project project = projectRepositoryPort.findById(projectId)
+                .orElseThrow(() -> new ProjectNotFoundException(projectId));
         int currentTeamSize = projectMemberRepositoryPort.countActiveMembersByProjectId(projectId);
         if (project.isFull(currentTeamSize)) {
             throw new ProjectOperationNotAllowedException(
@@ -165,16 +164,13 @@ public class ProjectApplicationUseCaseImpl implements ProjectApplicationUseCase
         
         // 8. Agregar al usuario como miembro del proyecto
         projectMemberRepositoryPort.addMember(projectId, acceptedApplication.getUserId(), "DEVELOPER");
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
     }
 
     @Override
     public void rejectApplication(Long projectId, Long applicationId, Long ownerId) {
-        // 1. Validar que el proyecto existe
-        Project project = projectRepositoryPort.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-        
-        // 2. Validar que el usuario es el propietario del proyecto
-        if (!project.isOwner(ownerId)) {
+        // 1-2. Validar que el proyecto existe y que el usuario es su propietario (índice en memoria)
+        if (!requireProjectAccess(projectId).isOwner(ownerId)) {
             throw new ProjectOperationNotAllowedException(
                     "El usuario con ID " + ownerId + " no es el propietario del proyecto con ID " + projectId);
         }
@@ -228,4 +224,12 @@ public class ProjectApplicationUseCaseImpl implements ProjectApplicationUseCase
         projectApplicationRepositoryPort.save(cancelledApplication);
     }
 
+    /**
+     * Obtiene los datos de acceso de un proyecto no eliminado desde el índice en memoria
+     */
+    private ProjectAccess requireProjectAccess(Long projectId) {
+        return projectAccessIndex.findProject(projectId)
+                .filter(access -> !access.isDeleted())
+                .orElseThrow(() -> new ProjectNotFoundException(projectId));
+    }
 }
@@ -0,0 +1,110 @@
+package com.devmatch.api.project.application.service;
+
+import com.devmatch.api.project.application.event.ProjectChangedEvent;
+import com.devmatch.api.project.application.port.out.ProjectChangeFeedRepositoryPort;
+import com.devmatch.api.project.application.port.out.ProjectChangeFeedRepositoryPort.ChangeData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Propaga entre nodos los cambios de proyectos a través de la tabla
+ * {@code project_changes}.
+ *
+ * Cada {@link ProjectChangedEvent} local se registra en la misma transacción
+ * que el cambio. Cada pocos segundos el nodo lee los cambios de los demás y
+ * los vuelve a publicar como {@link ProjectChangedEvent} remotos, de modo que
+ * el índice de acceso, los índices de búsqueda, la caché de detalle y el
+ * registro de versiones se actualizan en todos los nodos y no solo en el que
+ * hizo la escritura.
+ *
+ * La lectura es por instante con un margen hacia atrás ({@code lookback-ms})
+ * que cubre transacciones que confirman tarde y desfases de reloj; los cambios
+ * ya vistos se descartan por ID.
+ */
+@Component
+@Slf4j
+public class ProjectChangeFeed {
+
+    private final ProjectChangeFeedRepositoryPort projectChangeFeedRepositoryPort;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration lookback;
+    private final Duration retention;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // Solo se usan desde el hilo del planificador
+    private final Map<Long, Instant> seenChanges = new HashMap<>();
+    private Instant lastPollStartedAt = Instant.now();
+    private Instant lastCleanupAt = Instant.EPOCH;
+
+    public ProjectChangeFeed(ProjectChangeFeedRepositoryPort projectChangeFeedRepositoryPort,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${project.change-feed.lookback-ms:30000}") long lookbackMillis,
+                             @Value("${project.change-feed.retention-ms:3600000}") long retentionMillis) {
+        this.projectChangeFeedRepositoryPort = projectChangeFeedRepositoryPort;
+        this.eventPublisher = eventPublisher;
+        this.lookback = Duration.ofMillis(lookbackMillis);
+        this.retention = Duration.ofMillis(retentionMillis);
+    }
+
+    /**
+     * Registra el cambio para los demás nodos dentro de la transacción que lo produce
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (!event.remote()) {
+            projectChangeFeedRepositoryPort.recordChange(event.projectId(), nodeId);
+        }
+    }
+
+    /**
+     * Publica como remotos los cambios hechos en otros nodos desde la última lectura
+     */
+    @Scheduled(fixedDelayString = "${project.change-feed.refresh-ms:2000}")
+    public void poll() {
+        Instant startedAt = Instant.now();
+        try {
+            Instant since = lastPollStartedAt.minus(lookback);
+            List<ChangeData> changes = projectChangeFeedRepositoryPort.findChangesSince(since);
+
+            Set<Long> projectIds = new LinkedHashSet<>();
+            for (ChangeData change : changes) {
+                if (seenChanges.putIfAbsent(change.id(), startedAt) == null && !nodeId.equals(change.nodeId())) {
+                    projectIds.add(change.projectId());
+                }
+            }
+            // Un cambio visto antes de since - lookback ya no puede volver a aparecer en la ventana
+            Instant forgetBefore = since.minus(lookback);
+            seenChanges.values().removeIf(seenAt -> seenAt.isBefore(forgetBefore));
+            lastPollStartedAt = startedAt;
+
+            for (Long projectId : projectIds) {
+                eventPublisher.publishEvent(new ProjectChangedEvent(projectId, true));
+            }
+            if (!projectIds.isEmpty()) {
+                log.debug("Aplicados {} cambios de proyectos de otros nodos", projectIds.size());
+            }
+
+            if (lastCleanupAt.isBefore(startedAt.minus(retention))) {
+                projectChangeFeedRepositoryPort.deleteOlderThan(startedAt.minus(retention));
+                lastCleanupAt = startedAt;
+            }
+        } catch (Exception e) {
+            // La siguiente lectura parte del mismo instante y recoge lo que falte
+            log.warn("No se pudieron leer los cambios de proyectos de otros nodos: {}", e.getMessage());
+        }
+    }
+}
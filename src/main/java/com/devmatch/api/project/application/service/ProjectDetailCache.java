@@ -0,0 +1,155 @@
+package com.devmatch.api.project.application.service;
+
+import com.devmatch.api.project.application.dto.ProjectResponseDto;
+import com.devmatch.api.project.application.event.ProjectChangedEvent;
+import com.devmatch.api.user.application.event.UserProfileChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caché en memoria de respuestas de detalle de proyecto.
+ *
+ * Se sitúa delante de {@link ProjectReadModel} para las lecturas por ID. La
+ * política de expulsión de Caffeine (W-TinyLFU) conserva los proyectos más
+ * consultados aunque un recorrido puntual por muchos proyectos distintos
+ * llene la caché. Las entradas se invalidan tras el commit de cualquier
+ * {@link ProjectChangedEvent} y, cuando cambia el perfil público de un
+ * usuario, las de todos los proyectos que posee o en los que participa. La
+ * caducidad por escritura solo acota el tiempo que otro nodo puede servir
+ * una respuesta anterior a un cambio hecho en este.
+ *
+ * Aciertos, expulsiones y tiempo de carga se publican como métricas
+ * {@code cache.*{cache=project.detail}}. Caffeine agrupa las cargas de un
+ * mismo ID; las lecturas públicas de detalle se agrupan además antes de abrir
+ * la transacción ({@code ProjectQueryCoalescer}), para que quien espera no
+ * ocupe una conexión del pool.
+ */
+@Component
+@Slf4j
+public class ProjectDetailCache {
+
+    private static final String CACHE_NAME = "project.detail";
+
+    private final Cache<Long, ProjectResponseDto> cache;
+    private final ProjectReadModel projectReadModel;
+    private final ProjectAccessIndex projectAccessIndex;
+    // Crece con cada invalidación; las cargas por lotes lo comparan antes de guardar
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ProjectDetailCache(
+            ProjectReadModel projectReadModel,
+            ProjectAccessIndex projectAccessIndex,
+            @Value("${project.detail-cache.maximum-size:10000}") long maximumSize,
+            @Value("${project.detail-cache.ttl-ms:300000}") long ttlMillis,
+            MeterRegistry meterRegistry) {
+        this.projectReadModel = projectReadModel;
+        this.projectAccessIndex = projectAccessIndex;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Obtiene la respuesta de un proyecto, cargándola del modelo de lectura si no está en caché.
+     * Los proyectos inexistentes no se cachean.
+     * @param projectId ID del proyecto
+     * @return Respuesta o vacío si el proyecto no existe
+     */
+    public Optional<ProjectResponseDto> get(Long projectId) {
+        return Optional.ofNullable(cache.get(projectId, id -> projectReadModel.get(id).orElse(null)));
+    }
+
+    /**
+     * Obtiene las respuestas de varios proyectos. Los que no están en caché se
+     * cargan juntos del modelo de lectura en una sola consulta.
+     *
+     * La carga por lotes no bloquea las claves como {@link #get(Long)}, así que
+     * una invalidación podría llegar mientras se lee y perderse al guardar el
+     * resultado. Por eso solo se guarda lo cargado si no ha habido ninguna
+     * invalidación desde que empezó la lectura; si la hubo, se devuelve sin
+     * cachear y la siguiente lectura lo vuelve a cargar.
+     * @param projectIds IDs de los proyectos
+     * @return Respuestas por ID de los proyectos que existen
+     */
+    public Map<Long, ProjectResponseDto> getAll(Collection<Long> projectIds) {
+        Map<Long, ProjectResponseDto> projects = new HashMap<>(cache.getAllPresent(projectIds));
+        List<Long> missing = projectIds.stream()
+                .filter(projectId -> projectId != null && !projects.containsKey(projectId))
+                .distinct()
+                .toList();
+        if (missing.isEmpty()) {
+            return projects;
+        }
+
+        long generation = invalidations.get();
+        for (ProjectResponseDto project : projectReadModel.getAll(missing)) {
+            projects.put(project.getId(), project);
+            // compute se serializa con la invalidación de la misma clave: si esta llega
+            // antes ya ha cambiado la generación, y si llega después borra lo guardado
+            cache.asMap().compute(project.getId(),
+                    (projectId, cached) -> cached != null || invalidations.get() != generation ? cached : project);
+        }
+        return projects;
+    }
+
+    /**
+     * Elimina de la caché la respuesta de un proyecto
+     * @param projectId ID del proyecto
+     */
+    public void invalidate(Long projectId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(projectId);
+    }
+
+    /**
+     * Invalida el proyecto una vez confirmada la transacción que lo modificó.
+     * Si una carga del mismo proyecto está en curso, la invalidación espera a
+     * que termine, así que no puede quedar cacheada una versión anterior.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        invalidate(event.projectId());
+    }
+
+    /**
+     * Invalida los proyectos que muestran al usuario como propietario o miembro
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        try {
+            int invalidated = 0;
+            for (long projectId : projectAccessIndex.getOwnedProjectIds(event.userId())) {
+                invalidate(projectId);
+                invalidated++;
+            }
+            for (long projectId : projectAccessIndex.getMemberProjectIds(event.userId())) {
+                invalidate(projectId);
+                invalidated++;
+            }
+            log.debug("Invalidados {} proyectos en caché tras cambiar el perfil del usuario {}",
+                    invalidated, event.userId());
+        } catch (Exception e) {
+            // Sin índice no se sabe qué proyectos afecta: se vacía la caché entera
+            log.warn("No se pudieron resolver los proyectos del usuario {}: {}", event.userId(), e.getMessage());
+            invalidations.incrementAndGet();
+            cache.invalidateAll();
+        }
+    }
+}
@@ -1,37 +1,67 @@
 package com.devmatch.api.project.application.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.time.LocalDateTime;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.devmatch.api.project.application.dto.ProjectFacetedSearchResponseDto;
+import com.devmatch.api.project.application.dto.ProjectFields;
+import com.devmatch.api.project.application.dto.ProjectLookupResultDto;
+import com.devmatch.api.project.application.dto.ProjectLookupResultDto.LookupStatus;
 import com.devmatch.api.project.application.dto.ProjectRequestDto;
+import com.devmatch.api.project.application.event.ProjectChangedEvent;
 import com.devmatch.api.project.application.dto.ProjectResponseDto;
 import com.devmatch.api.project.application.dto.ProjectPublicSearchRequestDto;
+import com.devmatch.api.project.application.dto.ProjectSearchCriteria;
+import com.devmatch.api.project.application.dto.ProjectSummaryDto;
 import com.devmatch.api.project.application.dto.ProjectTagsRequestDto;
 import com.devmatch.api.project.application.mapper.ProjectMapper;
 import com.devmatch.api.project.infrastructure.out.persistence.entity.ProjectEntity;
 import com.devmatch.api.project.infrastructure.out.persistence.repository.ProjectJpaRepository;
-import com.devmatch.api.project.infrastructure.out.persistence.mapper.ProjectPersistenceMapper;
+import com.devmatch.api.project.infrastructure.out.persistence.repository.ProjectKeysetQueryRepository;
 import com.devmatch.api.project.application.port.out.TagRepositoryPort;
 import com.devmatch.api.project.application.port.in.ProjectManagementUseCase;
 import com.devmatch.api.project.application.port.out.ProjectRepositoryPort;
 import com.devmatch.api.project.application.port.out.ProjectMemberRepositoryPort;
+import com.devmatch.api.project.application.port.out.ProjectTextRepositoryPort;
+import com.devmatch.api.project.application.port.out.ProjectExportRepositoryPort;
+import com.devmatch.api.project.application.port.out.ProjectExportRepositoryPort.ExportRow;
+import com.devmatch.api.project.application.port.out.ProjectSummaryRepositoryPort;
 import com.devmatch.api.project.domain.exception.ProjectNotFoundException;
 import com.devmatch.api.project.domain.exception.ProjectOperationNotAllowedException;
 import com.devmatch.api.project.domain.model.Project;
+import com.devmatch.api.project.domain.model.ProjectAccess;
 import com.devmatch.api.project.domain.model.ProjectMember;
 import com.devmatch.api.project.domain.model.valueobject.ProjectStatus;
 import com.devmatch.api.project.domain.service.ProjectDomainService;
+import com.devmatch.api.shared.application.dto.CursorPageResponseDto;
+import com.devmatch.api.shared.application.util.KeysetCursor;
+import com.devmatch.api.user.application.dto.shared.UserSummaryDto;
 import com.devmatch.api.user.application.port.in.UserQueryUseCase;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Slf4j
 public class ProjectManagementUseCaseImpl implements ProjectManagementUseCase {
 
     private final ProjectRepositoryPort projectRepositoryPort;
@@ -41,7 +71,28 @@ public class ProjectManagementUseCaseImpl implements ProjectManagementUseCase {
     private final UserQueryUseCase userQueryUseCase;
     private final ProjectJpaRepository projectJpaRepository;
     private final TagRepositoryPort tagRepositoryPort;
-    private final ProjectPersistenceMapper projectPersistenceMapper;
+    private final ProjectAccessIndex projectAccessIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectKeysetQueryRepository projectKeysetQueryRepository;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectTextIndex projectTextIndex;
+    private final ProjectTextRepositoryPort projectTextRepositoryPort;
+    private final ProjectReadModel projectReadModel;
+    private final ProjectDetailCache projectDetailCache;
+    private final ProjectVersionRegistry projectVersionRegistry;
+    private final ProjectExportRepositoryPort projectExportRepositoryPort;
+    private final ProjectSearchFacets projectSearchFacets;
+    private final ProjectSummaryRepositoryPort projectSummaryRepositoryPort;
+    private final ObjectMapper objectMapper;
+
+    @Value("${project.pagination.default-limit:20}")
+    private int defaultPageSize;
+
+    @Value("${project.pagination.max-limit:100}")
+    private int maxPageSize;
+
+    @Value("${project.multi-get.max-ids:100}")
+    private int maxLookupIds;
 
     @Override
     @Transactional
@@ -53,60 +104,53 @@ public class ProjectManagementUseCaseImpl implements ProjectManagementUseCase {
         Project project = projectMapper.toDomain(request, ownerId);
 
         Project savedProject = projectRepositoryPort.save(project);
+        projectTextRepositoryPort.refreshDerivedText(savedProject.getId(),
+                savedProject.getTitle().getValue(), savedProject.getDescription().getSummary());
 
         // Procesar tags si se proporcionaron
         if (request.getTags() != null && !request.getTags().isEmpty()) {
-            System.out.println("Procesando tags: " + request.getTags());
+            log.debug("Procesando tags: {}", request.getTags());
             try {
                 List<Long> tagIds = new ArrayList<>();
                 for (String tagName : request.getTags()) {
-                    System.out.println("Procesando tag: " + tagName);
                     // Buscar o crear el tag
                     TagRepositoryPort.TagDto tag = tagRepositoryPort.findByName(tagName)
                             .orElseGet(() -> {
-                                System.out.println("Creando nuevo tag: " + tagName);
+                                log.debug("Creando nuevo tag: {}", tagName);
                                 return tagRepositoryPort.createTag(tagName, "TECHNOLOGY");
                             });
                     tagIds.add(tag.id());
-                    System.out.println("Tag procesado: " + tagName + " con ID: " + tag.id());
                 }
                 
-                System.out.println("Agregando tags al proyecto: " + tagIds);
                 // Agregar tags al proyecto
                 projectRepositoryPort.addTagsToProject(savedProject.getId(), tagIds);
-                System.out.println("Tags agregados exitosamente");
             } catch (Exception e) {
                 // Si hay error con tags, continuar sin tags
-                System.err.println("Error procesando tags: " + e.getMessage());
-                e.printStackTrace();
+                log.warn("Error procesando tags del proyecto {}: {}", savedProject.getId(), e.getMessage(), e);
             }
         }
 
+        eventPublisher.publishEvent(new ProjectChangedEvent(savedProject.getId()));
+
         // Retornar proyecto con tags incluidos
-        try {
-            ProjectEntity projectWithTags = projectJpaRepository.findByIdWithTags(savedProject.getId())
-                    .orElseThrow(() -> new ProjectNotFoundException(savedProject.getId()));
-            return projectMapper.toResponseDto(projectWithTags);
-        } catch (Exception e) {
-            // Si hay error cargando tags, retornar sin tags
-            System.err.println("Error cargando proyecto con tags: " + e.getMessage());
-            e.printStackTrace();
-            return projectMapper.toResponseDto(savedProject);
-        }
+        return projectedResponse(savedProject.getId());
     }
 
     @Override
     public ProjectResponseDto updateProject(Long projectId, ProjectRequestDto request, Long userId) {
-        Project existingProject = projectRepositoryPort.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-
-        if (!existingProject.canBeEditedBy(userId)) {
+        // Autorización resuelta desde el índice antes de cargar el proyecto
+        if (!requireProjectAccess(projectId).canBeEditedBy(userId)) {
             throw new ProjectOperationNotAllowedException(projectId, userId, "editar");
         }
 
+        Project existingProject = projectRepositoryPort.findById(projectId)
+                .orElseThrow(() -> new ProjectNotFoundException(projectId));
+
         Project updatedProject = projectMapper.updateProjectFromDto(existingProject, request);
 
         Project savedProject = projectRepositoryPort.save(updatedProject);
+        projectTextRepositoryPort.refreshDerivedText(savedProject.getId(),
+                savedProject.getTitle().getValue(), savedProject.getDescription().getSummary());
 
         // Procesar tags si se proporcionaron
         if (request.getTags() != null && !request.getTags().isEmpty()) {
@@ -122,31 +166,21 @@ public class ProjectManagementUseCaseImpl implements ProjectManagementUseCase {
             projectRepositoryPort.addTagsToProject(projectId, tagIds);
         }
 
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
+
         // Obtener el proyecto actualizado con tags
-        try {
-            ProjectEntity projectWithTags = projectJpaRepository.findByIdWithTags(savedProject.getId())
-                    .orElseThrow(() -> new ProjectNotFoundException(savedProject.getId()));
-            return projectMapper.toResponseDto(projectWithTags);
-        } catch (Exception e) {
-            // Si hay error cargando tags, retornar sin tags
-            System.err.println("Error cargando proyecto con tags: " + e.getMessage());
-            e.printStackTrace();
-            return projectMapper.toResponseDto(savedProject);
-        }
+        return projectedResponse(projectId);
     }
 
     @Override
     public ProjectResponseDto changeProjectStatus(Long projectId, ProjectStatus newStatus, Long userId) {
 
-        Project existingProject = projectRepositoryPort.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-
-        if (!existingProject.canBeEditedBy(userId)) {
+        if (!requireProjectAccess(projectId).canBeEditedBy(userId)) {
             throw new ProjectOperationNotAllowedException(projectId, userId, "cambiar estado");
         }
 
-        // Cargar la entidad JPA con tags para preservar las relaciones
-        ProjectEntity projectEntity = projectJpaRepository.findByIdWithTags(projectId)
+        // Cargar la entidad JPA; las relaciones con tags no se tocan al guardarla
+        ProjectEntity projectEntity = projectJpaRepository.findById(projectId)
                 .orElseThrow(() -> new ProjectNotFoundException(projectId));
 
         // Actualizar solo el estado en la entidad JPA (preserva tags)
@@ -154,24 +188,22 @@ public class ProjectManagementUseCaseImpl implements ProjectManagementUseCase {
         projectEntity.setUpdatedAt(LocalDateTime.now());
 
         // Guardar la entidad actualizada (preserva las relaciones con tags)
-        ProjectEntity savedEntity = projectJpaRepository.save(projectEntity);
+        projectJpaRepository.save(projectEntity);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
         // Retornar el DTO con tags
-        return projectMapper.toResponseDto(savedEntity);
+        return projectedResponse(projectId);
     }
 
     @Override
     public ProjectResponseDto changeProjectVisibility(Long projectId, boolean isPublic, Long userId) {
 
-        Project existingProject = projectRepositoryPort.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-
-        if (!existingProject.canBeEditedBy(userId)) {
+        if (!requireProjectAccess(projectId).canBeEditedBy(userId)) {
             throw new ProjectOperationNotAllowedException(projectId, userId, "cambiar visibilidad");
         }
 
-        // Cargar la entidad JPA con tags para preservar las relaciones
-        ProjectEntity projectEntity = projectJpaRepository.findByIdWithTags(projectId)
+        // Cargar la entidad JPA; las relaciones con tags no se tocan al guardarla
+        ProjectEntity projectEntity = projectJpaRepository.findById(projectId)
                 .orElseThrow(() -> new ProjectNotFoundException(projectId));
 
         // Actualizar solo la visibilidad en la entidad JPA (preserva tags)
@@ -179,24 +211,22 @@ public class ProjectManagementUseCaseImpl implements ProjectManagementUseCase {
         projectEntity.setUpdatedAt(LocalDateTime.now());
 
         // Guardar la entidad actualizada (preserva las relaciones con tags)
-        ProjectEntity savedEntity = projectJpaRepository.save(projectEntity);
+        projectJpaRepository.save(projectEntity);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
         // Retornar el DTO con tags
-        return projectMapper.toResponseDto(savedEntity);
+        return projectedResponse(projectId);
     }
 
     @Override
     public ProjectResponseDto deactivateProject(Long projectId, Long userId) {
 
-        Project existingProject = projectRepositoryPort.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-
-        if (!existingProject.canBeEditedBy(userId)) {
+        if (!requireProjectAccess(projectId).canBeEditedBy(userId)) {
             throw new ProjectOperationNotAllowedException(projectId, userId, "desactivar");
         }
 
-        // Cargar la entidad JPA con tags para preservar las relaciones
-        ProjectEntity projectEntity = projectJpaRepository.findByIdWithTags(projectId)
+        // Cargar la entidad JPA; las relaciones con tags no se tocan al guardarla
+        ProjectEntity projectEntity = projectJpaRepository.findById(projectId)
                 .orElseThrow(() -> new ProjectNotFoundException(projectId));
 
         // Actualizar solo el estado activo en la entidad JPA (preserva tags)
@@ -204,24 +234,22 @@ public class ProjectManagementUseCaseImpl implements ProjectManagementUseCase {
         projectEntity.setUpdatedAt(LocalDateTime.now());
 
         // Guardar la entidad actualizada (preserva las relaciones con tags)
-        ProjectEntity savedEntity = projectJpaRepository.save(projectEntity);
+        projectJpaRepository.save(projectEntity);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
         // Retornar el DTO con tags
-        return projectMapper.toResponseDto(savedEntity);
+        return projectedResponse(projectId);
     }
 
     @Override
     public ProjectResponseDto deleteProject(Long projectId, Long userId) {
 
-        Project existingProject = projectRepositoryPort.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-
-        if (!existingProject.canBeEditedBy(userId)) {
+        if (!requireProjectAccess(projectId).canBeEditedBy(userId)) {
             throw new ProjectOperationNotAllowedException(projectId, userId, "eliminar");
         }
 
-        // Cargar la entidad JPA con tags para preservar las relaciones
-        ProjectEntity projectEntity = projectJpaRepository.findByIdWithTags(projectId)
+        // Cargar la entidad JPA; las relaciones con tags no se tocan al guardarla
+        ProjectEntity projectEntity = projectJpaRepository.findById(projectId)
                 .orElseThrow(() -> new ProjectNotFoundException(projectId));
 
         // Actualizar solo los campos de estado en la entidad JPA (preserva tags)
@@ -230,10 +258,11 @@ public class ProjectManagementUseCaseImpl implements ProjectManagementUseCase {
         projectEntity.setUpdatedAt(LocalDateTime.now());
 
         // Guardar la entidad actualizada (preserva las relaciones con tags)
-        ProjectEntity savedEntity = projectJpaRepository.save(projectEntity);
+        projectJpaRepository.save(projectEntity);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
         // Retornar el DTO con tags
-        return projectMapper.toResponseDto(savedEntity);
+        return projectedResponse(projectId);
     }
 
     @Override
@@ -248,174 +277,154 @@ public class ProjectManagementUseCaseImpl implements ProjectManagementUseCase {
             throw new ProjectOperationNotAllowedException(projectId, userId, "restaurar");
         }
 
-        // Cargar la entidad JPA con tags para preservar las relaciones
-        ProjectEntity projectWithTags = projectJpaRepository.findByIdWithTags(projectId)
-                .orElse(projectEntity); // Si no encuentra con tags, usar la entidad básica
-
         // Actualizar solo los campos de estado en la entidad JPA (preserva tags)
-        projectWithTags.setActive(true);
-        projectWithTags.setDeleted(false);
-        projectWithTags.setUpdatedAt(LocalDateTime.now());
+        projectEntity.setActive(true);
+        projectEntity.setDeleted(false);
+        projectEntity.setUpdatedAt(LocalDateTime.now());
 
         // Guardar la entidad actualizada (preserva las relaciones con tags)
-        ProjectEntity savedEntity = projectJpaRepository.save(projectWithTags);
+        projectJpaRepository.save(projectEntity);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
         // Retornar el DTO con tags
-        return projectMapper.toResponseDto(savedEntity);
+        return projectedResponse(projectId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProjectResponseDto> getProjectsByOwner(Long ownerId) {
+    public List<ProjectResponseDto> getProjectsByOwner(Long ownerId, ProjectFields fields) {
 
         List<Project> projects = projectRepositoryPort.findByOwnerId(ownerId);
 
-        return projectMapper.toResponseDtoList(projects);
+        return projectMapper.toResponseDtoList(projects, fields);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProjectResponseDto> getProjectsByOwnerWithSecurity(Long ownerId, Long authenticatedUserId, ProjectPublicSearchRequestDto filter) {
-        // Obtener todos los proyectos del propietario con tags cargados
-        List<ProjectEntity> allProjectEntities = projectJpaRepository.findByOwnerIdWithTags(ownerId);
-        
-        // Filtrar proyectos según la lógica de seguridad
-        List<ProjectEntity> visibleProjectEntities = allProjectEntities.stream()
-                .filter(projectEntity -> {
-                    // Crear objeto de dominio para verificar visibilidad
-                    Project project = projectPersistenceMapper.toDomain(projectEntity);
-                    return project.isVisibleTo(authenticatedUserId);
-                })
-                .toList();
-        
-        // Si no hay filtro, devolver todos los proyectos visibles con tags
-        if (filter == null) {
-            return projectMapper.toResponseDtoListWithTags(visibleProjectEntities);
-        }
-        
-        // Aplicar filtros adicionales
-        List<ProjectEntity> filteredProjectEntities = visibleProjectEntities.stream()
-                .filter(projectEntity -> {
-                    // Filtrar por título (búsqueda parcial)
-                    if (filter.getTitle() != null && !filter.getTitle().trim().isEmpty()) {
-                        if (!projectEntity.getTitle().toLowerCase().contains(filter.getTitle().toLowerCase())) {
-                            return false;
-                        }
-                    }
-                    
-                    // Filtrar por estado
-                    if (filter.getStatus() != null && !filter.getStatus().trim().isEmpty()) {
-                        try {
-                            ProjectStatus filterStatus = ProjectStatus.valueOf(filter.getStatus().toUpperCase());
-                            if (!projectEntity.getStatus().equals(filterStatus)) {
-                                return false;
-                            }
-                        } catch (IllegalArgumentException e) {
-                            // Si el status no es válido, no filtrar por él
-                        }
-                    }
-                    
-                    // Filtrar por estado activo
-                    if (filter.getIsActive() != null) {
-                        if (projectEntity.isActive() != filter.getIsActive()) {
-                            return false;
-                        }
-                    }
-                    
-                    // Filtrar por tamaño del equipo
-                    if (filter.getMinTeamSize() != null) {
-                        if (projectEntity.getMaxTeamSize() < filter.getMinTeamSize()) {
-                            return false;
-                        }
-                    }
-                    
-                    if (filter.getMaxTeamSize() != null) {
-                        if (projectEntity.getMaxTeamSize() > filter.getMaxTeamSize()) {
-                            return false;
-                        }
-                    }
-                    
-                    // Filtrar por duración estimada
-                    if (filter.getMinDurationWeeks() != null) {
-                        if (projectEntity.getEstimatedDurationWeeks() < filter.getMinDurationWeeks()) {
-                            return false;
-                        }
-                    }
-                    
-                    if (filter.getMaxDurationWeeks() != null) {
-                        if (projectEntity.getEstimatedDurationWeeks() > filter.getMaxDurationWeeks()) {
-                            return false;
-                        }
-                    }
-                    
-                    return true;
-                })
-                .toList();
-        
-        return projectMapper.toResponseDtoListWithTags(filteredProjectEntities);
+    public List<ProjectResponseDto> getProjectsByOwnerWithSecurity(Long ownerId, Long authenticatedUserId, ProjectPublicSearchRequestDto filter, ProjectFields fields) {
+        // Visibilidad y filtros se resuelven en SQL: solo se cargan las filas que se devuelven
+        TextFilter text = resolveTextFilter(toOwnerSearchCriteria(filter));
+        List<ProjectEntity> projectEntities = projectKeysetQueryRepository.findOwnerPage(
+                ownerId, authenticatedUserId, text.criteria(), text.matchingIds(), null, Integer.MAX_VALUE);
+        return projectMapper.toResponseDtoListWithTags(projectEntities, fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<ProjectResponseDto> getProjectsByOwnerPage(Long ownerId, Long authenticatedUserId, ProjectPublicSearchRequestDto filter, ProjectFields fields) {
+        ProjectPublicSearchRequestDto request = filter != null ? filter : new ProjectPublicSearchRequestDto();
+        KeysetCursor after = KeysetCursor.decode(request.getCursor());
+        int pageSize = resolvePageSize(request.getLimit());
+        TextFilter text = resolveTextFilter(toOwnerSearchCriteria(request));
+
+        // Se pide una fila de más para saber si hay página siguiente sin hacer un COUNT
+        List<ProjectEntity> rows = projectKeysetQueryRepository.findOwnerPage(
+                ownerId, authenticatedUserId, text.criteria(), text.matchingIds(), after, pageSize + 1);
+        return toCursorPage(rows, pageSize, fields);
     }
 
     @Override
     @Transactional(readOnly = true)
     public ProjectResponseDto getProjectById(Long projectId, Long userId) {
 
-        Project project = projectRepositoryPort.findById(projectId)
+        // Los miembros también pueden ver proyectos privados
+        if (!requireProjectAccess(projectId).isVisibleTo(userId)) {
+            throw new ProjectOperationNotAllowedException(projectId, userId, "ver");
+        }
+
+        // Caché en memoria delante del modelo de lectura
+        return projectDetailCache.get(projectId)
                 .orElseThrow(() -> new ProjectNotFoundException(projectId));
+    }
 
-        if (!project.isVisibleTo(userId)) {
-            throw new ProjectOperationNotAllowedException(projectId, userId, "ver");
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectLookupResultDto> getProjectsByIds(List<Long> projectIds, Long userId) {
+        if (projectIds.size() > maxLookupIds) {
+            throw new IllegalArgumentException(
+                    "No se pueden consultar más de " + maxLookupIds + " proyectos a la vez");
         }
 
-        return projectMapper.toResponseDto(project);
+        // Visibilidad resuelta desde el índice; solo se cargan los proyectos visibles
+        Map<Long, LookupStatus> statuses = new HashMap<>();
+        for (Long projectId : projectIds) {
+            if (projectId == null) {
+                throw new IllegalArgumentException("Los IDs de proyecto no pueden estar vacíos");
+            }
+            statuses.computeIfAbsent(projectId, id -> projectAccessIndex.findProject(id)
+                    .filter(access -> !access.isDeleted())
+                    .map(access -> access.isVisibleTo(userId) ? LookupStatus.FOUND : LookupStatus.FORBIDDEN)
+                    .orElse(LookupStatus.NOT_FOUND));
+        }
+        List<Long> visibleIds = statuses.entrySet().stream()
+                .filter(entry -> entry.getValue() == LookupStatus.FOUND)
+                .map(Map.Entry::getKey)
+                .toList();
+        Map<Long, ProjectResponseDto> projects = visibleIds.isEmpty()
+                ? Map.of()
+                : projectDetailCache.getAll(visibleIds);
+
+        List<ProjectLookupResultDto> results = new ArrayList<>(projectIds.size());
+        for (Long projectId : projectIds) {
+            ProjectResponseDto project = projects.get(projectId);
+            LookupStatus status = statuses.get(projectId);
+            if (status == LookupStatus.FOUND && project == null) {
+                // Eliminado entre la consulta al índice y la carga
+                status = LookupStatus.NOT_FOUND;
+            }
+            results.add(new ProjectLookupResultDto(projectId, status, project));
+        }
+        return results;
     }
 
     @Override
     @Transactional(readOnly = true)
     public ProjectResponseDto getPublicProjectById(Long projectId) {
-        ProjectEntity projectEntity = projectJpaRepository.findByIdWithTags(projectId)
+        ProjectResponseDto project = projectDetailCache.get(projectId)
                 .orElseThrow(() -> new ProjectNotFoundException(projectId));
 
         // Verificar que el proyecto sea público y activo
-        if (!projectEntity.isPublic() || !projectEntity.isActive()) {
+        if (!project.isPublic() || !project.isActive() || project.isDeleted()) {
             throw new ProjectOperationNotAllowedException(
                     "El proyecto con ID " + projectId + " no está disponible públicamente");
         }
 
-        return projectMapper.toResponseDto(projectEntity);
+        return project;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Solo memoria: sin transacción ni conexión
+    public Optional<String> getProjectETag(Long projectId) {
+        return projectVersionRegistry.projectETag(projectId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<String> getCatalogETag() {
+        return projectVersionRegistry.catalogETag();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDto.ProjectMemberDto> getProjectMembers(Long projectId, Long userId) {
-        // 1. Validar que el proyecto existe
-        Project project = projectRepositoryPort.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
+        // 1. Validar que el proyecto existe y que el usuario puede verlo
+        ProjectAccess access = requireProjectAccess(projectId);
         
-        // 2. Validar que el usuario puede ver el proyecto
-        if (!project.isVisibleTo(userId)) {
+        // 2. Propietario, miembros o cualquiera si es público
+        if (!access.isVisibleTo(userId)) {
             throw new ProjectOperationNotAllowedException(projectId, userId, "ver miembros");
         }
         
         // 3. Obtener los miembros del proyecto
         List<ProjectMember> members = projectMemberRepositoryPort.getActiveMembersByProjectId(projectId);
         
-        // 4. Convertir a DTOs
+        // 4. Cargar todos los usuarios de una vez y convertir a DTOs
+        Map<Long, UserSummaryDto> users = userQueryUseCase.findUsersByIds(
+                members.stream().map(ProjectMember::getUserId).toList());
         return members.stream()
                 .map(member -> {
-                    try {
-                        var user = userQueryUseCase.findUserById(member.getUserId());
-                        String profileType = null;
-                        if (user.getProfileTypes() != null && !user.getProfileTypes().isEmpty()) {
-                            profileType = user.getProfileTypes().get(0);
-                        }
-                        
-                        return new ProjectResponseDto.ProjectMemberDto(
-                                member.getUserId(),
-                                user.getUsername(),
-                                member.getMemberRole(),
-                                profileType
-                        );
-                    } catch (Exception e) {
+                    UserSummaryDto user = users.get(member.getUserId());
+                    if (user == null) {
                         // Si no se puede obtener la información del usuario, crear DTO con datos básicos
                         return new ProjectResponseDto.ProjectMemberDto(
                                 member.getUserId(),
@@ -424,57 +433,138 @@ public class ProjectManagementUseCaseImpl implements ProjectManagementUseCase {
                                 null
                         );
                     }
+                    return new ProjectResponseDto.ProjectMemberDto(
+                            member.getUserId(),
+                            user.getUsername(),
+                            member.getMemberRole(),
+                            user.getPrimaryProfileType()
+                    );
                 })
                 .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProjectResponseDto> getAllPublicProjects() {
-        // Obtener entidades JPA con tags cargados
-        List<ProjectEntity> projectEntities = projectJpaRepository.findPublicActiveProjectsWithTags();
+    public List<ProjectResponseDto> getAllPublicProjects(ProjectFields fields) {
+        // El join con los tags solo se hace si se piden
+        List<ProjectEntity> projectEntities = fields.needsTags()
+                ? projectJpaRepository.findPublicActiveProjectsWithTags()
+                : projectKeysetQueryRepository.findAllPublicActive();
         
-        // Convertir a DTOs con tags incluidos
-        return projectMapper.toResponseDtoListWithTags(projectEntities);
+        // Convertir a DTOs cargando solo el enriquecimiento pedido
+        return projectMapper.toResponseDtoListWithTags(projectEntities, fields);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Sin una transacción abierta durante toda la exportación
+    public void exportPublicProjects(Long afterId, OutputStream output) throws IOException {
+        try {
+            projectExportRepositoryPort.streamPublicProjects(afterId, row -> writeExportLine(row, output));
+        } catch (UncheckedIOException e) {
+            // El cliente cortó la descarga: se aborta la lectura y se libera el cursor
+            throw e.getCause();
+        }
+        output.flush();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProjectResponseDto> searchPublicProjects(ProjectPublicSearchRequestDto filter) {
-        // Convertir el status de String a ProjectStatus si no es null
-        ProjectStatus status = null;
-        if (filter.getStatus() != null && !filter.getStatus().trim().isEmpty()) {
-            try {
-                status = ProjectStatus.valueOf(filter.getStatus().toUpperCase());
-            } catch (IllegalArgumentException e) {
-                // Si el status no es válido, retornar lista vacía o lanzar excepción
-                throw new IllegalArgumentException("Estado de proyecto inválido: " + filter.getStatus());
-            }
+        ProjectSearchCriteria criteria = toSearchCriteria(filter);
+
+        // Con el índice en memoria la base de datos solo se consulta para hidratar los resultados
+        if (projectSearchIndex.isReady()) {
+            return projectReadModel.getAll(projectSearchIndex.searchAll(criteria));
         }
-        
-        // Obtener entidades JPA con tags cargados
-        List<ProjectEntity> projectEntities = projectJpaRepository.searchPublicProjectsWithTags(
-                filter.getTitle(),
-                status,
-                filter.getIsActive(),
-                filter.getMinTeamSize(),
-                filter.getMaxTeamSize(),
-                filter.getMinDurationWeeks(),
-                filter.getMaxDurationWeeks()
-        );
-        
+
+        // Sin índice se aplican en SQL los mismos filtros, tags ANY/ALL incluidos, que usa la paginación
+        List<ProjectEntity> projectEntities = projectKeysetQueryRepository.findPublicPage(criteria, null, Integer.MAX_VALUE);
+
         // Convertir a DTOs con tags incluidos
         return projectMapper.toResponseDtoListWithTags(projectEntities);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<ProjectResponseDto> getPublicProjectsPage(String cursor, Integer limit) {
+        ProjectPublicSearchRequestDto filter = new ProjectPublicSearchRequestDto();
+        filter.setIsActive(true);
+        filter.setCursor(cursor);
+        filter.setLimit(limit);
+        return searchPublicProjectsPage(filter);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<ProjectResponseDto> searchPublicProjectsPage(ProjectPublicSearchRequestDto filter) {
+        KeysetCursor after = KeysetCursor.decode(filter.getCursor());
+        int pageSize = resolvePageSize(filter.getLimit());
+        ProjectSearchCriteria criteria = toSearchCriteria(filter);
+
+        if (projectSearchIndex.isReady()) {
+            ProjectSearchIndex.SearchPage result = projectSearchIndex.search(criteria, after, pageSize);
+            return new CursorPageResponseDto<>(
+                    projectReadModel.getAll(result.projectIds()),
+                    result.hasMore() ? result.nextCursor().encode() : null,
+                    result.hasMore());
+        }
+
+        // Se pide una fila de más para saber si hay página siguiente sin hacer un COUNT
+        List<ProjectEntity> rows = projectKeysetQueryRepository.findPublicPage(criteria, after, pageSize + 1);
+        return toCursorPage(rows, pageSize, ProjectFields.ALL);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectFacetedSearchResponseDto searchPublicProjectsWithFacets(ProjectPublicSearchRequestDto filter) {
+        CursorPageResponseDto<ProjectResponseDto> page = searchPublicProjectsPage(filter);
+        return new ProjectFacetedSearchResponseDto(
+                page.getItems(),
+                page.getNextCursor(),
+                page.isHasMore(),
+                projectSearchFacets.get(toSearchCriteria(filter)).orElse(null));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<ProjectSummaryDto> getPublicProjectSummariesPage(String cursor, Integer limit) {
+        ProjectPublicSearchRequestDto filter = new ProjectPublicSearchRequestDto();
+        filter.setIsActive(true);
+        filter.setCursor(cursor);
+        filter.setLimit(limit);
+        return searchPublicProjectSummariesPage(filter);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<ProjectSummaryDto> searchPublicProjectSummariesPage(ProjectPublicSearchRequestDto filter) {
+        KeysetCursor after = KeysetCursor.decode(filter.getCursor());
+        int pageSize = resolvePageSize(filter.getLimit());
+        ProjectSearchCriteria criteria = toSearchCriteria(filter);
+
+        if (projectSearchIndex.isReady()) {
+            ProjectSearchIndex.SearchPage result = projectSearchIndex.search(criteria, after, pageSize);
+            return new CursorPageResponseDto<>(
+                    projectSummaryRepositoryPort.findAllByIds(result.projectIds()),
+                    result.hasMore() ? result.nextCursor().encode() : null,
+                    result.hasMore());
+        }
+
+        // Sin índice, la página se resuelve en SQL leyendo solo (created_at, id)
+        List<KeysetCursor> positions = projectKeysetQueryRepository.findPublicPagePositions(criteria, after, pageSize + 1);
+        boolean hasMore = positions.size() > pageSize;
+        List<KeysetCursor> page = hasMore ? positions.subList(0, pageSize) : positions;
+        return new CursorPageResponseDto<>(
+                projectSummaryRepositoryPort.findAllByIds(page.stream().map(KeysetCursor::id).toList()),
+                hasMore ? page.get(page.size() - 1).encode() : null,
+                hasMore);
+    }
+
     @Override
     @Transactional
     public ProjectResponseDto addTagsToProject(Long projectId, ProjectTagsRequestDto request, Long userId) {
         // Verificar que el proyecto existe y el usuario puede editarlo
-        Project project = projectRepositoryPort.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-        
-        if (!project.canBeEditedBy(userId)) {
+        if (!requireProjectAccess(projectId).canBeEditedBy(userId)) {
             throw new ProjectOperationNotAllowedException(projectId, userId, "agregar tags");
         }
 
@@ -489,25 +579,17 @@ public class ProjectManagementUseCaseImpl implements ProjectManagementUseCase {
 
         // Agregar tags al proyecto
         projectRepositoryPort.addTagsToProject(projectId, tagIds);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
         // Retornar proyecto actualizado
-        ProjectEntity updatedProject = projectJpaRepository.findPublicActiveProjectsWithTags()
-                .stream()
-                .filter(p -> p.getId().equals(projectId))
-                .findFirst()
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-
-        return projectMapper.toResponseDto(updatedProject);
+        return projectedResponse(projectId);
     }
 
     @Override
     @Transactional
     public ProjectResponseDto removeTagFromProject(Long projectId, String tagName, Long userId) {
         // Verificar que el proyecto existe y el usuario puede editarlo
-        Project project = projectRepositoryPort.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-        
-        if (!project.canBeEditedBy(userId)) {
+        if (!requireProjectAccess(projectId).canBeEditedBy(userId)) {
             throw new ProjectOperationNotAllowedException(projectId, userId, "remover tags");
         }
 
@@ -517,45 +599,36 @@ public class ProjectManagementUseCaseImpl implements ProjectManagementUseCase {
 
         // Remover el tag del proyecto
         projectRepositoryPort.removeTagFromProject(projectId, tag.id());
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
         // Retornar proyecto actualizado
-        ProjectEntity updatedProject = projectJpaRepository.findPublicActiveProjectsWithTags()
-                .stream()
-                .filter(p -> p.getId().equals(projectId))
-                .findFirst()
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-
-        return projectMapper.toResponseDto(updatedProject);
+        return projectedResponse(projectId);
     }
 
     @Override
     @Transactional
     public void removeProjectMember(Long projectId, Long memberId, Long userId) {
         // Verificar que el proyecto existe y el usuario puede editarlo
-        Project project = projectRepositoryPort.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-        
-        if (!project.canBeEditedBy(userId)) {
+        if (!requireProjectAccess(projectId).canBeEditedBy(userId)) {
             throw new ProjectOperationNotAllowedException(projectId, userId, "remover miembros");
         }
 
         // Remover el miembro del proyecto
         projectMemberRepositoryPort.removeMemberFromProject(projectId, memberId);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
     }
 
     @Override
     @Transactional
     public ProjectResponseDto.ProjectMemberDto changeMemberRole(Long projectId, Long memberId, String newRole, Long userId) {
         // Verificar que el proyecto existe y el usuario puede editarlo
-        Project project = projectRepositoryPort.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-        
-        if (!project.canBeEditedBy(userId)) {
+        if (!requireProjectAccess(projectId).canBeEditedBy(userId)) {
             throw new ProjectOperationNotAllowedException(projectId, userId, "cambiar roles");
         }
 
         // Cambiar el rol del miembro
         projectMemberRepositoryPort.updateMemberRole(projectId, memberId, newRole);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
         // Obtener el miembro actualizado
         List<ProjectMember> members = projectMemberRepositoryPort.getActiveMembersByProjectId(projectId);
@@ -588,4 +661,130 @@ public class ProjectManagementUseCaseImpl implements ProjectManagementUseCase {
             );
         }
     }
+
+    /**
+     * Escribe una línea NDJSON. La respuesta del modelo de lectura se copia tal
+     * cual, sin deserializarla; solo los proyectos aún sin proyectar se montan aquí.
+     */
+    private void writeExportLine(ExportRow row, OutputStream output) {
+        try {
+            if (row.payload() != null) {
+                output.write(row.payload().getBytes(StandardCharsets.UTF_8));
+            } else {
+                Optional<ProjectResponseDto> project = projectReadModel.get(row.projectId());
+                if (project.isEmpty()) {
+                    return;
+                }
+                output.write(objectMapper.writeValueAsBytes(project.get()));
+            }
+            output.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Obtiene los datos de acceso de un proyecto no eliminado desde el índice en memoria
+     */
+    private ProjectAccess requireProjectAccess(Long projectId) {
+        return projectAccessIndex.findProject(projectId)
+                .filter(access -> !access.isDeleted())
+                .orElseThrow(() -> new ProjectNotFoundException(projectId));
+    }
+
+    /**
+     * Respuesta de una escritura: la proyección que el modelo de lectura acaba
+     * de guardar, sin volver a cargar ni mapear la entidad
+     */
+    private ProjectResponseDto projectedResponse(Long projectId) {
+        return projectReadModel.refresh(projectId)
+                .orElseThrow(() -> new ProjectNotFoundException(projectId));
+    }
+
+    private ProjectSearchCriteria toSearchCriteria(ProjectPublicSearchRequestDto filter) {
+        return toSearchCriteria(filter, parseStatus(filter.getStatus()));
+    }
+
+    /**
+     * En el listado por propietario un estado no reconocido no filtra, como
+     * ha hecho siempre este endpoint
+     */
+    private ProjectSearchCriteria toOwnerSearchCriteria(ProjectPublicSearchRequestDto filter) {
+        if (filter == null) {
+            return toSearchCriteria(new ProjectPublicSearchRequestDto(), null);
+        }
+        ProjectStatus status;
+        try {
+            status = parseStatus(filter.getStatus());
+        } catch (IllegalArgumentException e) {
+            status = null;
+        }
+        return toSearchCriteria(filter, status);
+    }
+
+    private ProjectSearchCriteria toSearchCriteria(ProjectPublicSearchRequestDto filter, ProjectStatus status) {
+        return new ProjectSearchCriteria(
+                filter.getTitle(),
+                status,
+                filter.getIsActive(),
+                filter.getMinTeamSize(),
+                filter.getMaxTeamSize(),
+                filter.getMinDurationWeeks(),
+                filter.getMaxDurationWeeks(),
+                filter.getTagIds(),
+                "ALL".equalsIgnoreCase(filter.getTagMatch())
+        );
+    }
+
+    /**
+     * Resuelve la búsqueda de texto con el índice en memoria si está listo.
+     * Si no lo está, el título se filtra en SQL por su clave normalizada.
+     * Una consulta sin términos indexables no filtra.
+     */
+    private TextFilter resolveTextFilter(ProjectSearchCriteria criteria) {
+        if (!criteria.hasTitle() || !projectTextIndex.isReady()) {
+            return new TextFilter(criteria, null);
+        }
+        return new TextFilter(criteria.withoutTitle(), projectTextIndex.search(criteria.title())
+                .map(Map::keySet)
+                .orElse(null));
+    }
+
+    /**
+     * Criterios para SQL más, si la hay, la restricción de IDs del índice de texto
+     */
+    private record TextFilter(ProjectSearchCriteria criteria, Set<Long> matchingIds) {
+    }
+
+    private CursorPageResponseDto<ProjectResponseDto> toCursorPage(List<ProjectEntity> rows, int pageSize,
+                                                                   ProjectFields fields) {
+        boolean hasMore = rows.size() > pageSize;
+        List<ProjectEntity> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            ProjectEntity last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorPageResponseDto<>(projectMapper.toResponseDtoListWithTags(page, fields), nextCursor, hasMore);
+    }
+
+    private ProjectStatus parseStatus(String status) {
+        if (status == null || status.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return ProjectStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Estado de proyecto inválido: " + status);
+        }
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(limit, maxPageSize);
+    }
 }
@@ -0,0 +1,285 @@
+package com.devmatch.api.project.application.service;
+
+import com.devmatch.api.project.application.dto.ProjectResponseDto;
+import com.devmatch.api.project.application.event.ProjectChangedEvent;
+import com.devmatch.api.project.application.mapper.ProjectMapper;
+import com.devmatch.api.project.application.port.out.ProjectReadModelRepositoryPort;
+import com.devmatch.api.project.infrastructure.out.persistence.entity.ProjectEntity;
+import com.devmatch.api.project.infrastructure.out.persistence.repository.ProjectJpaRepository;
+import com.devmatch.api.shared.application.util.SingleFlight;
+import com.devmatch.api.user.application.event.UserProfileChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Modelo de lectura de proyectos (CQRS).
+ *
+ * Guarda la respuesta ya montada de cada proyecto (owner, tags y miembros)
+ * en {@code project_read_model}, de modo que leer un proyecto es una única
+ * lectura por clave primaria. Cada {@link ProjectChangedEvent} reescribe la
+ * fila dentro de la misma transacción que el cambio, justo antes del commit.
+ * Las escrituras devuelven esa misma proyección con {@link #refresh}; si el
+ * proyecto no vuelve a cambiar en la transacción, no se proyecta otra vez
+ * antes del commit.
+ * Un {@link UserProfileChangedEvent} reescribe igual las filas de los
+ * proyectos que el usuario posee o en los que es miembro.
+ *
+ * Esa proyección se monta con la instantánea de la propia transacción, que
+ * no ve otra escritura concurrente sobre el mismo proyecto: la que confirme
+ * última dejaría una fila sin el cambio de la otra. Por eso, tras el commit,
+ * el proyecto se vuelve a proyectar en una transacción nueva que primero
+ * bloquea su fila en {@code projects}; la instantánea se toma después del
+ * bloqueo y ya incluye todas las escrituras confirmadas, y las proyecciones
+ * de un mismo proyecto quedan en orden. Si la respuesta no cambia, la
+ * versión de la fila tampoco.
+ * Los cambios de un tag llegan como un {@link ProjectChangedEvent} por cada
+ * proyecto que lo usa ({@link ProjectTagChangeListener}), y los de un
+ * profile type como un {@link UserProfileChangedEvent} por cada usuario.
+ * Los proyectos que aún no tienen fila se proyectan al leerlos por primera
+ * vez; si varias peticiones los leen a la vez, solo una los proyecta.
+ */
+@Component
+@Slf4j
+public class ProjectReadModel {
+
+    private final ProjectReadModelRepositoryPort projectReadModelRepositoryPort;
+    private final ProjectJpaRepository projectJpaRepository;
+    private final ProjectMapper projectMapper;
+    private final ProjectAccessIndex projectAccessIndex;
+    private final TransactionTemplate projectionTransaction;
+    private final SingleFlight<Long, Optional<ProjectResponseDto>> backfills;
+
+    public ProjectReadModel(ProjectReadModelRepositoryPort projectReadModelRepositoryPort,
+                            ProjectJpaRepository projectJpaRepository,
+                            ProjectMapper projectMapper,
+                            ProjectAccessIndex projectAccessIndex,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${single-flight.wait-timeout-ms:3000}") long waitTimeoutMillis,
+                            MeterRegistry meterRegistry) {
+        this.projectReadModelRepositoryPort = projectReadModelRepositoryPort;
+        this.projectJpaRepository = projectJpaRepository;
+        this.projectMapper = projectMapper;
+        this.projectAccessIndex = projectAccessIndex;
+        // El relleno perezoso y la proyección tras el commit escriben en su propia transacción
+        this.projectionTransaction = new TransactionTemplate(transactionManager);
+        this.projectionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.backfills = new SingleFlight<>("project.read-model", Duration.ofMillis(waitTimeoutMillis), meterRegistry);
+    }
+
+    /**
+     * Obtiene la respuesta de un proyecto
+     * @param projectId ID del proyecto
+     * @return Respuesta o vacío si el proyecto no existe
+     */
+    public Optional<ProjectResponseDto> get(Long projectId) {
+        Optional<ProjectResponseDto> stored = projectReadModelRepositoryPort.findById(projectId);
+        if (stored.isPresent()) {
+            return stored;
+        }
+        return backfill(projectId);
+    }
+
+    /**
+     * Obtiene las respuestas de varios proyectos conservando el orden de los IDs
+     * @param projectIds IDs de los proyectos
+     * @return Respuestas de los proyectos que existen
+     */
+    public List<ProjectResponseDto> getAll(List<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProjectResponseDto> byId = projectReadModelRepositoryPort.findAllByIds(projectIds).stream()
+                .collect(Collectors.toMap(ProjectResponseDto::getId, Function.identity(), (a, b) -> a));
+
+        List<ProjectResponseDto> projects = new ArrayList<>(projectIds.size());
+        for (Long projectId : projectIds) {
+            ProjectResponseDto project = byId.get(projectId);
+            if (project == null) {
+                project = backfill(projectId).orElse(null);
+            }
+            if (project != null) {
+                projects.add(project);
+            }
+        }
+        return projects;
+    }
+
+    /**
+     * Un cambio deja obsoleta la proyección hecha antes en la misma transacción
+     */
+    @EventListener
+    public void onProjectChangePublished(ProjectChangedEvent event) {
+        Set<Long> projected = projectedInTransaction();
+        if (!event.remote() && projected != null) {
+            projected.remove(event.projectId());
+        }
+    }
+
+    /**
+     * Reescribe la respuesta del proyecto en la misma transacción que el cambio
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        // Los cambios de otros nodos ya los proyectó el nodo que los hizo
+        if (event.remote()) {
+            return;
+        }
+        Set<Long> projected = projectedInTransaction();
+        if (projected == null || !projected.contains(event.projectId())) {
+            refresh(event.projectId());
+        }
+    }
+
+    /**
+     * Reescribe las respuestas que muestran al usuario como propietario o miembro
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        for (long projectId : projectAccessIndex.getOwnedProjectIds(event.userId())) {
+            refresh(projectId);
+        }
+        for (long projectId : projectAccessIndex.getMemberProjectIds(event.userId())) {
+            refresh(projectId);
+        }
+    }
+
+    /**
+     * Vuelve a proyectar el proyecto con una lectura nueva una vez confirmado
+     * el cambio. Se ejecuta antes que el resto de oyentes tras el commit, que
+     * invalidan cachés y leen la versión de la fila.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectCommitted(ProjectChangedEvent event) {
+        if (!event.remote()) {
+            reproject(event.projectId());
+        }
+    }
+
+    /**
+     * Vuelve a proyectar, tras el commit, los proyectos que muestran al usuario
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileCommitted(UserProfileChangedEvent event) {
+        for (long projectId : projectAccessIndex.getOwnedProjectIds(event.userId())) {
+            reproject(projectId);
+        }
+        for (long projectId : projectAccessIndex.getMemberProjectIds(event.userId())) {
+            reproject(projectId);
+        }
+    }
+
+    /**
+     * Vuelve a proyectar un proyecto desde las tablas de escritura
+     * @param projectId ID del proyecto
+     * @return Respuesta proyectada o vacío si el proyecto ya no existe
+     */
+    public Optional<ProjectResponseDto> refresh(Long projectId) {
+        // Los cambios pendientes de JPA deben llegar a la base de datos antes de leer por JDBC
+        projectJpaRepository.flush();
+        Optional<ProjectResponseDto> project = project(projectId);
+        if (project.isPresent()) {
+            projectReadModelRepositoryPort.save(project.get());
+        } else {
+            projectReadModelRepositoryPort.delete(projectId);
+        }
+        Set<Long> projected = projectedInTransaction();
+        if (projected != null) {
+            projected.add(projectId);
+        }
+        return project;
+    }
+
+    /**
+     * Proyectos ya proyectados en la transacción en curso y sin cambios posteriores
+     * @return Conjunto ligado a la transacción o null si no hay ninguna activa
+     */
+    @SuppressWarnings("unchecked")
+    private Set<Long> projectedInTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Set<Long> projected = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (projected == null) {
+            projected = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, projected);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProjectReadModel.this);
+                }
+            });
+        }
+        return projected;
+    }
+
+    private void reproject(Long projectId) {
+        try {
+            projectionTransaction.executeWithoutResult(status -> {
+                // El bloqueo va antes de cualquier lectura: la instantánea de la transacción se toma después
+                projectReadModelRepositoryPort.lockProject(projectId);
+                Optional<ProjectResponseDto> project = project(projectId);
+                if (project.isPresent()) {
+                    projectReadModelRepositoryPort.save(project.get());
+                } else {
+                    projectReadModelRepositoryPort.delete(projectId);
+                }
+            });
+        } catch (Exception e) {
+            // La fila conserva la proyección hecha dentro de la transacción del cambio
+            log.warn("No se pudo volver a proyectar el proyecto {} tras el commit: {}", projectId, e.getMessage());
+        }
+    }
+
+    /**
+     * Las lecturas concurrentes de un proyecto sin fila comparten una sola proyección
+     */
+    private Optional<ProjectResponseDto> backfill(Long projectId) {
+        return backfills.execute(projectId, () -> projectAndSave(projectId));
+    }
+
+    private Optional<ProjectResponseDto> projectAndSave(Long projectId) {
+        try {
+            return Objects.requireNonNull(projectionTransaction.execute(status -> {
+                Optional<ProjectResponseDto> project = project(projectId);
+                project.ifPresent(projectReadModelRepositoryPort::saveIfAbsent);
+                return project;
+            }));
+        } catch (Exception e) {
+            log.warn("No se pudo proyectar el proyecto {} en el modelo de lectura: {}", projectId, e.getMessage());
+            return project(projectId);
+        }
+    }
+
+    private Optional<ProjectResponseDto> project(Long projectId) {
+        Optional<ProjectEntity> projectEntity = projectJpaRepository.findByIdWithTags(projectId);
+        if (projectEntity.isEmpty()) {
+            projectEntity = projectJpaRepository.findById(projectId);
+        }
+        return projectEntity.map(projectMapper::toResponseDto);
+    }
+}
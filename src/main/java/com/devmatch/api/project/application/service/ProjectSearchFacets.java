@@ -0,0 +1,118 @@
+package com.devmatch.api.project.application.service;
+
+import com.devmatch.api.project.application.dto.ProjectSearchCriteria;
+import com.devmatch.api.project.application.dto.ProjectSearchFacetsDto;
+import com.devmatch.api.project.application.port.out.ProjectSearchRepositoryPort;
+import com.devmatch.api.project.application.service.ProjectSearchIndex.FacetCounts;
+import com.devmatch.api.project.application.service.ProjectSearchIndex.RangeCount;
+import com.devmatch.api.project.application.service.ProjectSearchIndex.TagCount;
+import com.devmatch.api.shared.application.text.SearchKeys;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Recuentos por faceta de la búsqueda pública de proyectos.
+ *
+ * Se calculan con {@link ProjectSearchIndex} sobre el mismo conjunto de
+ * candidatos que la búsqueda, sin consultas GROUP BY. El resultado se
+ * cachea unos segundos por filtro normalizado (título normalizado, tags
+ * ordenados, sin cursor ni tamaño de página), de modo que recorrer las
+ * páginas de una misma búsqueda no vuelve a contar. Los nombres de tag son
+ * la única lectura de base de datos y solo se hace al calcular.
+ */
+@Component
+public class ProjectSearchFacets {
+
+    private static final String CACHE_NAME = "project.search-facets";
+
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectSearchRepositoryPort projectSearchRepositoryPort;
+    private final int maxTags;
+    private final Cache<ProjectSearchCriteria, ProjectSearchFacetsDto> cache;
+
+    public ProjectSearchFacets(
+            ProjectSearchIndex projectSearchIndex,
+            ProjectSearchRepositoryPort projectSearchRepositoryPort,
+            @Value("${project.search-facets.max-tags:20}") int maxTags,
+            @Value("${project.search-facets.maximum-size:1000}") long maximumSize,
+            @Value("${project.search-facets.ttl-ms:30000}") long ttlMillis,
+            MeterRegistry meterRegistry) {
+        this.projectSearchIndex = projectSearchIndex;
+        this.projectSearchRepositoryPort = projectSearchRepositoryPort;
+        this.maxTags = maxTags;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Obtiene los recuentos por faceta de una búsqueda
+     * @param criteria Criterios de búsqueda
+     * @return Recuentos o vacío si el índice de búsqueda aún no está listo
+     */
+    public Optional<ProjectSearchFacetsDto> get(ProjectSearchCriteria criteria) {
+        if (!projectSearchIndex.isReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(cache.get(normalize(criteria), this::compute));
+    }
+
+    private ProjectSearchFacetsDto compute(ProjectSearchCriteria criteria) {
+        FacetCounts counts = projectSearchIndex.facets(criteria, maxTags);
+        Map<Long, String> tagNames = projectSearchRepositoryPort.findTagNames(
+                counts.tags().stream().map(TagCount::tagId).toList());
+
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        counts.byStatus().forEach((status, count) -> byStatus.put(status.name(), count));
+
+        return new ProjectSearchFacetsDto(
+                counts.total(),
+                byStatus,
+                counts.tags().stream()
+                        .map(tag -> new ProjectSearchFacetsDto.TagFacetDto(
+                                tag.tagId(), tagNames.get(tag.tagId()), tag.count()))
+                        .toList(),
+                toRangeFacets(counts.teamSize()),
+                toRangeFacets(counts.durationWeeks()));
+    }
+
+    private static List<ProjectSearchFacetsDto.RangeFacetDto> toRangeFacets(List<RangeCount> ranges) {
+        return ranges.stream()
+                .map(range -> new ProjectSearchFacetsDto.RangeFacetDto(
+                        range.key(), range.min(), range.max(), range.count()))
+                .toList();
+    }
+
+    /**
+     * Dos filtros equivalentes comparten entrada de caché
+     */
+    private static ProjectSearchCriteria normalize(ProjectSearchCriteria criteria) {
+        List<Long> tagIds = criteria.hasTags()
+                ? criteria.tagIds().stream().filter(Objects::nonNull).distinct().sorted().toList()
+                : List.of();
+        return new ProjectSearchCriteria(
+                SearchKeys.normalize(criteria.title()),
+                criteria.status(),
+                criteria.isActive(),
+                criteria.minTeamSize(),
+                criteria.maxTeamSize(),
+                criteria.minDurationWeeks(),
+                criteria.maxDurationWeeks(),
+                tagIds,
+                !tagIds.isEmpty() && criteria.matchAllTags());
+    }
+}
@@ -0,0 +1,563 @@
+package com.devmatch.api.project.application.service;
+
+import com.devmatch.api.project.application.dto.ProjectSearchCriteria;
+import com.devmatch.api.project.application.event.ProjectChangedEvent;
+import com.devmatch.api.project.application.port.out.ProjectSearchRepositoryPort;
+import com.devmatch.api.project.application.port.out.ProjectSearchRepositoryPort.ProjectSearchData;
+import com.devmatch.api.project.application.port.out.ProjectSearchRepositoryPort.ProjectTagData;
+import com.devmatch.api.project.domain.model.valueobject.ProjectStatus;
+import com.devmatch.api.shared.application.text.SearchKeys;
+import com.devmatch.api.shared.application.util.KeysetCursor;
+import com.devmatch.api.shared.application.util.RebuildTracker;
+import com.devmatch.api.shared.application.util.SortedLongArrays;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de búsqueda en memoria de los proyectos públicos no eliminados.
+ *
+ * Mantiene un bitmap comprimido (Roaring) por tag, por estado y para el flag
+ * de activo, y mapas ordenados valor → bitmap para tamaño de equipo y
+ * duración. Una búsqueda se resuelve con operaciones AND/OR sobre bitmaps y
+ * devuelve solo los IDs de la página pedida, ordenados por
+ * {@code (created_at DESC, id DESC)}; la base de datos solo se consulta
+ * después para hidratar esa página.
+ * Con los mismos bitmaps calcula los recuentos por faceta de una búsqueda.
+ *
+ * El filtro por título se delega en {@link ProjectTextIndex} (título y
+ * descripción, BM25) cuando está disponible.
+ *
+ * Se actualiza con los {@link ProjectChangedEvent} y se reconstruye por
+ * completo periódicamente. Mientras no esté listo, las búsquedas deben
+ * resolverse contra la base de datos.
+ */
+@Component
+@Slf4j
+public class ProjectSearchIndex {
+
+    private static final Comparator<Document> NEWEST_FIRST = Comparator
+            .comparing(Document::createdAt)
+            .thenComparingInt(Document::id)
+            .reversed();
+
+    private static final Comparator<TagCount> MOST_FREQUENT_FIRST = Comparator
+            .comparingLong(TagCount::count).reversed()
+            .thenComparingLong(TagCount::tagId);
+
+    private static final List<Bucket> TEAM_SIZE_BUCKETS = List.of(
+            new Bucket("<=2", null, 2),
+            new Bucket("3-5", 3, 5),
+            new Bucket("6-10", 6, 10),
+            new Bucket(">=11", 11, null));
+
+    private static final List<Bucket> DURATION_BUCKETS = List.of(
+            new Bucket("<=4", null, 4),
+            new Bucket("5-12", 5, 12),
+            new Bucket("13-26", 13, 26),
+            new Bucket(">=27", 27, null));
+
+    private final ProjectSearchRepositoryPort projectSearchRepositoryPort;
+    private final ProjectTextIndex projectTextIndex;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RebuildTracker<Long> rebuildTracker = new RebuildTracker<>();
+
+    private State state = new State();
+    private volatile boolean ready;
+
+    public ProjectSearchIndex(ProjectSearchRepositoryPort projectSearchRepositoryPort,
+                              ProjectTextIndex projectTextIndex) {
+        this.projectSearchRepositoryPort = projectSearchRepositoryPort;
+        this.projectTextIndex = projectTextIndex;
+    }
+
+    /**
+     * @return true si el índice está cargado y puede responder búsquedas
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Busca proyectos públicos que cumplan los criterios
+     * @param criteria Criterios de búsqueda
+     * @param after Posición tras la que continuar (null para la primera página)
+     * @param limit Número máximo de resultados
+     * @return IDs de la página en orden y cursor de la siguiente, si la hay
+     */
+    public SearchPage search(ProjectSearchCriteria criteria, KeysetCursor after, int limit) {
+        TextMatch textMatch = matchText(criteria);
+        List<Document> ordered = select(criteria, textMatch, after, limit + 1, NEWEST_FIRST);
+
+        boolean hasMore = ordered.size() > limit;
+        if (hasMore) {
+            ordered = ordered.subList(0, limit);
+        }
+
+        KeysetCursor nextCursor = null;
+        if (hasMore && !ordered.isEmpty()) {
+            Document last = ordered.get(ordered.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id());
+        }
+        return new SearchPage(toProjectIds(ordered), nextCursor);
+    }
+
+    /**
+     * Busca todos los proyectos públicos que cumplan los criterios. Si hay
+     * texto de búsqueda se ordenan por relevancia; si no, del más reciente al
+     * más antiguo.
+     * @param criteria Criterios de búsqueda
+     * @return IDs de los proyectos en orden
+     */
+    public List<Long> searchAll(ProjectSearchCriteria criteria) {
+        TextMatch textMatch = matchText(criteria);
+        Comparator<Document> order = NEWEST_FIRST;
+        if (textMatch.scores() != null) {
+            Map<Long, Double> scores = textMatch.scores();
+            order = Comparator.<Document>comparingDouble(document -> scores.getOrDefault((long) document.id(), 0d))
+                    .reversed()
+                    .thenComparing(NEWEST_FIRST);
+        }
+        return toProjectIds(select(criteria, textMatch, null, Integer.MAX_VALUE, order));
+    }
+
+    private TextMatch matchText(ProjectSearchCriteria criteria) {
+        if (!criteria.hasTitle()) {
+            return new TextMatch(null, null);
+        }
+        if (!projectTextIndex.isReady()) {
+            return new TextMatch(null, SearchKeys.normalize(criteria.title()));
+        }
+        // Una consulta sin términos indexables (solo palabras vacías) no filtra
+        return new TextMatch(projectTextIndex.search(criteria.title()).orElse(null), null);
+    }
+
+    private List<Document> select(ProjectSearchCriteria criteria, TextMatch textMatch, KeysetCursor after,
+                                  int keep, Comparator<Document> order) {
+        PriorityQueue<Document> worstFirst = new PriorityQueue<>(order.reversed());
+
+        lock.readLock().lock();
+        try {
+            candidates(criteria, textMatch).forEach((int docId) -> {
+                Document document = state.documents.get(docId);
+                if (document == null || (after != null && !isAfter(document, after))) {
+                    return;
+                }
+                if (worstFirst.size() < keep) {
+                    worstFirst.add(document);
+                } else if (order.compare(document, worstFirst.peek()) < 0) {
+                    worstFirst.poll();
+                    worstFirst.add(document);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Document> ordered = new ArrayList<>(worstFirst);
+        ordered.sort(order);
+        return ordered;
+    }
+
+    /**
+     * Cuenta, sobre el mismo conjunto de candidatos que la búsqueda, los
+     * proyectos por estado, por tag y por tramo de tamaño de equipo y de
+     * duración. Los recuentos se obtienen intersecando bitmaps sin
+     * materializar la intersección; si hay menos candidatos que tags, los de
+     * tag se cuentan recorriendo los candidatos una sola vez.
+     * @param criteria Criterios de búsqueda
+     * @param maxTags Número máximo de tags a devolver (los más frecuentes)
+     * @return Recuentos por faceta
+     */
+    public FacetCounts facets(ProjectSearchCriteria criteria, int maxTags) {
+        TextMatch textMatch = matchText(criteria);
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap candidates = candidates(criteria, textMatch);
+
+            Map<ProjectStatus, Long> byStatus = new EnumMap<>(ProjectStatus.class);
+            state.byStatus.forEach((status, bitmap) -> {
+                long count = RoaringBitmap.andCardinality(candidates, bitmap);
+                if (count > 0) {
+                    byStatus.put(status, count);
+                }
+            });
+
+            return new FacetCounts(
+                    candidates.getLongCardinality(),
+                    byStatus,
+                    countTags(candidates, maxTags),
+                    countRanges(candidates, state.byTeamSize, TEAM_SIZE_BUCKETS),
+                    countRanges(candidates, state.byDuration, DURATION_BUCKETS));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Proyectos que cumplen los criterios y el filtro de texto. Requiere el lock de lectura.
+     */
+    private RoaringBitmap candidates(ProjectSearchCriteria criteria, TextMatch textMatch) {
+        RoaringBitmap matches = state.match(criteria);
+        if (textMatch.scores() != null) {
+            RoaringBitmap textMatches = new RoaringBitmap();
+            textMatch.scores().keySet().forEach(projectId -> {
+                if (projectId <= Integer.MAX_VALUE) {
+                    textMatches.add(projectId.intValue());
+                }
+            });
+            matches.and(textMatches);
+        }
+        if (textMatch.titleKey() != null) {
+            RoaringBitmap titleMatches = new RoaringBitmap();
+            matches.forEach((int docId) -> {
+                Document document = state.documents.get(docId);
+                if (document != null && document.titleKey().contains(textMatch.titleKey())) {
+                    titleMatches.add(docId);
+                }
+            });
+            return titleMatches;
+        }
+        return matches;
+    }
+
+    private List<TagCount> countTags(RoaringBitmap candidates, int maxTags) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (candidates.getLongCardinality() < state.byTag.size()) {
+            candidates.forEach((int docId) -> {
+                Document document = state.documents.get(docId);
+                if (document != null) {
+                    for (long tagId : document.tagIds()) {
+                        counts.merge(tagId, 1L, Long::sum);
+                    }
+                }
+            });
+        } else {
+            state.byTag.forEach((tagId, bitmap) -> {
+                long count = RoaringBitmap.andCardinality(candidates, bitmap);
+                if (count > 0) {
+                    counts.put(tagId, count);
+                }
+            });
+        }
+
+        PriorityQueue<TagCount> leastFirst = new PriorityQueue<>(MOST_FREQUENT_FIRST.reversed());
+        counts.forEach((tagId, count) -> {
+            TagCount tagCount = new TagCount(tagId, count);
+            if (leastFirst.size() < maxTags) {
+                leastFirst.add(tagCount);
+            } else if (MOST_FREQUENT_FIRST.compare(tagCount, leastFirst.peek()) < 0) {
+                leastFirst.poll();
+                leastFirst.add(tagCount);
+            }
+        });
+        List<TagCount> tags = new ArrayList<>(leastFirst);
+        tags.sort(MOST_FREQUENT_FIRST);
+        return tags;
+    }
+
+    /**
+     * Cada proyecto tiene un único valor, así que el recuento de un tramo es
+     * la suma de las intersecciones de los valores que lo forman
+     */
+    private static List<RangeCount> countRanges(RoaringBitmap candidates,
+                                                NavigableMap<Integer, RoaringBitmap> values,
+                                                List<Bucket> buckets) {
+        List<RangeCount> counts = new ArrayList<>(buckets.size());
+        for (Bucket bucket : buckets) {
+            long count = 0;
+            for (RoaringBitmap bitmap : State.select(values, bucket.min(), bucket.max()).values()) {
+                count += RoaringBitmap.andCardinality(candidates, bitmap);
+            }
+            counts.add(new RangeCount(bucket.key(), bucket.min(), bucket.max(), count));
+        }
+        return counts;
+    }
+
+    private static List<Long> toProjectIds(List<Document> documents) {
+        return documents.stream().map(document -> (long) document.id()).toList();
+    }
+
+    /**
+     * Reindexa un proyecto tras confirmarse la transacción que lo modificó
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Long projectId = event.projectId();
+        try {
+            Document document = projectSearchRepositoryPort.findSearchData(projectId)
+                    .filter(data -> data.isPublic() && !data.isDeleted())
+                    .map(data -> toDocument(data, projectSearchRepositoryPort.findTagIds(projectId)))
+                    .orElse(null);
+
+            lock.writeLock().lock();
+            try {
+                state.remove(Math.toIntExact(projectId));
+                if (document != null) {
+                    state.add(document);
+                }
+                rebuildTracker.changed(projectId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            // Hasta la próxima reconstrucción las búsquedas irán a base de datos
+            ready = false;
+            log.warn("No se pudo reindexar el proyecto {}: {}", projectId, e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * Reconstruye el índice completo desde base de datos
+     */
+    @Scheduled(fixedDelayString = "${project.search-index.rebuild-ms:600000}",
+            initialDelayString = "${project.search-index.rebuild-ms:600000}")
+    public void rebuild() {
+        rebuildTracker.begin();
+        List<Long> toReplay = List.of();
+        try {
+            Map<Long, List<Long>> tagsByProject = new HashMap<>();
+            for (ProjectTagData projectTag : projectSearchRepositoryPort.findAllSearchableProjectTags()) {
+                tagsByProject.computeIfAbsent(projectTag.projectId(), key -> new ArrayList<>()).add(projectTag.tagId());
+            }
+
+            State rebuilt = new State();
+            for (ProjectSearchData data : projectSearchRepositoryPort.findAllSearchable()) {
+                rebuilt.add(toDocument(data, tagsByProject.getOrDefault(data.projectId(), List.of())));
+            }
+            rebuilt.optimize();
+
+            lock.writeLock().lock();
+            try {
+                state = rebuilt;
+                ready = true;
+                toReplay = rebuildTracker.swapped();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("Índice de búsqueda de proyectos reconstruido con {} proyectos", rebuilt.documents.size());
+        } catch (Exception e) {
+            log.warn("No se pudo reconstruir el índice de búsqueda de proyectos: {}", e.getMessage());
+        } finally {
+            rebuildTracker.end();
+        }
+
+        // Los cambios confirmados mientras se leía pueden no estar en la foto recién cargada
+        for (Long projectId : toReplay) {
+            onProjectChanged(new ProjectChangedEvent(projectId));
+        }
+    }
+
+    private static boolean isAfter(Document document, KeysetCursor after) {
+        int byDate = document.createdAt().compareTo(after.createdAt());
+        return byDate < 0 || (byDate == 0 && document.id() < after.id());
+    }
+
+    private static Document toDocument(ProjectSearchData data, List<Long> tagIds) {
+        return new Document(
+                Math.toIntExact(data.projectId()),
+                Objects.requireNonNullElse(SearchKeys.normalize(data.title()), ""),
+                data.status(),
+                data.isActive(),
+                data.maxTeamSize(),
+                data.estimatedDurationWeeks(),
+                data.createdAt(),
+                SortedLongArrays.of(tagIds));
+    }
+
+    /**
+     * Resultado de una búsqueda: IDs de la página y cursor de la siguiente (null si no hay más)
+     */
+    public record SearchPage(List<Long> projectIds, KeysetCursor nextCursor) {
+
+        public boolean hasMore() {
+            return nextCursor != null;
+        }
+    }
+
+    /**
+     * Recuentos por faceta de una búsqueda
+     * @param total Número de proyectos que cumplen los criterios
+     * @param byStatus Proyectos por estado (solo estados con algún proyecto)
+     * @param tags Tags más frecuentes, de más a menos proyectos
+     * @param teamSize Proyectos por tramo de tamaño máximo de equipo
+     * @param durationWeeks Proyectos por tramo de duración estimada
+     */
+    public record FacetCounts(long total, Map<ProjectStatus, Long> byStatus, List<TagCount> tags,
+                              List<RangeCount> teamSize, List<RangeCount> durationWeeks) {
+    }
+
+    public record TagCount(long tagId, long count) {
+    }
+
+    /**
+     * Recuento de un tramo; {@code min} y {@code max} son inclusivos y null si el tramo es abierto
+     */
+    public record RangeCount(String key, Integer min, Integer max, long count) {
+    }
+
+    private record Bucket(String key, Integer min, Integer max) {
+    }
+
+    /**
+     * Filtro de texto: puntuaciones del índice BM25 o, si no está listo, subcadena del título
+     */
+    private record TextMatch(Map<Long, Double> scores, String titleKey) {
+    }
+
+    private record Document(int id, String titleKey, ProjectStatus status, boolean isActive,
+                            Integer maxTeamSize, Integer estimatedDurationWeeks,
+                            LocalDateTime createdAt, long[] tagIds) {
+    }
+
+    /**
+     * Bitmaps del índice. Solo se accede con el lock correspondiente.
+     */
+    private static final class State {
+        private final Map<Integer, Document> documents = new HashMap<>();
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final RoaringBitmap active = new RoaringBitmap();
+        private final Map<ProjectStatus, RoaringBitmap> byStatus = new EnumMap<>(ProjectStatus.class);
+        private final Map<Long, RoaringBitmap> byTag = new HashMap<>();
+        private final NavigableMap<Integer, RoaringBitmap> byTeamSize = new TreeMap<>();
+        private final NavigableMap<Integer, RoaringBitmap> byDuration = new TreeMap<>();
+
+        private void add(Document document) {
+            int id = document.id();
+            documents.put(id, document);
+            all.add(id);
+            if (document.isActive()) {
+                active.add(id);
+            }
+            if (document.status() != null) {
+                byStatus.computeIfAbsent(document.status(), key -> new RoaringBitmap()).add(id);
+            }
+            for (long tagId : document.tagIds()) {
+                byTag.computeIfAbsent(tagId, key -> new RoaringBitmap()).add(id);
+            }
+            if (document.maxTeamSize() != null) {
+                byTeamSize.computeIfAbsent(document.maxTeamSize(), key -> new RoaringBitmap()).add(id);
+            }
+            if (document.estimatedDurationWeeks() != null) {
+                byDuration.computeIfAbsent(document.estimatedDurationWeeks(), key -> new RoaringBitmap()).add(id);
+            }
+        }
+
+        private void remove(int id) {
+            Document document = documents.remove(id);
+            if (document == null) {
+                return;
+            }
+            all.remove(id);
+            active.remove(id);
+            if (document.status() != null) {
+                removeFrom(byStatus, document.status(), id);
+            }
+            for (long tagId : document.tagIds()) {
+                removeFrom(byTag, tagId, id);
+            }
+            if (document.maxTeamSize() != null) {
+                removeFrom(byTeamSize, document.maxTeamSize(), id);
+            }
+            if (document.estimatedDurationWeeks() != null) {
+                removeFrom(byDuration, document.estimatedDurationWeeks(), id);
+            }
+        }
+
+        private RoaringBitmap match(ProjectSearchCriteria criteria) {
+            RoaringBitmap result = all.clone();
+            if (criteria.status() != null) {
+                result.and(byStatus.getOrDefault(criteria.status(), new RoaringBitmap()));
+            }
+            if (criteria.isActive() != null) {
+                if (criteria.isActive()) {
+                    result.and(active);
+                } else {
+                    result.andNot(active);
+                }
+            }
+            if (criteria.minTeamSize() != null || criteria.maxTeamSize() != null) {
+                result.and(range(byTeamSize, criteria.minTeamSize(), criteria.maxTeamSize()));
+            }
+            if (criteria.minDurationWeeks() != null || criteria.maxDurationWeeks() != null) {
+                result.and(range(byDuration, criteria.minDurationWeeks(), criteria.maxDurationWeeks()));
+            }
+            if (criteria.hasTags()) {
+                List<RoaringBitmap> tagBitmaps = new ArrayList<>();
+                for (Long tagId : criteria.tagIds()) {
+                    RoaringBitmap bitmap = byTag.get(tagId);
+                    if (bitmap != null) {
+                        tagBitmaps.add(bitmap);
+                    } else if (criteria.matchAllTags()) {
+                        return new RoaringBitmap();
+                    }
+                }
+                if (criteria.matchAllTags()) {
+                    tagBitmaps.forEach(result::and);
+                } else {
+                    result.and(FastAggregation.or(tagBitmaps.iterator()));
+                }
+            }
+            return result;
+        }
+
+        private void optimize() {
+            all.runOptimize();
+            active.runOptimize();
+            byStatus.values().forEach(RoaringBitmap::runOptimize);
+            byTag.values().forEach(RoaringBitmap::runOptimize);
+            byTeamSize.values().forEach(RoaringBitmap::runOptimize);
+            byDuration.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        private static RoaringBitmap range(NavigableMap<Integer, RoaringBitmap> values, Integer min, Integer max) {
+            return FastAggregation.or(select(values, min, max).values().iterator());
+        }
+
+        private static NavigableMap<Integer, RoaringBitmap> select(NavigableMap<Integer, RoaringBitmap> values,
+                                                                   Integer min, Integer max) {
+            if (min != null && max != null) {
+                return min > max ? new TreeMap<>() : values.subMap(min, true, max, true);
+            } else if (min != null) {
+                return values.tailMap(min, true);
+            } else if (max != null) {
+                return values.headMap(max, true);
+            }
+            return values;
+        }
+
+        private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K key, int id) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                bitmap.remove(id);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(key);
+                }
+            }
+        }
+    }
+}
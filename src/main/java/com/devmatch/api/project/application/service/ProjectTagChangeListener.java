@@ -0,0 +1,45 @@
+package com.devmatch.api.project.application.service;
+
+import com.devmatch.api.project.application.event.ProjectChangedEvent;
+import com.devmatch.api.project.application.port.out.ProjectSearchRepositoryPort;
+import com.devmatch.api.tag.application.event.TagChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Traduce los cambios de un tag en cambios de los proyectos que lo usan.
+ *
+ * Las respuestas de proyecto incluyen el nombre y el tipo de sus tags, así
+ * que renombrar, eliminar o reactivar un tag debe volver a proyectar esas
+ * filas del modelo de lectura e invalidar las cachés y versiones derivadas,
+ * en este nodo y en los demás. Publicar un {@link ProjectChangedEvent} por
+ * proyecto reutiliza todo ese camino.
+ *
+ * Escucha de forma síncrona, dentro de la transacción que modifica el tag,
+ * para que los eventos de proyecto que publica se registren en esa misma
+ * transacción y sus oyentes BEFORE_COMMIT lleguen a ejecutarse.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectTagChangeListener {
+
+    private final ProjectSearchRepositoryPort projectSearchRepositoryPort;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    public void onTagChanged(TagChangedEvent event) {
+        List<Long> projectIds = projectSearchRepositoryPort.findProjectIdsByTagId(event.tagId());
+        if (!projectIds.isEmpty()) {
+            log.debug("Tag {} modificado: se vuelven a proyectar {} proyectos", event.tagId(), projectIds.size());
+        }
+        for (Long projectId : projectIds) {
+            eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.devmatch.api.project.application.service;
+
+import com.devmatch.api.project.application.event.ProjectChangedEvent;
+import com.devmatch.api.project.application.port.out.ProjectTextRepositoryPort;
+import com.devmatch.api.project.application.port.out.ProjectTextRepositoryPort.ProjectTextData;
+import com.devmatch.api.shared.application.text.DeltaPostingList;
+import com.devmatch.api.shared.application.text.SpanishAnalyzer;
+import com.devmatch.api.shared.application.util.RebuildTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido en memoria sobre título y descripción de los proyectos no
+ * eliminados, con análisis en español ({@link SpanishAnalyzer}) y ranking BM25.
+ *
+ * Cada término tiene una {@link DeltaPostingList}. Como las listas solo
+ * admiten añadir al final, reindexar un proyecto le asigna un número de
+ * documento nuevo y marca el anterior como borrado; la reconstrucción
+ * periódica compacta el índice. Los términos del título cuentan doble.
+ *
+ * Las consultas exigen todos los términos y nunca leen la tabla de proyectos.
+ */
+@Component
+@Slf4j
+public class ProjectTextIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;
+
+    private final ProjectTextRepositoryPort projectTextRepositoryPort;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RebuildTracker<Long> rebuildTracker = new RebuildTracker<>();
+
+    private Segment segment = new Segment();
+    private volatile boolean ready;
+
+    public ProjectTextIndex(ProjectTextRepositoryPort projectTextRepositoryPort) {
+        this.projectTextRepositoryPort = projectTextRepositoryPort;
+    }
+
+    /**
+     * @return true si el índice está cargado y puede responder búsquedas
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Busca los proyectos que contienen todos los términos de la consulta
+     * @param query Texto libre
+     * @return Puntuación BM25 por ID de proyecto, de mayor a menor relevancia;
+     *         vacío si la consulta no contiene ningún término indexable
+     */
+    public Optional<Map<Long, Double>> search(String query) {
+        List<String> terms = SpanishAnalyzer.analyze(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            return Optional.of(segment.search(terms));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reindexa un proyecto tras confirmarse la transacción que lo modificó
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Long projectId = event.projectId();
+        try {
+            Optional<ProjectTextData> text = projectTextRepositoryPort.findIndexable(projectId);
+
+            lock.writeLock().lock();
+            try {
+                segment.delete(projectId);
+                text.ifPresent(segment::index);
+                rebuildTracker.changed(projectId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            ready = false;
+            log.warn("No se pudo reindexar el texto del proyecto {}: {}", projectId, e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * Reconstruye y compacta el índice completo desde base de datos
+     */
+    @Scheduled(fixedDelayString = "${project.search-index.rebuild-ms:600000}",
+            initialDelayString = "${project.search-index.rebuild-ms:600000}")
+    public void rebuild() {
+        rebuildTracker.begin();
+        List<Long> toReplay = List.of();
+        try {
+            Segment rebuilt = new Segment();
+            projectTextRepositoryPort.findAllIndexable().forEach(rebuilt::index);
+
+            lock.writeLock().lock();
+            try {
+                segment = rebuilt;
+                ready = true;
+                toReplay = rebuildTracker.swapped();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("Índice de texto de proyectos reconstruido con {} documentos y {} términos",
+                    rebuilt.liveDocs, rebuilt.postings.size());
+        } catch (Exception e) {
+            log.warn("No se pudo reconstruir el índice de texto de proyectos: {}", e.getMessage());
+        } finally {
+            rebuildTracker.end();
+        }
+
+        for (Long projectId : toReplay) {
+            onProjectChanged(new ProjectChangedEvent(projectId));
+        }
+    }
+
+    /**
+     * Datos del índice. Solo se accede con el lock correspondiente.
+     */
+    private static final class Segment {
+        private final Map<String, DeltaPostingList> postings = new HashMap<>();
+        private final Map<Long, Integer> docByProject = new HashMap<>();
+        private final RoaringBitmap deleted = new RoaringBitmap();
+        private long[] docProjectIds = new long[64];
+        private int[] docLengths = new int[64];
+        private int nextDoc;
+        private int liveDocs;
+        private long totalLength;
+
+        private void index(ProjectTextData text) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            int length = 0;
+            for (String term : SpanishAnalyzer.analyze(text.title())) {
+                frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+                length += TITLE_WEIGHT;
+            }
+            for (String term : SpanishAnalyzer.analyze(text.description())) {
+                frequencies.merge(term, 1, Integer::sum);
+                length++;
+            }
+
+            int doc = nextDoc++;
+            if (doc == docProjectIds.length) {
+                docProjectIds = Arrays.copyOf(docProjectIds, doc * 2);
+                docLengths = Arrays.copyOf(docLengths, doc * 2);
+            }
+            docProjectIds[doc] = text.projectId();
+            docLengths[doc] = length;
+            docByProject.put(text.projectId(), doc);
+            liveDocs++;
+            totalLength += length;
+
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new DeltaPostingList()).add(doc, frequency));
+        }
+
+        private void delete(Long projectId) {
+            Integer doc = docByProject.remove(projectId);
+            if (doc == null) {
+                return;
+            }
+            deleted.add(doc);
+            liveDocs--;
+            totalLength -= docLengths[doc];
+        }
+
+        private Map<Long, Double> search(List<String> terms) {
+            List<DeltaPostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                DeltaPostingList list = postings.get(term);
+                if (list == null) {
+                    return Map.of();
+                }
+                lists.add(list);
+            }
+            // Empezar por el término más selectivo reduce los candidatos desde el principio
+            lists.sort(Comparator.comparingInt(DeltaPostingList::size));
+
+            double averageLength = liveDocs == 0 ? 1 : (double) totalLength / liveDocs;
+            Map<Integer, Double> scores = null;
+            for (DeltaPostingList list : lists) {
+                // df incluye documentos borrados hasta la próxima compactación
+                double idf = idf(Math.min(list.size(), Math.max(liveDocs, 1)));
+                Map<Integer, Double> next = new HashMap<>();
+                DeltaPostingList.Cursor cursor = list.cursor();
+                while (cursor.next()) {
+                    int doc = cursor.doc();
+                    if (deleted.contains(doc)) {
+                        continue;
+                    }
+                    Double previous = scores == null ? Double.valueOf(0) : scores.get(doc);
+                    if (previous == null) {
+                        continue;
+                    }
+                    next.put(doc, previous + idf * termScore(cursor.frequency(), docLengths[doc], averageLength));
+                }
+                scores = next;
+                if (scores.isEmpty()) {
+                    return Map.of();
+                }
+            }
+
+            Map<Long, Double> ranked = new LinkedHashMap<>();
+            scores.entrySet().stream()
+                    .sorted(Map.Entry.<Integer, Double>comparingByValue().reversed())
+                    .forEach(entry -> ranked.put(docProjectIds[entry.getKey()], entry.getValue()));
+            return ranked;
+        }
+
+        private double idf(int documentFrequency) {
+            return Math.log(1 + (liveDocs - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        }
+
+        private static double termScore(int frequency, int documentLength, double averageLength) {
+            return frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * documentLength / averageLength));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.devmatch.api.project.application.service;
+
+import com.devmatch.api.project.application.event.ProjectChangedEvent;
+import com.devmatch.api.project.application.port.out.ProjectReadModelRepositoryPort;
+import com.devmatch.api.shared.application.util.Hashing;
+import com.devmatch.api.tag.application.service.TagCatalogVersion;
+import com.devmatch.api.user.application.event.UserProfileChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro en memoria de versiones de proyectos para responder peticiones
+ * condicionales (ETag / If-None-Match) sin acceder a base de datos.
+ *
+ * La versión de cada proyecto es la de su fila en {@code project_read_model},
+ * que crece con cada escritura, sobrevive a reinicios y es la misma en todos
+ * los nodos. La versión del catálogo es el XOR de un hash de cada par
+ * (proyecto, versión): cambia con cualquier alta, cambio o baja y se
+ * mantiene de forma incremental. La ETag del catálogo la combina con la
+ * versión del catálogo de tags ({@link TagCatalogVersion}), igual que la de
+ * cada proyecto: las respuestas muestran los nombres de los tags, y un cambio de tag hecho por un script o
+ * sin pasar por los eventos de proyecto no cambia la versión de ningún proyecto.
+ *
+ * Los cambios de este nodo se aplican tras el commit y los de otros nodos al
+ * llegar por {@link ProjectChangeFeed}; la relectura periódica recoge lo que
+ * se haya perdido y además invalida esos proyectos en {@link ProjectDetailCache}. Un proyecto se invalida en la caché antes de
+ * publicar su nueva versión, de modo que nunca se emite una ETag nueva con
+ * un cuerpo antiguo.
+ */
+@Component
+@Slf4j
+public class ProjectVersionRegistry {
+
+    private final ProjectReadModelRepositoryPort projectReadModelRepositoryPort;
+    private final ProjectAccessIndex projectAccessIndex;
+    private final ProjectDetailCache projectDetailCache;
+    private final TagCatalogVersion tagCatalogVersion;
+
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile long catalogHash;
+    private volatile boolean ready;
+
+    public ProjectVersionRegistry(ProjectReadModelRepositoryPort projectReadModelRepositoryPort,
+                                  ProjectAccessIndex projectAccessIndex,
+                                  ProjectDetailCache projectDetailCache,
+                                  TagCatalogVersion tagCatalogVersion) {
+        this.projectReadModelRepositoryPort = projectReadModelRepositoryPort;
+        this.projectAccessIndex = projectAccessIndex;
+        this.projectDetailCache = projectDetailCache;
+        this.tagCatalogVersion = tagCatalogVersion;
+    }
+
+    /**
+     * ETag débil de un proyecto, que incluye también la versión del catálogo
+     * de tags porque la respuesta muestra sus nombres. Es débil porque la
+     * comparten la variante gzip y la sin comprimir, que no son los mismos
+     * bytes aunque sí el mismo contenido. Debe obtenerse antes de
+     * leer la respuesta: si entretanto el proyecto cambia, la ETag queda por
+     * detrás del cuerpo y el cliente solo pierde un 304.
+     * @param projectId ID del proyecto
+     * @return ETag o vacío si aún no se conoce la versión del proyecto o la de los tags
+     */
+    public Optional<String> projectETag(Long projectId) {
+        Long version = versions.get(projectId);
+        if (version == null) {
+            return Optional.empty();
+        }
+        return tagCatalogVersion.current()
+                .map(tags -> "W/\"p" + projectId + "-" + version + "-" + tags + "\"");
+    }
+
+    /**
+     * ETag débil del catálogo de proyectos, que cambia con cualquier proyecto
+     * y con cualquier cambio en el catálogo de tags.
+     * Como la de proyecto, debe obtenerse antes de leer la respuesta.
+     * @return ETag del catálogo o vacío si aún no se conocen las versiones de proyectos o de tags
+     */
+    public Optional<String> catalogETag() {
+        if (!ready) {
+            return Optional.empty();
+        }
+        long projects = catalogHash;
+        return tagCatalogVersion.current()
+                .map(tags -> "W/\"c" + Long.toHexString(projects) + "-" + tags + "\"");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * Relee todas las versiones para recoger los cambios hechos en otros nodos
+     */
+    @Scheduled(fixedDelayString = "${project.versions.refresh-ms:10000}",
+            initialDelayString = "${project.versions.refresh-ms:10000}")
+    public void refresh() {
+        try {
+            Map<Long, Long> before = new HashMap<>(versions);
+            Map<Long, Long> current = projectReadModelRepositoryPort.findAllVersions();
+            Set<Long> projectIds = new HashSet<>(current.keySet());
+            projectIds.addAll(versions.keySet());
+            int changed = apply(projectIds, current, before);
+            ready = true;
+            if (changed > 0) {
+                log.debug("Registro de versiones de proyectos actualizado: {} cambios", changed);
+            }
+        } catch (Exception e) {
+            log.warn("No se pudo refrescar el registro de versiones de proyectos: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Publica la nueva versión de un proyecto una vez confirmada la transacción
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        reload(List.of(event.projectId()));
+    }
+
+    /**
+     * Publica las nuevas versiones de los proyectos que muestran al usuario
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        List<Long> projectIds = new ArrayList<>();
+        for (long projectId : projectAccessIndex.getOwnedProjectIds(event.userId())) {
+            projectIds.add(projectId);
+        }
+        for (long projectId : projectAccessIndex.getMemberProjectIds(event.userId())) {
+            projectIds.add(projectId);
+        }
+        reload(projectIds);
+    }
+
+    private void reload(List<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        try {
+            apply(projectIds, projectReadModelRepositoryPort.findVersions(projectIds), null);
+        } catch (Exception e) {
+            // Sin versiones fiables no se emiten ETags hasta la siguiente relectura completa
+            log.warn("No se pudo leer la versión de los proyectos {}: {}", projectIds, e.getMessage());
+            synchronized (writeLock) {
+                ready = false;
+                projectIds.forEach(projectId -> {
+                    projectDetailCache.invalidate(projectId);
+                    put(projectId, null);
+                });
+            }
+        }
+    }
+
+    /**
+     * @param snapshot Versiones publicadas antes de lanzar una relectura completa, o null
+     *                 si la carga es de proyectos concretos
+     */
+    private int apply(Iterable<Long> projectIds, Map<Long, Long> loaded, Map<Long, Long> snapshot) {
+        int changed = 0;
+        synchronized (writeLock) {
+            for (Long projectId : projectIds) {
+                Long version = loaded.get(projectId);
+                Long previous = versions.get(projectId);
+                // Una relectura lenta no puede hacer retroceder una versión ya publicada
+                if (version != null && previous != null && version <= previous) {
+                    continue;
+                }
+                if (version == null && previous == null) {
+                    continue;
+                }
+                // Publicada después de la consulta de la relectura completa, que no la incluye
+                if (version == null && snapshot != null && !previous.equals(snapshot.get(projectId))) {
+                    continue;
+                }
+                projectDetailCache.invalidate(projectId);
+                put(projectId, version);
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    private void put(Long projectId, Long version) {
+        Long previous = version != null ? versions.put(projectId, version) : versions.remove(projectId);
+        long hash = catalogHash;
+        if (previous != null) {
+            hash ^= entryHash(projectId, previous);
+        }
+        if (version != null) {
+            hash ^= entryHash(projectId, version);
+        }
+        catalogHash = hash;
+    }
+
+    private static long entryHash(long projectId, long version) {
+        return Hashing.mix64(Hashing.mix64(projectId) + version);
+    }
+}
@@ -130,10 +130,6 @@ public class Project {
         return this.ownerId.equals(userId) && this.isActive && !this.isDeleted;
     }
 
-    public boolean isVisibleTo(Long userId) {
-        return this.isPublic || this.ownerId.equals(userId);
-    }
-
     public boolean isOpenForApplications() {
         return this.status == ProjectStatus.OPEN && this.isActive && !this.isDeleted;
     }
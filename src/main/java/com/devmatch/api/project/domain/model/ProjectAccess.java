@@ -0,0 +1,65 @@
+package com.devmatch.api.project.domain.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Datos mínimos de un proyecto para resolver autorización sin hidratar el
+ * {@link Project} completo: propietario, flags de estado y miembros activos.
+ *
+ * @param projectId ID del proyecto
+ * @param ownerId ID del propietario (null si el usuario fue eliminado)
+ * @param isPublic Si el proyecto es público
+ * @param isActive Si el proyecto está activo
+ * @param isDeleted Si el proyecto está eliminado
+ * @param memberIds IDs de los miembros activos, ordenados ascendentemente
+ */
+public record ProjectAccess(Long projectId, Long ownerId, boolean isPublic, boolean isActive,
+                            boolean isDeleted, long[] memberIds) {
+
+    public boolean isOwner(Long userId) {
+        return ownerId != null && ownerId.equals(userId);
+    }
+
+    public boolean isMember(Long userId) {
+        return userId != null && Arrays.binarySearch(memberIds, userId) >= 0;
+    }
+
+    /**
+     * Mismas reglas que {@link Project#canBeEditedBy(Long)}
+     */
+    public boolean canBeEditedBy(Long userId) {
+        return isOwner(userId) && isActive && !isDeleted;
+    }
+
+    /**
+     * Un proyecto es visible si es público o si el usuario es su propietario o miembro
+     */
+    public boolean isVisibleTo(Long userId) {
+        return isPublic || isOwner(userId) || isMember(userId);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ProjectAccess that)) {
+            return false;
+        }
+        return isPublic == that.isPublic && isActive == that.isActive && isDeleted == that.isDeleted
+                && Objects.equals(projectId, that.projectId) && Objects.equals(ownerId, that.ownerId)
+                && Arrays.equals(memberIds, that.memberIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(projectId, ownerId, isPublic, isActive, isDeleted) * 31 + Arrays.hashCode(memberIds);
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectAccess[projectId=" + projectId + ", ownerId=" + ownerId + ", isPublic=" + isPublic
+                + ", isActive=" + isActive + ", isDeleted=" + isDeleted + ", memberIds=" + Arrays.toString(memberIds) + "]";
+    }
+}
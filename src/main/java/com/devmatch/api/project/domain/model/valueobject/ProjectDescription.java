@@ -15,6 +15,9 @@ public class ProjectDescription {
     private static final int MIN_WORDS = 5;
     private static final int MAX_WORDS = 500;
     
+    // Longitud del extracto mostrado en los listados
+    public static final int SUMMARY_LENGTH = 200;
+    
     public ProjectDescription(String value) {
         validateDescription(value);
         this.value = value.trim();
@@ -97,10 +100,26 @@ public class ProjectDescription {
     }
     
     public String getSummary(int maxLength) {
-        if (value.length() <= maxLength) {
-            return value;
+        return summarize(value, maxLength);
+    }
+    
+    /**
+     * Extracto para listados, de {@link #SUMMARY_LENGTH} caracteres como máximo más "..."
+     */
+    public String getSummary() {
+        return getSummary(SUMMARY_LENGTH);
+    }
+    
+    /**
+     * Mismo extracto que {@link #getSummary(int)} para textos ya guardados que
+     * pueden no cumplir las validaciones actuales
+     */
+    public static String summarize(String description, int maxLength) {
+        String trimmed = description.trim();
+        if (trimmed.length() <= maxLength) {
+            return trimmed;
         }
-        return value.substring(0, maxLength) + "...";
+        return trimmed.substring(0, maxLength) + "...";
     }
     
     @Override
@@ -1,8 +1,17 @@
 package com.devmatch.api.project.infrastructure.in.controller;
 
+import java.io.BufferedOutputStream;
 import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPOutputStream;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,17 +21,33 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.devmatch.api.project.application.dto.ProjectFacetedSearchResponseDto;
+import com.devmatch.api.project.application.dto.ProjectFields;
+import com.devmatch.api.project.application.dto.ProjectLookupResultDto;
 import com.devmatch.api.project.application.dto.ProjectRequestDto;
 import com.devmatch.api.project.application.dto.ProjectResponseDto;
 import com.devmatch.api.project.application.dto.ProjectPublicSearchRequestDto;
+import com.devmatch.api.project.application.dto.ProjectSummaryDto;
 import com.devmatch.api.project.application.dto.ProjectTagsRequestDto;
 import com.devmatch.api.project.application.dto.ProjectStatusRequestDto;
 import com.devmatch.api.project.application.dto.ProjectVisibilityRequestDto;
 import com.devmatch.api.project.application.dto.ProjectMemberRoleRequestDto;
 import com.devmatch.api.project.application.port.in.ProjectManagementUseCase;
+import com.devmatch.api.shared.application.dto.CursorPageResponseDto;
 import com.devmatch.api.security.infrastructure.out.adapter.UserPrincipalAdapter;
+import com.devmatch.api.shared.infrastructure.web.CachedResponse;
+import com.devmatch.api.shared.infrastructure.web.SerializedResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -32,28 +57,106 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProjectController {
 
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final String EXPORT_TIMEOUT_INTERCEPTOR = ProjectController.class.getName() + ".exportTimeout";
+
     private final ProjectManagementUseCase projectManagementUseCase;
+    private final ProjectQueryCoalescer projectQueryCoalescer;
+    private final SerializedResponseCache serializedResponseCache;
+    private final ObjectMapper objectMapper;
+
+    // Solo la exportación puede durar tanto; el resto de peticiones asíncronas mantiene el tiempo por defecto
+    @Value("${project.export.timeout-ms:1800000}")
+    private long exportTimeoutMillis;
 
     // ===== ENDPOINTS PÚBLICOS (sin autenticación) =====
 
     /**
      * Obtiene un proyecto público específico por su ID
      * Accesible sin autenticación
+     * Responde 304 sin tocar la base de datos si el If-None-Match coincide con la versión actual
      */
     @GetMapping("/public/{projectId}")
-    public ResponseEntity<ProjectResponseDto> getPublicProject(@PathVariable Long projectId) {
-        ProjectResponseDto response = projectManagementUseCase.getPublicProjectById(projectId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<CachedResponse> getPublicProject(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        ProjectFields projectFields = ProjectFields.parse(fields);
+        Optional<String> etag = projectManagementUseCase.getProjectETag(projectId);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return null;
+        }
+        // La ETag combina la versión del proyecto y la del catálogo de tags: si cualquiera
+        // de las dos cambia, la respuesta guardada deja de servir
+        CachedResponse response = serializedResponseCache.get(
+                new SerializedResponseCache.Key("projects.public-detail", projectId + "?" + cacheParameters(projectFields)),
+                etag.orElse(null),
+                SerializedResponseCache.acceptsGzip(acceptEncoding),
+                objectMapper.writer(ProjectFieldsResponseAdvice.filters(projectFields)),
+                () -> projectQueryCoalescer.getPublicProjectById(projectId));
+        return conditional(etag).body(response);
     }
 
     /**
      * Obtiene todos los proyectos públicos
      * Accesible sin autenticación
+     * Responde 304 sin tocar la base de datos si el catálogo no ha cambiado
      */
     @GetMapping("/public")
-    public ResponseEntity<List<ProjectResponseDto>> getPublicProjects() {
-        List<ProjectResponseDto> projects = projectManagementUseCase.getAllPublicProjects();
-        return ResponseEntity.ok(projects);
+    public ResponseEntity<CachedResponse> getPublicProjects(
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        ProjectFields projectFields = ProjectFields.parse(fields);
+        Optional<String> etag = projectManagementUseCase.getCatalogETag();
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return null;
+        }
+        // Igual que en el detalle, la ETag del catálogo ya incluye la versión de los tags
+        CachedResponse projects = serializedResponseCache.get(
+                new SerializedResponseCache.Key("projects.public", cacheParameters(projectFields)),
+                etag.orElse(null),
+                SerializedResponseCache.acceptsGzip(acceptEncoding),
+                objectMapper.writer(ProjectFieldsResponseAdvice.filters(projectFields)),
+                () -> projectManagementUseCase.getAllPublicProjects(projectFields));
+        return conditional(etag).body(projects);
+    }
+
+    /**
+     * Exporta todos los proyectos públicos en NDJSON (un proyecto por línea, por ID ascendente)
+     * Accesible sin autenticación
+     * Se escribe según se lee de base de datos, con memoria constante sea cual sea el catálogo.
+     * Para reanudar una descarga cortada basta con pasar el ID de la última línea recibida en "afterId".
+     * Se comprime con gzip si el cliente lo acepta.
+     */
+    @GetMapping(value = "/public/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPublicProjects(
+            @RequestParam(required = false) Long afterId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            NativeWebRequest webRequest) {
+
+        extendAsyncTimeout(webRequest, exportTimeoutMillis);
+        boolean gzip = SerializedResponseCache.acceptsGzip(acceptEncoding);
+        StreamingResponseBody body = output -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(output, EXPORT_BUFFER_SIZE);
+                projectManagementUseCase.exportPublicProjects(afterId, compressed);
+                compressed.finish();
+            } else {
+                BufferedOutputStream buffered = new BufferedOutputStream(output, EXPORT_BUFFER_SIZE);
+                projectManagementUseCase.exportPublicProjects(afterId, buffered);
+                buffered.flush();
+            }
+        };
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(body);
     }
 
     /**
@@ -70,12 +173,109 @@ public class ProjectController {
             filter = new ProjectPublicSearchRequestDto();
         }
         
-        List<ProjectResponseDto> projects = projectManagementUseCase.searchPublicProjects(filter);
+        List<ProjectResponseDto> projects = projectQueryCoalescer.searchPublicProjects(filter);
         return ResponseEntity.ok(projects);
     }
 
+    /**
+     * Obtiene proyectos públicos paginados por cursor
+     * Accesible sin autenticación
+     */
+    @GetMapping("/public/page")
+    public ResponseEntity<CursorPageResponseDto<ProjectResponseDto>> getPublicProjectsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        
+        // La ETag del catálogo vale para cualquier página: cursor y limit forman parte de la URL
+        Optional<String> etag = projectManagementUseCase.getCatalogETag();
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return null;
+        }
+        return conditional(etag).body(projectQueryCoalescer.getPublicProjectsPage(cursor, limit));
+    }
+
+    /**
+     * Busca proyectos públicos con paginación por cursor
+     * Accesible sin autenticación
+     * Acepta los mismos filtros que la búsqueda, más "cursor" y "limit"
+     */
+    @PostMapping("/public/search/page")
+    public ResponseEntity<CursorPageResponseDto<ProjectResponseDto>> searchPublicProjectsPage(
+            @RequestBody(required = false) ProjectPublicSearchRequestDto filter) {
+        
+        if (filter == null) {
+            filter = new ProjectPublicSearchRequestDto();
+        }
+        
+        return ResponseEntity.ok(projectQueryCoalescer.searchPublicProjectsPage(filter));
+    }
+
+    /**
+     * Busca proyectos públicos con paginación por cursor e incluye recuentos por faceta
+     * (estado, tag, tamaño de equipo y duración) calculados sobre todos los resultados
+     * Accesible sin autenticación
+     */
+    @PostMapping("/public/search/faceted")
+    public ResponseEntity<ProjectFacetedSearchResponseDto> searchPublicProjectsWithFacets(
+            @RequestBody(required = false) ProjectPublicSearchRequestDto filter) {
+        
+        if (filter == null) {
+            filter = new ProjectPublicSearchRequestDto();
+        }
+        
+        return ResponseEntity.ok(projectQueryCoalescer.searchPublicProjectsWithFacets(filter));
+    }
+
+    /**
+     * Obtiene resúmenes de proyectos públicos paginados por cursor, con el extracto
+     * de la descripción en lugar de la descripción completa
+     * Accesible sin autenticación
+     */
+    @GetMapping("/public/summaries")
+    public ResponseEntity<CursorPageResponseDto<ProjectSummaryDto>> getPublicProjectSummariesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        
+        Optional<String> etag = projectManagementUseCase.getCatalogETag();
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return null;
+        }
+        return conditional(etag).body(projectQueryCoalescer.getPublicProjectSummariesPage(cursor, limit));
+    }
+
+    /**
+     * Busca proyectos públicos con paginación por cursor y devuelve sus resúmenes
+     * Accesible sin autenticación
+     * Acepta los mismos filtros que la búsqueda paginada
+     */
+    @PostMapping("/public/search/summaries")
+    public ResponseEntity<CursorPageResponseDto<ProjectSummaryDto>> searchPublicProjectSummariesPage(
+            @RequestBody(required = false) ProjectPublicSearchRequestDto filter) {
+        
+        if (filter == null) {
+            filter = new ProjectPublicSearchRequestDto();
+        }
+        
+        return ResponseEntity.ok(projectQueryCoalescer.searchPublicProjectSummariesPage(filter));
+    }
+
     // ===== ENDPOINTS DE CONSULTA (con autenticación) =====
 
+    /**
+     * Obtiene varios proyectos por ID en una sola petición (ids=1,2,3)
+     * Cada ID se resuelve como en GET /{projectId}: los que no existen o no son
+     * visibles para el usuario se indican en su posición en lugar de fallar la petición
+     */
+    @GetMapping
+    public ResponseEntity<List<ProjectLookupResultDto>> getProjectsByIds(
+            @RequestParam List<Long> ids,
+            @AuthenticationPrincipal UserPrincipalAdapter userPrincipal) {
+        
+        return ResponseEntity.ok(projectManagementUseCase.getProjectsByIds(ids, userPrincipal.getUserId()));
+    }
+
     /**
      * Obtiene un proyecto específico por su ID
      * Accesible para proyectos públicos + propios del usuario
@@ -94,30 +294,53 @@ public class ProjectController {
      */
     @GetMapping("/my-projects")
     public ResponseEntity<List<ProjectResponseDto>> getMyProjects(
+            @RequestParam(required = false) String fields,
             @AuthenticationPrincipal UserPrincipalAdapter userPrincipal) {
         
-        List<ProjectResponseDto> projects = projectManagementUseCase.getProjectsByOwner(userPrincipal.getUserId());
+        List<ProjectResponseDto> projects = projectManagementUseCase.getProjectsByOwner(
+                userPrincipal.getUserId(), ProjectFields.parse(fields));
         return ResponseEntity.ok(projects);
     }
 
     /**
      * Obtiene proyectos de un usuario específico con filtros y lógica de seguridad
-     * Solo devuelve proyectos públicos o propios del usuario autenticado
+     * Solo devuelve proyectos públicos, propios o de los que el usuario autenticado es miembro
      */
     @PostMapping("/owner/{ownerId}")
     public ResponseEntity<List<ProjectResponseDto>> getProjectsByOwner(
             @PathVariable Long ownerId,
             @RequestBody(required = false) ProjectPublicSearchRequestDto filter,
+            @RequestParam(required = false) String fields,
             @AuthenticationPrincipal UserPrincipalAdapter userPrincipal) {
         
         List<ProjectResponseDto> projects = projectManagementUseCase.getProjectsByOwnerWithSecurity(
                 ownerId, 
                 userPrincipal.getUserId(), 
-                filter
+                filter,
+                ProjectFields.parse(fields)
         );
         return ResponseEntity.ok(projects);
     }
 
+    /**
+     * Obtiene proyectos de un usuario específico con paginación por cursor
+     * Acepta los mismos filtros que el listado, más "cursor" y "limit"
+     */
+    @PostMapping("/owner/{ownerId}/page")
+    public ResponseEntity<CursorPageResponseDto<ProjectResponseDto>> getProjectsByOwnerPage(
+            @PathVariable Long ownerId,
+            @RequestBody(required = false) ProjectPublicSearchRequestDto filter,
+            @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal UserPrincipalAdapter userPrincipal) {
+        
+        return ResponseEntity.ok(projectManagementUseCase.getProjectsByOwnerPage(
+                ownerId,
+                userPrincipal.getUserId(),
+                filter,
+                ProjectFields.parse(fields)
+        ));
+    }
+
     // ===== ENDPOINTS DE GESTIÓN DE PROYECTOS =====
 
     /**
@@ -288,4 +511,37 @@ public class ProjectController {
         ProjectResponseDto response = projectManagementUseCase.removeTagFromProject(projectId, tagName, userPrincipal.getUserId());
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Campos pedidos en orden estable, para que "title,id" y "id,title" compartan entrada en caché
+     */
+    private static String cacheParameters(ProjectFields fields) {
+        return fields.isAll() ? "" : String.join(",", new TreeSet<>(fields.names()));
+    }
+
+    /**
+     * Amplía el tiempo máximo de la respuesta asíncrona de esta petición.
+     * Se aplica justo antes de empezar el procesamiento asíncrono, que es
+     * cuando Spring ya ha fijado el tiempo por defecto y aún se puede cambiar.
+     */
+    private static void extendAsyncTimeout(NativeWebRequest webRequest, long timeoutMillis) {
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(EXPORT_TIMEOUT_INTERCEPTOR,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                        if (request instanceof AsyncWebRequest asyncWebRequest) {
+                            asyncWebRequest.setTimeout(timeoutMillis);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Respuesta 200 con la ETag (si se conoce), obligando al cliente a revalidar en cada uso
+     */
+    private static ResponseEntity.BodyBuilder conditional(Optional<String> etag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        etag.ifPresent(builder::eTag);
+        return builder;
+    }
 }
@@ -0,0 +1,97 @@
+package com.devmatch.api.project.infrastructure.in.controller;
+
+import com.devmatch.api.project.application.dto.ProjectFields;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.SynthesizingMethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Respuestas parciales de proyectos: si la petición trae {@code fields=...},
+ * cada {@code ProjectResponseDto} de la respuesta (sola, en lista o dentro de
+ * una página) se serializa solo con esos campos.
+ *
+ * Solo se aplica a los endpoints de {@link ProjectController} que declaran
+ * el parámetro {@code fields}, que son los que lo validan (un campo
+ * desconocido responde 400); en el resto el parámetro se ignora. Los
+ * listados que montan las respuestas desde las tablas de escritura además
+ * se saltan el enriquecimiento que los campos pedidos no necesitan.
+ * Los endpoints que sirven bytes ya serializados ({@code CachedResponse})
+ * no pasan por Jackson y aplican los mismos filtros con {@link #filters}.
+ */
+@ControllerAdvice(assignableTypes = ProjectController.class)
+public class ProjectFieldsResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    private static final String FIELDS_PARAMETER = "fields";
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final Map<Method, Boolean> acceptsFields = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        Method method = returnType.getMethod();
+        return super.supports(returnType, converterType)
+                && method != null
+                && acceptsFields.computeIfAbsent(method, ProjectFieldsResponseAdvice::declaresFieldsParameter);
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        ProjectFields fields = ProjectFields.parse(servletRequest.getServletRequest().getParameter(FIELDS_PARAMETER));
+        if (fields.isAll()) {
+            return;
+        }
+        bodyContainer.setFilters(filters(fields));
+    }
+
+    /**
+     * Comprueba si el endpoint recibe {@code fields} como {@code @RequestParam}
+     */
+    private static boolean declaresFieldsParameter(Method method) {
+        for (int i = 0; i < method.getParameterCount(); i++) {
+            MethodParameter parameter = new SynthesizingMethodParameter(method, i);
+            RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+            if (requestParam == null) {
+                continue;
+            }
+            parameter.initParameterNameDiscovery(PARAMETER_NAMES);
+            String name = requestParam.name().isEmpty() ? parameter.getParameterName() : requestParam.name();
+            if (FIELDS_PARAMETER.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Filtros Jackson que dejan en cada {@code ProjectResponseDto} solo los campos pedidos
+     */
+    static FilterProvider filters(ProjectFields fields) {
+        SimpleFilterProvider filters = new SimpleFilterProvider().setFailOnUnknownId(false);
+        if (!fields.isAll()) {
+            filters.addFilter(ProjectFields.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields.names()));
+        }
+        return filters;
+    }
+}
@@ -0,0 +1,80 @@
+package com.devmatch.api.project.infrastructure.in.controller;
+
+import com.devmatch.api.project.application.dto.ProjectFacetedSearchResponseDto;
+import com.devmatch.api.project.application.dto.ProjectPublicSearchRequestDto;
+import com.devmatch.api.project.application.dto.ProjectResponseDto;
+import com.devmatch.api.project.application.dto.ProjectSummaryDto;
+import com.devmatch.api.project.application.port.in.ProjectManagementUseCase;
+import com.devmatch.api.shared.application.dto.CursorPageResponseDto;
+import com.devmatch.api.shared.application.util.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa las lecturas públicas idénticas que llegan a la vez (búsquedas,
+ * páginas y detalle de proyecto) para que solo una llegue a
+ * {@link ProjectManagementUseCase}; el resto espera su resultado.
+ *
+ * Está delante del caso de uso y no abre transacción, así que los que esperan
+ * no ocupan conexiones del pool. Dos búsquedas son idénticas si coinciden
+ * todos los filtros, el cursor y el tamaño de página; dos lecturas de detalle,
+ * si piden el mismo proyecto.
+ */
+@Component
+public class ProjectQueryCoalescer {
+
+    private final ProjectManagementUseCase projectManagementUseCase;
+    private final SingleFlight<QueryKey, Object> flights;
+
+    private record QueryKey(String operation, Object parameters) {
+    }
+
+    public ProjectQueryCoalescer(ProjectManagementUseCase projectManagementUseCase,
+                                 @Value("${single-flight.wait-timeout-ms:3000}") long waitTimeoutMillis,
+                                 MeterRegistry meterRegistry) {
+        this.projectManagementUseCase = projectManagementUseCase;
+        this.flights = new SingleFlight<>("project.search", Duration.ofMillis(waitTimeoutMillis), meterRegistry);
+    }
+
+    public ProjectResponseDto getPublicProjectById(Long projectId) {
+        return execute("detail", projectId, () -> projectManagementUseCase.getPublicProjectById(projectId));
+    }
+
+    public List<ProjectResponseDto> searchPublicProjects(ProjectPublicSearchRequestDto filter) {
+        return execute("search", filter, () -> projectManagementUseCase.searchPublicProjects(filter));
+    }
+
+    public CursorPageResponseDto<ProjectResponseDto> getPublicProjectsPage(String cursor, Integer limit) {
+        return execute("page", Arrays.asList(cursor, limit),
+                () -> projectManagementUseCase.getPublicProjectsPage(cursor, limit));
+    }
+
+    public CursorPageResponseDto<ProjectResponseDto> searchPublicProjectsPage(ProjectPublicSearchRequestDto filter) {
+        return execute("search-page", filter, () -> projectManagementUseCase.searchPublicProjectsPage(filter));
+    }
+
+    public ProjectFacetedSearchResponseDto searchPublicProjectsWithFacets(ProjectPublicSearchRequestDto filter) {
+        return execute("search-faceted", filter, () -> projectManagementUseCase.searchPublicProjectsWithFacets(filter));
+    }
+
+    public CursorPageResponseDto<ProjectSummaryDto> getPublicProjectSummariesPage(String cursor, Integer limit) {
+        return execute("summaries", Arrays.asList(cursor, limit),
+                () -> projectManagementUseCase.getPublicProjectSummariesPage(cursor, limit));
+    }
+
+    public CursorPageResponseDto<ProjectSummaryDto> searchPublicProjectSummariesPage(ProjectPublicSearchRequestDto filter) {
+        return execute("search-summaries", filter,
+                () -> projectManagementUseCase.searchPublicProjectSummariesPage(filter));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T execute(String operation, Object parameters, Supplier<T> loader) {
+        return (T) flights.execute(new QueryKey(operation, parameters), loader::get);
+    }
+}
@@ -0,0 +1,57 @@
+package com.devmatch.api.project.infrastructure.out.persistence.adapter;
+
+import com.devmatch.api.project.application.port.out.ProjectAccessRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador JDBC de solo lectura sobre {@code projects} y {@code project_members}.
+ * Lee únicamente las columnas necesarias para autorización.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcProjectAccessRepositoryAdapter implements ProjectAccessRepositoryPort {
+
+    private static final String SELECT_PROJECT_ACCESS =
+            "SELECT id, owner_id, is_public, is_active, is_deleted FROM projects";
+
+    private static final RowMapper<ProjectAccessData> PROJECT_ACCESS_MAPPER = (rs, rowNum) -> new ProjectAccessData(
+            rs.getLong("id"),
+            rs.getObject("owner_id", Long.class),
+            rs.getBoolean("is_public"),
+            rs.getBoolean("is_active"),
+            rs.getBoolean("is_deleted"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ProjectAccessData> findAllProjects() {
+        return jdbcTemplate.query(SELECT_PROJECT_ACCESS, PROJECT_ACCESS_MAPPER);
+    }
+
+    @Override
+    public Optional<ProjectAccessData> findProject(Long projectId) {
+        return jdbcTemplate.query(SELECT_PROJECT_ACCESS + " WHERE id = ?", PROJECT_ACCESS_MAPPER, projectId)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<MembershipData> findAllActiveMemberships() {
+        return jdbcTemplate.query(
+                "SELECT project_id, user_id FROM project_members WHERE is_active = TRUE AND is_deleted = FALSE",
+                (rs, rowNum) -> new MembershipData(rs.getLong("project_id"), rs.getLong("user_id")));
+    }
+
+    @Override
+    public List<Long> findActiveMemberIds(Long projectId) {
+        return jdbcTemplate.queryForList(
+                "SELECT user_id FROM project_members WHERE project_id = ? AND is_active = TRUE AND is_deleted = FALSE",
+                Long.class, projectId);
+    }
+}
@@ -0,0 +1,38 @@
+package com.devmatch.api.project.infrastructure.out.persistence.adapter;
+
+import com.devmatch.api.project.application.port.out.ProjectChangeFeedRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Adaptador JDBC de la tabla {@code project_changes}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcProjectChangeFeedRepositoryAdapter implements ProjectChangeFeedRepositoryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void recordChange(Long projectId, String nodeId) {
+        jdbcTemplate.update("INSERT INTO project_changes (project_id, node_id) VALUES (?, ?)", projectId, nodeId);
+    }
+
+    @Override
+    public List<ChangeData> findChangesSince(Instant since) {
+        return jdbcTemplate.query(
+                "SELECT id, project_id, node_id FROM project_changes WHERE changed_at >= ? ORDER BY id",
+                (rs, rowNum) -> new ChangeData(rs.getLong("id"), rs.getLong("project_id"), rs.getString("node_id")),
+                Timestamp.from(since));
+    }
+
+    @Override
+    public int deleteOlderThan(Instant before) {
+        return jdbcTemplate.update("DELETE FROM project_changes WHERE changed_at < ?", Timestamp.from(before));
+    }
+}
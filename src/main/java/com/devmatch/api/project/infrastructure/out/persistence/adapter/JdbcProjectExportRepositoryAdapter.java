@@ -0,0 +1,50 @@
+package com.devmatch.api.project.infrastructure.out.persistence.adapter;
+
+import com.devmatch.api.project.application.port.out.ProjectExportRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+/**
+ * Adaptador JDBC de la exportación de proyectos.
+ *
+ * Lee en modo streaming del driver de MySQL (resultado de solo avance y
+ * {@code fetchSize = Integer.MIN_VALUE}): las filas llegan de una en una y
+ * la memoria usada no depende del tamaño del catálogo. Así no hace falta
+ * {@code useCursorFetch=true} en la URL, que afectaría a todas las consultas
+ * de la aplicación. Mientras dura la lectura la conexión no admite otras
+ * sentencias, así que lo que necesite la base de datos por fila debe usar
+ * otra conexión.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcProjectExportRepositoryAdapter implements ProjectExportRepositoryPort {
+
+    private static final String PUBLIC_PROJECTS_SQL =
+            "SELECT p.id, rm.payload FROM projects p "
+                    + "LEFT JOIN project_read_model rm ON rm.project_id = p.id "
+                    + "WHERE p.is_public = TRUE AND p.is_active = TRUE AND p.is_deleted = FALSE AND p.id > ? "
+                    + "ORDER BY p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void streamPublicProjects(Long afterId, Consumer<ExportRow> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            PUBLIC_PROJECTS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    // Valor especial de Connector/J: una fila cada vez, sin cargar el resultado completo
+                    statement.setFetchSize(Integer.MIN_VALUE);
+                    statement.setLong(1, afterId != null ? afterId : 0L);
+                    return statement;
+                },
+                rs -> {
+                    consumer.accept(new ExportRow(rs.getLong("id"), rs.getString("payload")));
+                });
+    }
+}
@@ -0,0 +1,119 @@
+package com.devmatch.api.project.infrastructure.out.persistence.adapter;
+
+import com.devmatch.api.project.application.dto.ProjectResponseDto;
+import com.devmatch.api.project.application.port.out.ProjectReadModelRepositoryPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.devmatch.api.shared.infrastructure.util.IdChunks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Adaptador JDBC de la tabla {@code project_read_model}, que guarda cada
+ * respuesta serializada como JSON bajo la clave primaria del proyecto.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcProjectReadModelRepositoryAdapter implements ProjectReadModelRepositoryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Optional<ProjectResponseDto> findById(Long projectId) {
+        return jdbcTemplate.query(
+                        "SELECT payload FROM project_read_model WHERE project_id = ?",
+                        (rs, rowNum) -> rs.getString("payload"),
+                        projectId)
+                .stream()
+                .findFirst()
+                .map(this::deserialize);
+    }
+
+    @Override
+    public List<ProjectResponseDto> findAllByIds(Collection<Long> projectIds) {
+        List<ProjectResponseDto> projects = new ArrayList<>();
+        IdChunks.forEach(projectIds, chunk -> namedParameterJdbcTemplate.query(
+                        "SELECT payload FROM project_read_model WHERE project_id IN (:ids)",
+                        Map.of("ids", chunk),
+                        (rs, rowNum) -> rs.getString("payload"))
+                .forEach(payload -> projects.add(deserialize(payload))));
+        return projects;
+    }
+
+    @Override
+    public Map<Long, Long> findVersions(Collection<Long> projectIds) {
+        Map<Long, Long> versions = new HashMap<>();
+        IdChunks.forEach(projectIds, chunk -> namedParameterJdbcTemplate.query(
+                "SELECT project_id, version FROM project_read_model WHERE project_id IN (:ids)",
+                Map.of("ids", chunk),
+                rs -> {
+                    versions.put(rs.getLong("project_id"), rs.getLong("version"));
+                }));
+        return versions;
+    }
+
+    @Override
+    public Map<Long, Long> findAllVersions() {
+        Map<Long, Long> versions = new HashMap<>();
+        jdbcTemplate.query("SELECT project_id, version FROM project_read_model",
+                rs -> {
+                    versions.put(rs.getLong("project_id"), rs.getLong("version"));
+                });
+        return versions;
+    }
+
+    @Override
+    public void save(ProjectResponseDto project) {
+        jdbcTemplate.update(
+                "INSERT INTO project_read_model (project_id, payload) VALUES (?, ?) "
+                        // version se asigna antes que payload para compararla con la respuesta anterior
+                        + "ON DUPLICATE KEY UPDATE version = IF(payload = VALUES(payload), version, version + 1), "
+                        + "payload = VALUES(payload)",
+                project.getId(), serialize(project));
+    }
+
+    @Override
+    public void saveIfAbsent(ProjectResponseDto project) {
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO project_read_model (project_id, payload) VALUES (?, ?)",
+                project.getId(), serialize(project));
+    }
+
+    @Override
+    public void lockProject(Long projectId) {
+        jdbcTemplate.query("SELECT id FROM projects WHERE id = ? FOR UPDATE", rs -> {
+        }, projectId);
+    }
+
+    @Override
+    public void delete(Long projectId) {
+        jdbcTemplate.update("DELETE FROM project_read_model WHERE project_id = ?", projectId);
+    }
+
+    private String serialize(ProjectResponseDto project) {
+        try {
+            return objectMapper.writeValueAsString(project);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el proyecto " + project.getId(), e);
+        }
+    }
+
+    private ProjectResponseDto deserialize(String payload) {
+        try {
+            return objectMapper.readValue(payload, ProjectResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Modelo de lectura de proyecto corrupto", e);
+        }
+    }
+}
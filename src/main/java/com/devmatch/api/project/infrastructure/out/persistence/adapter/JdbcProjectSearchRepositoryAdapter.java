@@ -0,0 +1,92 @@
+package com.devmatch.api.project.infrastructure.out.persistence.adapter;
+
+import com.devmatch.api.project.application.port.out.ProjectSearchRepositoryPort;
+import com.devmatch.api.project.domain.model.valueobject.ProjectStatus;
+import com.devmatch.api.shared.infrastructure.util.IdChunks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Adaptador JDBC de solo lectura con los atributos filtrables de proyectos y sus tags.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcProjectSearchRepositoryAdapter implements ProjectSearchRepositoryPort {
+
+    private static final String SELECT_SEARCH_DATA =
+            "SELECT id, title, status, is_public, is_active, is_deleted, max_team_size, "
+                    + "estimated_duration_weeks, created_at FROM projects";
+
+    private static final RowMapper<ProjectSearchData> SEARCH_DATA_MAPPER = (rs, rowNum) -> new ProjectSearchData(
+            rs.getLong("id"),
+            rs.getString("title"),
+            ProjectStatus.valueOf(rs.getString("status")),
+            rs.getBoolean("is_public"),
+            rs.getBoolean("is_active"),
+            rs.getBoolean("is_deleted"),
+            rs.getObject("max_team_size", Integer.class),
+            rs.getObject("estimated_duration_weeks", Integer.class),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public List<ProjectSearchData> findAllSearchable() {
+        return jdbcTemplate.query(
+                SELECT_SEARCH_DATA + " WHERE is_public = TRUE AND is_deleted = FALSE", SEARCH_DATA_MAPPER);
+    }
+
+    @Override
+    public Optional<ProjectSearchData> findSearchData(Long projectId) {
+        return jdbcTemplate.query(SELECT_SEARCH_DATA + " WHERE id = ?", SEARCH_DATA_MAPPER, projectId)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<ProjectTagData> findAllSearchableProjectTags() {
+        return jdbcTemplate.query(
+                "SELECT pt.project_id, pt.tag_id FROM project_tags pt "
+                        + "JOIN projects p ON p.id = pt.project_id "
+                        + "WHERE pt.is_deleted = FALSE AND p.is_public = TRUE AND p.is_deleted = FALSE",
+                (rs, rowNum) -> new ProjectTagData(rs.getLong("project_id"), rs.getLong("tag_id")));
+    }
+
+    @Override
+    public List<Long> findTagIds(Long projectId) {
+        return jdbcTemplate.queryForList(
+                "SELECT tag_id FROM project_tags WHERE project_id = ? AND is_deleted = FALSE",
+                Long.class, projectId);
+    }
+
+    @Override
+    public List<Long> findProjectIdsByTagId(Long tagId) {
+        return jdbcTemplate.queryForList(
+                "SELECT pt.project_id FROM project_tags pt "
+                        + "JOIN projects p ON p.id = pt.project_id "
+                        + "WHERE pt.tag_id = ? AND pt.is_deleted = FALSE AND p.is_deleted = FALSE",
+                Long.class, tagId);
+    }
+
+    @Override
+    public Map<Long, String> findTagNames(Collection<Long> tagIds) {
+        Map<Long, String> names = new HashMap<>();
+        IdChunks.forEach(tagIds, chunk -> namedParameterJdbcTemplate.query(
+                "SELECT id, name FROM tags WHERE id IN (:ids)",
+                Map.of("ids", chunk),
+                rs -> {
+                    names.put(rs.getLong("id"), rs.getString("name"));
+                }));
+        return names;
+    }
+}
@@ -0,0 +1,75 @@
+package com.devmatch.api.project.infrastructure.out.persistence.adapter;
+
+import com.devmatch.api.project.application.dto.ProjectSummaryDto;
+import com.devmatch.api.project.application.port.out.ProjectSummaryRepositoryPort;
+import com.devmatch.api.project.domain.model.valueobject.ProjectStatus;
+import com.devmatch.api.shared.infrastructure.util.IdChunks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Adaptador JDBC de solo lectura con el resumen de proyectos para listados.
+ *
+ * Lee una fila por proyecto (con el username del propietario) y los nombres
+ * de tags en una segunda consulta por lote.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcProjectSummaryRepositoryAdapter implements ProjectSummaryRepositoryPort {
+
+    private static final String SELECT_SUMMARIES =
+            "SELECT p.id, p.title, p.description_summary, p.status, p.owner_id, u.username, "
+                    + "p.estimated_duration_weeks, p.max_team_size, p.is_public, p.is_active, p.created_at "
+                    + "FROM projects p LEFT JOIN users u ON u.id = p.owner_id "
+                    + "WHERE p.is_deleted = FALSE AND p.id IN (:ids)";
+
+    private static final String SELECT_TAG_NAMES =
+            "SELECT pt.project_id, t.name FROM project_tags pt JOIN tags t ON t.id = pt.tag_id "
+                    + "WHERE pt.is_deleted = FALSE AND pt.project_id IN (:ids) ORDER BY t.name";
+
+    private static final RowMapper<ProjectSummaryDto> SUMMARY_MAPPER = (rs, rowNum) -> new ProjectSummaryDto(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description_summary"),
+            ProjectStatus.valueOf(rs.getString("status")),
+            rs.getObject("owner_id", Long.class),
+            rs.getString("username"),
+            rs.getObject("estimated_duration_weeks", Integer.class),
+            rs.getObject("max_team_size", Integer.class),
+            new ArrayList<>(),
+            rs.getBoolean("is_public"),
+            rs.getBoolean("is_active"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public List<ProjectSummaryDto> findAllByIds(List<Long> projectIds) {
+        Map<Long, ProjectSummaryDto> summaries = new HashMap<>();
+        IdChunks.forEach(projectIds, chunk -> {
+            Map<String, Object> parameters = Map.of("ids", chunk);
+            namedParameterJdbcTemplate.query(SELECT_SUMMARIES, parameters, SUMMARY_MAPPER)
+                    .forEach(summary -> summaries.put(summary.getId(), summary));
+            namedParameterJdbcTemplate.query(SELECT_TAG_NAMES, parameters, rs -> {
+                ProjectSummaryDto summary = summaries.get(rs.getLong("project_id"));
+                if (summary != null) {
+                    summary.getTags().add(rs.getString("name"));
+                }
+            });
+        });
+        return projectIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
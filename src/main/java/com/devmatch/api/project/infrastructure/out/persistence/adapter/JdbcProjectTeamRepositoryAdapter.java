@@ -0,0 +1,49 @@
+package com.devmatch.api.project.infrastructure.out.persistence.adapter;
+
+import com.devmatch.api.project.application.port.out.ProjectTeamRepositoryPort;
+import com.devmatch.api.shared.infrastructure.util.IdChunks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adaptador JDBC con los equipos de varios proyectos en una única consulta
+ * por bloque de {@value IdChunks#MAX_IDS_PER_QUERY} proyectos.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcProjectTeamRepositoryAdapter implements ProjectTeamRepositoryPort {
+
+    private static final String SELECT_TEAMS =
+            "SELECT pm.project_id, pm.user_id, u.username, pm.member_role, "
+                    + "(SELECT pt.name FROM user_profile_types upt "
+                    + "JOIN profile_types pt ON pt.id = upt.profile_type_id "
+                    + "WHERE upt.user_id = pm.user_id AND upt.is_active = TRUE AND upt.is_deleted = FALSE "
+                    + "ORDER BY upt.created_at, pt.id LIMIT 1) AS profile_type "
+                    + "FROM project_members pm "
+                    + "JOIN users u ON u.id = pm.user_id "
+                    + "WHERE pm.project_id IN (:projectIds) AND pm.is_active = TRUE AND pm.is_deleted = FALSE "
+                    + "ORDER BY pm.project_id, pm.joined_at, pm.id";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public List<TeamMemberData> findActiveMembersByProjectIds(Collection<Long> projectIds) {
+        List<TeamMemberData> members = new ArrayList<>();
+        IdChunks.forEach(projectIds, chunk -> members.addAll(namedParameterJdbcTemplate.query(
+                SELECT_TEAMS,
+                Map.of("projectIds", chunk),
+                (rs, rowNum) -> new TeamMemberData(
+                        rs.getLong("project_id"),
+                        rs.getLong("user_id"),
+                        rs.getString("username"),
+                        rs.getString("member_role"),
+                        rs.getString("profile_type")))));
+        return members;
+    }
+}
@@ -0,0 +1,89 @@
+package com.devmatch.api.project.infrastructure.out.persistence.adapter;
+
+import com.devmatch.api.project.application.port.out.ProjectTextRepositoryPort;
+import com.devmatch.api.project.domain.model.valueobject.ProjectDescription;
+import com.devmatch.api.shared.application.text.KeyBackfillBatch;
+import com.devmatch.api.shared.application.text.SearchKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador JDBC con título y descripción de los proyectos, su clave de
+ * búsqueda y el extracto de la descripción.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcProjectTextRepositoryAdapter implements ProjectTextRepositoryPort {
+
+    private static final String SELECT_TEXT =
+            "SELECT id, title, description FROM projects WHERE is_deleted = FALSE";
+
+    private static final RowMapper<ProjectTextData> TEXT_MAPPER = (rs, rowNum) -> new ProjectTextData(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ProjectTextData> findAllIndexable() {
+        return jdbcTemplate.query(SELECT_TEXT, TEXT_MAPPER);
+    }
+
+    @Override
+    public Optional<ProjectTextData> findIndexable(Long projectId) {
+        return jdbcTemplate.query(SELECT_TEXT + " AND id = ?", TEXT_MAPPER, projectId)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public void refreshDerivedText(Long projectId, String title, String descriptionSummary) {
+        jdbcTemplate.update("UPDATE projects SET title_key = ?, description_summary = ? WHERE id = ?",
+                SearchKeys.normalize(title), descriptionSummary, projectId);
+    }
+
+    @Override
+    public KeyBackfillBatch backfillMissingKeys(long afterId, int batchSize) {
+        // La descripción completa solo se lee en las filas que aún no tienen extracto
+        List<DerivedTextSource> rows = jdbcTemplate.query(
+                "SELECT id, IF(title_key IS NULL, title, NULL) AS title, "
+                        + "IF(description_summary IS NULL, description, NULL) AS description "
+                        + "FROM projects WHERE id > ? ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new DerivedTextSource(rs.getLong("id"), rs.getString("title"), rs.getString("description")),
+                afterId, batchSize);
+
+        List<Object[]> keys = new ArrayList<>();
+        List<Object[]> summaries = new ArrayList<>();
+        for (DerivedTextSource row : rows) {
+            if (row.title() != null) {
+                keys.add(new Object[]{SearchKeys.normalize(row.title()), row.id()});
+            }
+            if (row.description() != null) {
+                // Las filas cargadas por scripts pueden no cumplir las validaciones de ProjectDescription
+                summaries.add(new Object[]{
+                        ProjectDescription.summarize(row.description(), ProjectDescription.SUMMARY_LENGTH), row.id()});
+            }
+        }
+        if (!keys.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE projects SET title_key = ? WHERE id = ?", keys);
+        }
+        if (!summaries.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE projects SET description_summary = ? WHERE id = ?", summaries);
+        }
+        long lastId = rows.isEmpty() ? afterId : rows.get(rows.size() - 1).id();
+        return new KeyBackfillBatch(lastId, rows.size() < batchSize, keys.size() + summaries.size());
+    }
+
+    /**
+     * Texto de un proyecto del que falta alguna columna derivada; null en lo que ya está calculado
+     */
+    private record DerivedTextSource(long id, String title, String description) {
+    }
+}
@@ -0,0 +1,200 @@
+package com.devmatch.api.project.infrastructure.out.persistence.repository;
+
+import com.devmatch.api.project.application.dto.ProjectSearchCriteria;
+import com.devmatch.api.project.infrastructure.out.persistence.entity.ProjectEntity;
+import com.devmatch.api.shared.application.text.SearchKeys;
+import com.devmatch.api.shared.application.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consultas paginadas por cursor (keyset) sobre proyectos.
+ *
+ * Ordena por {@code (created_at DESC, id DESC)} y continúa desde la última
+ * fila devuelta, de modo que cualquier página cuesta lo mismo que la primera.
+ * Todos los filtros y la visibilidad se aplican en SQL. Los tags se cargan
+ * de forma perezosa en lotes
+ * ({@code hibernate.default_batch_fetch_size}) solo para las filas de la página.
+ */
+@Repository
+public class ProjectKeysetQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Obtiene una página de proyectos públicos no eliminados
+     * @param criteria Filtros opcionales
+     * @param after Posición tras la que continuar (null para la primera página)
+     * @param maxResults Número máximo de filas
+     * @return Proyectos ordenados del más reciente al más antiguo
+     */
+    public List<ProjectEntity> findPublicPage(ProjectSearchCriteria criteria, KeysetCursor after, int maxResults) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT p.* FROM projects p WHERE p.is_public = TRUE AND p.is_deleted = FALSE");
+        Map<String, Object> parameters = new HashMap<>();
+
+        appendFilters(sql, parameters, criteria);
+        return executePage(sql, parameters, after, maxResults);
+    }
+
+    /**
+     * Igual que {@link #findPublicPage} pero devuelve solo la posición de cada
+     * proyecto, sin leer el resto de columnas (en particular la descripción)
+     * @param criteria Filtros opcionales
+     * @param after Posición tras la que continuar (null para la primera página)
+     * @param maxResults Número máximo de filas
+     * @return Posiciones {@code (created_at, id)} del más reciente al más antiguo
+     */
+    @SuppressWarnings("unchecked")
+    public List<KeysetCursor> findPublicPagePositions(ProjectSearchCriteria criteria, KeysetCursor after,
+                                                      int maxResults) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT p.created_at, p.id FROM projects p WHERE p.is_public = TRUE AND p.is_deleted = FALSE");
+        Map<String, Object> parameters = new HashMap<>();
+
+        appendFilters(sql, parameters, criteria);
+        appendKeyset(sql, parameters, after);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        parameters.forEach(query::setParameter);
+        query.setMaxResults(maxResults);
+        return ((List<Object[]>) query.getResultList()).stream()
+                .map(row -> new KeysetCursor(
+                        toLocalDateTime(row[0]),
+                        ((Number) row[1]).longValue()))
+                .toList();
+    }
+
+    /**
+     * Obtiene todos los proyectos públicos, activos y no eliminados sin unir
+     * sus tags, para respuestas que no los incluyen
+     * @return Proyectos ordenados del más reciente al más antiguo
+     */
+    public List<ProjectEntity> findAllPublicActive() {
+        StringBuilder sql = new StringBuilder(
+                "SELECT p.* FROM projects p WHERE p.is_public = TRUE AND p.is_active = TRUE AND p.is_deleted = FALSE");
+        return executePage(sql, new HashMap<>(), null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Obtiene una página de los proyectos no eliminados de un propietario que
+     * puede ver un usuario: los públicos, los suyos propios y aquellos de los
+     * que es miembro activo
+     * @param ownerId ID del propietario
+     * @param viewerId ID del usuario que consulta (null si es anónimo)
+     * @param criteria Filtros opcionales
+     * @param matchingIds Si no es null, solo se devuelven estos proyectos
+     * @param after Posición tras la que continuar (null para la primera página)
+     * @param maxResults Número máximo de filas
+     * @return Proyectos ordenados del más reciente al más antiguo
+     */
+    public List<ProjectEntity> findOwnerPage(Long ownerId, Long viewerId, ProjectSearchCriteria criteria,
+                                             Collection<Long> matchingIds, KeysetCursor after, int maxResults) {
+        if (matchingIds != null && matchingIds.isEmpty()) {
+            return List.of();
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "SELECT p.* FROM projects p WHERE p.owner_id = :ownerId AND p.is_deleted = FALSE");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("ownerId", ownerId);
+
+        if (viewerId == null) {
+            sql.append(" AND p.is_public = TRUE");
+        } else if (!viewerId.equals(ownerId)) {
+            sql.append(" AND (p.is_public = TRUE OR EXISTS (SELECT 1 FROM project_members pm")
+               .append(" WHERE pm.project_id = p.id AND pm.user_id = :viewerId")
+               .append(" AND pm.is_active = TRUE AND pm.is_deleted = FALSE))");
+            parameters.put("viewerId", viewerId);
+        }
+
+        if (matchingIds != null) {
+            sql.append(" AND p.id IN (:matchingIds)");
+            parameters.put("matchingIds", matchingIds);
+        }
+        appendFilters(sql, parameters, criteria);
+        return executePage(sql, parameters, after, maxResults);
+    }
+
+    private void appendFilters(StringBuilder sql, Map<String, Object> parameters, ProjectSearchCriteria criteria) {
+        String titlePattern = criteria.hasTitle() ? SearchKeys.containsPattern(criteria.title()) : null;
+        if (titlePattern != null) {
+            // Comparación sobre la clave normalizada: sin LOWER() y sin distinguir acentos
+            sql.append(" AND p.title_key LIKE :titleKey");
+            parameters.put("titleKey", titlePattern);
+        }
+        if (criteria.status() != null) {
+            sql.append(" AND p.status = :status");
+            parameters.put("status", criteria.status().name());
+        }
+        if (criteria.isActive() != null) {
+            sql.append(" AND p.is_active = :isActive");
+            parameters.put("isActive", criteria.isActive());
+        }
+        if (criteria.minTeamSize() != null) {
+            sql.append(" AND p.max_team_size >= :minTeamSize");
+            parameters.put("minTeamSize", criteria.minTeamSize());
+        }
+        if (criteria.maxTeamSize() != null) {
+            sql.append(" AND p.max_team_size <= :maxTeamSize");
+            parameters.put("maxTeamSize", criteria.maxTeamSize());
+        }
+        if (criteria.minDurationWeeks() != null) {
+            sql.append(" AND p.estimated_duration_weeks >= :minDurationWeeks");
+            parameters.put("minDurationWeeks", criteria.minDurationWeeks());
+        }
+        if (criteria.maxDurationWeeks() != null) {
+            sql.append(" AND p.estimated_duration_weeks <= :maxDurationWeeks");
+            parameters.put("maxDurationWeeks", criteria.maxDurationWeeks());
+        }
+        if (criteria.hasTags()) {
+            List<Long> tagIds = criteria.tagIds().stream().distinct().toList();
+            if (criteria.matchAllTags()) {
+                sql.append(" AND (SELECT COUNT(DISTINCT pt.tag_id) FROM project_tags pt WHERE pt.project_id = p.id")
+                   .append(" AND pt.is_deleted = FALSE AND pt.tag_id IN (:tagIds)) = :tagCount");
+                parameters.put("tagCount", tagIds.size());
+            } else {
+                sql.append(" AND EXISTS (SELECT 1 FROM project_tags pt WHERE pt.project_id = p.id")
+                   .append(" AND pt.is_deleted = FALSE AND pt.tag_id IN (:tagIds))");
+            }
+            parameters.put("tagIds", tagIds);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProjectEntity> executePage(StringBuilder sql, Map<String, Object> parameters,
+                                            KeysetCursor after, int maxResults) {
+        appendKeyset(sql, parameters, after);
+
+        Query query = entityManager.createNativeQuery(sql.toString(), ProjectEntity.class);
+        parameters.forEach(query::setParameter);
+        query.setMaxResults(maxResults);
+        return query.getResultList();
+    }
+
+    /**
+     * El tipo de un escalar nativo TIMESTAMP depende de la versión y configuración de Hibernate
+     */
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+
+    private void appendKeyset(StringBuilder sql, Map<String, Object> parameters, KeysetCursor after) {
+        if (after != null) {
+            sql.append(" AND (p.created_at < :afterCreatedAt OR (p.created_at = :afterCreatedAt AND p.id < :afterId))");
+            parameters.put("afterCreatedAt", after.createdAt());
+            parameters.put("afterId", after.id());
+        }
+        sql.append(" ORDER BY p.created_at DESC, p.id DESC");
+    }
+}
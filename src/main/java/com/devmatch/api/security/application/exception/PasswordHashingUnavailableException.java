@@ -0,0 +1,17 @@
+package com.devmatch.api.security.application.exception;
+
+/**
+ * Excepción lanzada cuando el pool de hashing de contraseñas está saturado
+ * y no puede aceptar más trabajo. Se traduce en un 503 para que el cliente
+ * reintente más tarde.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
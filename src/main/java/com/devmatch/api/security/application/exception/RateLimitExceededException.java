@@ -0,0 +1,12 @@
+package com.devmatch.api.security.application.exception;
+
+/**
+ * Excepción lanzada cuando un cliente supera el límite de intentos permitido
+ * en los endpoints de autenticación.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,41 @@
+package com.devmatch.api.security.application.port.out;
+
+import com.devmatch.api.user.domain.model.User;
+
+import java.util.Optional;
+
+/**
+ * Puerto de salida para tokens autocontenidos (modo {@code STATELESS}),
+ * que incluyen rol y estado del usuario firmados en sus claims.
+ */
+public interface StatelessTokenPort {
+
+    /**
+     * Genera un token con el rol y el estado del usuario
+     * @param user Usuario autenticado
+     * @return Token JWT firmado
+     */
+    String generateToken(User user);
+
+    /**
+     * Valida la firma y la expiración de un token y devuelve sus claims
+     * @param token Token JWT
+     * @return Claims del token o vacío si no es válido
+     */
+    Optional<TokenClaims> parseToken(String token);
+
+    /**
+     * Claims relevantes de un token autocontenido. El instante de emisión va
+     * en milisegundos para distinguir un token emitido justo después de una
+     * revocación del mismo segundo.
+     */
+    record TokenClaims(
+            String tokenId,
+            Long userId,
+            String username,
+            String role,
+            boolean active,
+            long issuedAtMillis,
+            long expiresAtEpochSecond) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.devmatch.api.security.application.port.out;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Puerto de salida para la tabla compartida de revocaciones de tokens.
+ * Cada nodo la lee de forma incremental por {@code revoked_at} para mantener
+ * su filtro en memoria.
+ */
+public interface TokenRevocationRepositoryPort {
+
+    /**
+     * Revoca un token concreto
+     * @param tokenId Identificador (jti) del token
+     * @param userId ID del usuario propietario del token
+     * @param expiresAt Instante en que el token caduca por sí mismo
+     */
+    void revokeToken(String tokenId, Long userId, Instant expiresAt);
+
+    /**
+     * Revoca todos los tokens de un usuario emitidos hasta ahora
+     * @param userId ID del usuario
+     * @param revokedAt Instante de la revocación
+     * @param expiresAt Instante a partir del cual ningún token afectado sigue vigente
+     */
+    void revokeUser(Long userId, Instant revokedAt, Instant expiresAt);
+
+    /**
+     * Obtiene todas las revocaciones vigentes
+     * @param now Instante actual, para descartar revocaciones ya caducadas
+     * @return Revocaciones ordenadas por ID
+     */
+    List<RevocationData> findActive(Instant now);
+
+    /**
+     * Obtiene las revocaciones vigentes registradas desde un instante
+     * @param since Instante de revocación desde el que leer (incluido)
+     * @param now Instante actual, para descartar revocaciones ya caducadas
+     * @return Revocaciones ordenadas por ID
+     */
+    List<RevocationData> findActiveSince(Instant since, Instant now);
+
+    /**
+     * Elimina las revocaciones cuyos tokens ya han caducado
+     * @param now Instante actual
+     * @return Número de filas eliminadas
+     */
+    int deleteExpired(Instant now);
+
+    /**
+     * Fila de la tabla de revocaciones. {@code tokenId} es null en las
+     * revocaciones por usuario.
+     */
+    record RevocationData(long id, String tokenId, Long userId, Instant revokedAt, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.devmatch.api.security.application.service;
+
+import com.devmatch.api.security.application.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servicio de hashing de contraseñas con pool dedicado.
+ *
+ * El trabajo de BCrypt se ejecuta en un pool dimensionado por CPU con cola
+ * acotada, de forma que una ráfaga de logins no ocupe todos los hilos del
+ * servidor. Si la cola está llena la petición se rechaza al momento con
+ * {@link PasswordHashingUnavailableException} (503).
+ *
+ * Métricas: {@code security.password.hashing.queue.depth},
+ * {@code security.password.hashing.duration} y
+ * {@code security.password.hashing.rejected}.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordEncoder targetEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            @Value("${security.password.hashing.pool-size:0}") int poolSize,
+            @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.hashing.timeout-ms:5000}") long timeoutMillis,
+            @Value("${security.password.bcrypt-cost:0}") int bcryptCost,
+            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        // Con un coste configurado los hashes nuevos usan ese coste y los antiguos se rehashean en el login
+        this.targetEncoder = bcryptCost > 0 ? new BCryptPasswordEncoder(bcryptCost) : passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("security.password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Tareas de hashing en espera")
+                .register(meterRegistry);
+        Gauge.builder("security.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Tareas de hashing en ejecución")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("security.password.hashing.duration")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("security.password.hashing.duration")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("security.password.hashing.rejected")
+                .description("Tareas de hashing rechazadas por cola llena")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Comprueba una contraseña contra su hash en el pool de hashing
+     * @param rawPassword Contraseña en claro
+     * @param encodedPassword Hash almacenado
+     * @return true si coinciden
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Genera el hash de una contraseña con el coste configurado
+     * @param rawPassword Contraseña en claro
+     * @return Hash de la contraseña
+     */
+    public String encode(String rawPassword) {
+        return execute(encodeTimer, () -> targetEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Indica si un hash se generó con un coste inferior al configurado
+     * @param encodedPassword Hash almacenado
+     * @return true si conviene rehashear la contraseña
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return targetEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingUnavailableException("Servicio de autenticación saturado, inténtalo de nuevo en unos segundos", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingUnavailableException("Tiempo de espera agotado en el servicio de autenticación", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Operación de autenticación interrumpida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Error en el hashing de contraseña", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
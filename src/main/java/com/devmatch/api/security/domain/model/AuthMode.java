@@ -0,0 +1,17 @@
+package com.devmatch.api.security.domain.model;
+
+/**
+ * Modo de autorización de las peticiones autenticadas.
+ */
+public enum AuthMode {
+
+    /**
+     * El token solo identifica al usuario; rol y estado se cargan de base de datos
+     */
+    STATEFUL,
+
+    /**
+     * Rol y estado viajan firmados en el token; la revocación se resuelve en memoria
+     */
+    STATELESS
+}
@@ -0,0 +1,58 @@
+package com.devmatch.api.security.infrastructure.in.security;
+
+import com.devmatch.api.security.application.exception.RateLimitExceededException;
+import com.devmatch.api.shared.application.util.Hashing;
+import com.devmatch.api.shared.infrastructure.util.StripedTokenBucketLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Limitador de intentos para login y registro, por IP de cliente y por
+ * nombre de usuario. Se evalúa antes de tocar el repositorio de usuarios o
+ * BCrypt, así que un intento rechazado no cuesta ninguna consulta ni hash.
+ */
+@Component
+public class AuthRateLimiter {
+
+    private final StripedTokenBucketLimiter ipLimiter;
+    private final StripedTokenBucketLimiter usernameLimiter;
+    private final Counter ipRejections;
+    private final Counter usernameRejections;
+
+    public AuthRateLimiter(
+            @Value("${security.rate-limit.stripes:64}") int stripes,
+            @Value("${security.rate-limit.slots-per-stripe:4096}") int slotsPerStripe,
+            @Value("${security.rate-limit.ip.capacity:20}") int ipCapacity,
+            @Value("${security.rate-limit.ip.refill-per-minute:20}") double ipRefillPerMinute,
+            @Value("${security.rate-limit.username.capacity:5}") int usernameCapacity,
+            @Value("${security.rate-limit.username.refill-per-minute:5}") double usernameRefillPerMinute,
+            MeterRegistry meterRegistry) {
+        this.ipLimiter = new StripedTokenBucketLimiter(stripes, slotsPerStripe, ipCapacity, ipRefillPerMinute);
+        this.usernameLimiter = new StripedTokenBucketLimiter(stripes, slotsPerStripe, usernameCapacity, usernameRefillPerMinute);
+        this.ipRejections = Counter.builder("security.rate-limit.rejected").tag("key", "ip").register(meterRegistry);
+        this.usernameRejections = Counter.builder("security.rate-limit.rejected").tag("key", "username").register(meterRegistry);
+    }
+
+    /**
+     * Consume un intento para la IP y, si se indica, para el nombre de usuario
+     * @param clientIp IP del cliente
+     * @param username Nombre de usuario del intento (opcional)
+     * @throws RateLimitExceededException si alguno de los dos límites se ha agotado
+     */
+    public void checkAttempt(String clientIp, String username) {
+        if (clientIp != null && !ipLimiter.tryAcquire(Hashing.hash64(clientIp))) {
+            ipRejections.increment();
+            throw new RateLimitExceededException("Demasiados intentos desde esta dirección, inténtalo más tarde");
+        }
+
+        if (username != null && !username.isBlank()
+                && !usernameLimiter.tryAcquire(Hashing.hash64(username.trim().toLowerCase(Locale.ROOT)))) {
+            usernameRejections.increment();
+            throw new RateLimitExceededException("Demasiados intentos para este usuario, inténtalo más tarde");
+        }
+    }
+}
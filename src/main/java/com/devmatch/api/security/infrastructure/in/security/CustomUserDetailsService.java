@@ -3,40 +3,74 @@ package com.devmatch.api.security.infrastructure.in.security;
 import com.devmatch.api.user.application.port.out.UserRepositoryPort;
 import com.devmatch.api.user.domain.model.User;
 import com.devmatch.api.security.infrastructure.out.adapter.UserPrincipalAdapter;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepositoryPort userRepositoryPort;
 
+    /**
+     * Caché de principals por ID de usuario. Se invalida de forma precisa desde
+     * {@link UserSecurityEventListener} y el TTL acota cualquier cambio que no
+     * pase por los casos de uso.
+     */
+    private final Cache<Long, UserDetails> principalCache;
+
+    public CustomUserDetailsService(
+            UserRepositoryPort userRepositoryPort,
+            @Value("${security.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        this.userRepositoryPort = userRepositoryPort;
+        this.principalCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principalCache, "security.principals");
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepositoryPort.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado: " + username));
 
-        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().getName()));
-
-        return new UserPrincipalAdapter(
-            user.getId(),
-            user.getUsername().getValue(),
-            user.getPasswordHash().getValue(),
-            authorities
-        );
+        return toPrincipal(user);
     }
 
     public UserDetails loadUserById(Long id) {
+        return principalCache.get(id, this::loadPrincipalById);
+    }
+
+    /**
+     * Elimina de la caché el principal de un usuario
+     * @param id ID del usuario
+     */
+    public void evictUser(Long id) {
+        principalCache.invalidate(id);
+    }
+
+    private UserDetails loadPrincipalById(Long id) {
         User user = userRepositoryPort.findById(id)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado con ID: " + id));
 
+        return toPrincipal(user);
+    }
+
+    private UserDetails toPrincipal(User user) {
         List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().getName()));
 
         return new UserPrincipalAdapter(
@@ -46,4 +80,4 @@ public class CustomUserDetailsService implements UserDetailsService {
             authorities
         );
     }
-} 
\ No newline at end of file
+}
@@ -1,12 +1,20 @@
 package com.devmatch.api.security.infrastructure.in.security;
 
 import com.devmatch.api.security.application.port.out.AuthTokenRepositoryPort;
+import com.devmatch.api.security.application.port.out.StatelessTokenPort;
+import com.devmatch.api.security.application.port.out.StatelessTokenPort.TokenClaims;
+import com.devmatch.api.security.domain.model.AuthMode;
+import com.devmatch.api.security.infrastructure.out.adapter.UserPrincipalAdapter;
+import com.devmatch.api.shared.infrastructure.tracing.RequestTrace;
+import com.devmatch.api.shared.infrastructure.tracing.RequestTraceContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -14,6 +22,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -21,6 +31,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final AuthTokenRepositoryPort authTokenRepositoryPort;
     private final CustomUserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final StatelessTokenPort statelessTokenPort;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final SecurityRouteClassifier securityRouteClassifier;
+
+    @Value("${security.auth.mode:STATEFUL}")
+    private AuthMode authMode;
+
+    /**
+     * Las rutas públicas y de autenticación no llevan token que procesar:
+     * se omite el filtro por completo en lugar de evaluarlo en cada petición
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return securityRouteClassifier.isAnonymousRoute(request);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -28,38 +54,45 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
-        final String authHeader = request.getHeader("Authorization");
-        final String requestPath = request.getRequestURI();
-        final String method = request.getMethod();
-
-        System.out.println("=== JWT Filter Debug ===");
-        System.out.println("Path: " + requestPath);
-        System.out.println("Method: " + method);
-        System.out.println("Auth Header: " + (authHeader != null ? "Present" : "Missing"));
-
-        // Permitir acceso sin token a las rutas de autenticación
-        if (requestPath.contains("/api/v1/auth/")) {
-            System.out.println("Skipping auth path");
-            filterChain.doFilter(request, response);
-            return;
+        RequestTrace trace = RequestTraceContext.current();
+        long start = trace != null ? System.nanoTime() : 0L;
+
+        authenticate(request);
+
+        if (trace != null) {
+            trace.recordSpan("jwtFilter", System.nanoTime() - start);
         }
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(HttpServletRequest request) {
+        final String authHeader = request.getHeader("Authorization");
 
         // Si no hay header de autorización, continuar con el filtro
         // (Spring Security manejará la autenticación requerida)
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            System.out.println("No valid auth header, continuing");
-            filterChain.doFilter(request, response);
             return;
         }
 
         try {
             final String jwt = authTokenRepositoryPort.extractToken(authHeader);
-            final Long userId = authTokenRepositoryPort.validateTokenAndGetUserId(jwt);
-            System.out.println("Token validated for userId: " + userId);
+
+            if (authMode == AuthMode.STATELESS) {
+                authenticateFromClaims(jwt, request);
+                return;
+            }
+
+            // Los tokens ya verificados se resuelven desde caché sin volver a comprobar la firma
+            Long userId = verifiedTokenCache.getUserId(jwt);
+            if (userId == null) {
+                userId = authTokenRepositoryPort.validateTokenAndGetUserId(jwt);
+                if (userId != null) {
+                    verifiedTokenCache.put(jwt, userId);
+                }
+            }
 
             if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 UserDetails userDetails = userDetailsService.loadUserById(userId);
-                System.out.println("User details loaded, authorities: " + userDetails.getAuthorities());
                 
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                     userDetails,
@@ -68,18 +101,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 );
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
-                System.out.println("Authentication set in context successfully");
-            } else {
-                System.out.println("UserId is null or authentication already exists");
             }
         } catch (Exception e) {
             logger.error("No se pudo establecer la autenticación del usuario", e);
-            System.out.println("Error during authentication: " + e.getMessage());
             // No establecer la autenticación en caso de error
             // Spring Security manejará la respuesta de error
         }
+    }
 
-        System.out.println("=== End JWT Filter Debug ===");
-        filterChain.doFilter(request, response);
+    /**
+     * Modo STATELESS: construye el principal únicamente a partir de los claims
+     * firmados del token y del registro de revocaciones en memoria, sin acceder
+     * a base de datos.
+     */
+    private void authenticateFromClaims(String jwt, HttpServletRequest request) {
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            return;
+        }
+
+        Optional<TokenClaims> parsed = statelessTokenPort.parseToken(jwt);
+        if (parsed.isEmpty()) {
+            return;
+        }
+
+        TokenClaims claims = parsed.get();
+        if (!claims.active() || claims.role() == null || tokenRevocationRegistry.isRevoked(claims)) {
+            return;
+        }
+
+        UserPrincipalAdapter principal = new UserPrincipalAdapter(
+            claims.userId(),
+            claims.username(),
+            "",
+            List.of(new SimpleGrantedAuthority("ROLE_" + claims.role()))
+        );
+
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+            principal,
+            null,
+            principal.getAuthorities()
+        );
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+package com.devmatch.api.security.infrastructure.in.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tabla de rutas precompilada que clasifica cada petición una única vez como
+ * pública, de autenticación o protegida.
+ *
+ * Las rutas públicas del catálogo (proyectos públicos y tags) y las de
+ * autenticación no necesitan token, así que {@link JwtAuthenticationFilter}
+ * las deja pasar sin parsear cabeceras ni poblar el contexto de seguridad.
+ * Los patrones se compilan al arrancar y se agrupan por método HTTP.
+ */
+@Component
+public class SecurityRouteClassifier {
+
+    public enum RouteAccess {
+        PUBLIC,
+        AUTH,
+        PROTECTED
+    }
+
+    private static final String ANY_METHOD = "*";
+
+    private final Map<String, List<Route>> routesByMethod = new HashMap<>();
+
+    public SecurityRouteClassifier() {
+        PathPatternParser parser = new PathPatternParser();
+
+        // Autenticación (login / registro)
+        register(parser, ANY_METHOD, "/api/v1/users/auth/**", RouteAccess.AUTH);
+        register(parser, ANY_METHOD, "/api/v1/auth/**", RouteAccess.AUTH);
+
+        // Catálogo público de proyectos
+        register(parser, HttpMethod.GET.name(), "/api/v1/projects/public/**", RouteAccess.PUBLIC);
+        register(parser, HttpMethod.POST.name(), "/api/v1/projects/public/search/**", RouteAccess.PUBLIC);
+
+        // Catálogo público de tags
+        register(parser, HttpMethod.GET.name(), "/api/v1/tags", RouteAccess.PUBLIC);
+        register(parser, HttpMethod.GET.name(), "/api/v1/tags/search/{name}", RouteAccess.PUBLIC);
+        register(parser, HttpMethod.GET.name(), "/api/v1/tags/by-type/{tagType}", RouteAccess.PUBLIC);
+    }
+
+    /**
+     * Clasifica una petición según su método y ruta
+     * @param request Petición HTTP
+     * @return Tipo de acceso de la ruta; PROTECTED si no coincide con ninguna entrada
+     */
+    public RouteAccess classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        PathContainer pathContainer = PathContainer.parsePath(path);
+
+        RouteAccess access = match(routesByMethod.get(request.getMethod()), pathContainer);
+        if (access == null) {
+            access = match(routesByMethod.get(ANY_METHOD), pathContainer);
+        }
+        return access != null ? access : RouteAccess.PROTECTED;
+    }
+
+    /**
+     * Indica si la petición puede atenderse sin token
+     * @param request Petición HTTP
+     * @return true para rutas públicas y de autenticación
+     */
+    public boolean isAnonymousRoute(HttpServletRequest request) {
+        return classify(request) != RouteAccess.PROTECTED;
+    }
+
+    private RouteAccess match(List<Route> routes, PathContainer path) {
+        if (routes == null) {
+            return null;
+        }
+        for (Route route : routes) {
+            if (route.pattern().matches(path)) {
+                return route.access();
+            }
+        }
+        return null;
+    }
+
+    private void register(PathPatternParser parser, String method, String pattern, RouteAccess access) {
+        routesByMethod.computeIfAbsent(method, key -> new ArrayList<>())
+                .add(new Route(parser.parse(pattern), access));
+    }
+
+    private record Route(PathPattern pattern, RouteAccess access) {
+    }
+}
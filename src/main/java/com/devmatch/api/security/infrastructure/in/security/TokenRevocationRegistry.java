@@ -0,0 +1,242 @@
+package com.devmatch.api.security.infrastructure.in.security;
+
+import com.devmatch.api.security.application.port.out.StatelessTokenPort.TokenClaims;
+import com.devmatch.api.security.application.port.out.TokenRevocationRepositoryPort;
+import com.devmatch.api.security.application.port.out.TokenRevocationRepositoryPort.RevocationData;
+import com.devmatch.api.security.domain.model.AuthMode;
+import com.devmatch.api.shared.application.util.RebuildTracker;
+import com.devmatch.api.shared.infrastructure.util.BloomFilter;
+import com.devmatch.api.user.application.event.TokenRevokedEvent;
+import com.devmatch.api.user.application.event.UserSecurityChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Registro en memoria de tokens y usuarios revocados para el modo
+ * {@link AuthMode#STATELESS}.
+ *
+ * Los IDs de token revocados pasan primero por un filtro de Bloom y solo los
+ * positivos se confirman contra el conjunto exacto. Las revocaciones por
+ * usuario invalidan todo token emitido hasta el instante de la revocación,
+ * comparando en milisegundos. El estado se comparte entre nodos a través de
+ * la tabla {@code token_revocations}: cada nodo la lee de forma incremental y
+ * la reconstruye por completo periódicamente para descartar entradas caducadas.
+ *
+ * La lectura incremental es por {@code revoked_at} con un margen hacia atrás
+ * ({@code lookback-ms}), como la de {@code ProjectChangeFeed}: las filas se
+ * insertan antes del commit de transacciones que pueden confirmar en otro
+ * orden que el de sus IDs, así que una lectura por {@code id > último} se
+ * saltaría una fila con ID menor confirmada tarde. Las filas ya vistas se
+ * descartan por ID.
+ *
+ * Las filas se escriben dentro de la transacción que origina la revocación y
+ * el estado local solo se actualiza tras el commit, de modo que un rollback
+ * no deja revocaciones fantasma en este nodo.
+ */
+@Component
+@Slf4j
+public class TokenRevocationRegistry {
+
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+
+    private final TokenRevocationRepositoryPort tokenRevocationRepositoryPort;
+    private final boolean enabled;
+    private final long tokenLifetimeMillis;
+    private final int expectedRevocations;
+    private final Duration lookback;
+
+    private volatile State state;
+
+    // Lectura incremental y reconstrucción se excluyen: la reconstrucción no pierde lo que la lectura ya dio por visto
+    private final Object readLock = new Object();
+    private final Map<Long, Instant> seenRevocations = new HashMap<>();
+    private Instant lastRefreshStartedAt = Instant.now();
+
+    private final RebuildTracker<Consumer<State>> rebuildTracker = new RebuildTracker<>();
+
+    public TokenRevocationRegistry(
+            TokenRevocationRepositoryPort tokenRevocationRepositoryPort,
+            @Value("${security.auth.mode:STATEFUL}") AuthMode authMode,
+            @Value("${jwt.expiration}") long tokenLifetimeMillis,
+            @Value("${security.revocation.expected-revocations:10000}") int expectedRevocations,
+            @Value("${security.revocation.lookback-ms:30000}") long lookbackMillis) {
+        this.tokenRevocationRepositoryPort = tokenRevocationRepositoryPort;
+        this.enabled = authMode == AuthMode.STATELESS;
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+        this.expectedRevocations = expectedRevocations;
+        this.lookback = Duration.ofMillis(lookbackMillis);
+        this.state = new State(new BloomFilter(expectedRevocations, BLOOM_FALSE_POSITIVE_RATE));
+    }
+
+    @PostConstruct
+    void initialize() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Indica si un token ha sido revocado, ya sea de forma individual o por usuario
+     * @param claims Claims del token ya verificado
+     * @return true si el token no debe aceptarse
+     */
+    public boolean isRevoked(TokenClaims claims) {
+        State current = state;
+
+        Long userRevokedAt = current.revokedUsers.get(claims.userId());
+        if (userRevokedAt != null && claims.issuedAtMillis() <= userRevokedAt) {
+            return true;
+        }
+
+        String tokenId = claims.tokenId();
+        return tokenId != null
+                && current.tokenIds.mightContain(tokenId)
+                && current.revokedTokenIds.contains(tokenId);
+    }
+
+    /**
+     * Todo cambio de seguridad de un usuario revoca sus tokens emitidos, ya que
+     * llevan firmados el rol y el estado anteriores. La fila se registra dentro
+     * de la misma transacción que el cambio.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        tokenRevocationRepositoryPort.revokeUser(
+                event.userId(), event.occurredAt(), event.occurredAt().plusMillis(tokenLifetimeMillis));
+    }
+
+    /**
+     * Aplica en este nodo la revocación por usuario una vez confirmada
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSecurityCommitted(UserSecurityChangedEvent event) {
+        if (enabled) {
+            applyLocal(target -> target.addUser(event.userId(), event.occurredAt().toEpochMilli()));
+        }
+    }
+
+    /**
+     * Aplica en este nodo la revocación de un token (cierre de sesión) una vez
+     * confirmada; la fila la escribe el caso de uso dentro de su transacción
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTokenRevoked(TokenRevokedEvent event) {
+        if (enabled) {
+            applyLocal(target -> target.addToken(event.tokenId()));
+        }
+    }
+
+    /**
+     * Incorpora las revocaciones registradas por otros nodos desde la última lectura
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.refresh-ms:5000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (readLock) {
+            Instant startedAt = Instant.now();
+            try {
+                Instant since = lastRefreshStartedAt.minus(lookback);
+                List<RevocationData> revocations = tokenRevocationRepositoryPort.findActiveSince(since, startedAt);
+
+                State current = state;
+                for (RevocationData revocation : revocations) {
+                    if (seenRevocations.putIfAbsent(revocation.id(), startedAt) == null) {
+                        apply(current, revocation);
+                    }
+                }
+                // Una fila vista antes de since - lookback ya no puede volver a aparecer en la ventana
+                Instant forgetBefore = since.minus(lookback);
+                seenRevocations.values().removeIf(seenAt -> seenAt.isBefore(forgetBefore));
+                lastRefreshStartedAt = startedAt;
+            } catch (Exception e) {
+                // La siguiente lectura parte del mismo instante y recoge lo que falte
+                log.warn("No se pudo refrescar el registro de revocaciones: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reconstruye el registro desde cero, descartando revocaciones caducadas y
+     * recuperando cualquier fila que la lectura incremental hubiera saltado
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.rebuild-ms:600000}",
+            initialDelayString = "${security.revocation.rebuild-ms:600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (readLock) {
+            rebuildTracker.begin();
+            try {
+                Instant now = Instant.now();
+                tokenRevocationRepositoryPort.deleteExpired(now);
+                List<RevocationData> revocations = tokenRevocationRepositoryPort.findActive(now);
+
+                State rebuilt = new State(new BloomFilter(
+                        Math.max(expectedRevocations, revocations.size() * 2), BLOOM_FALSE_POSITIVE_RATE));
+                revocations.forEach(revocation -> apply(rebuilt, revocation));
+                synchronized (this) {
+                    // Las revocaciones locales confirmadas después de la lectura no están en las filas leídas
+                    rebuildTracker.swapped().forEach(change -> change.accept(rebuilt));
+                    state = rebuilt;
+                }
+                log.debug("Registro de revocaciones reconstruido con {} entradas", revocations.size());
+            } catch (Exception e) {
+                log.warn("No se pudo reconstruir el registro de revocaciones: {}", e.getMessage());
+            } finally {
+                rebuildTracker.end();
+            }
+        }
+    }
+
+    private synchronized void applyLocal(Consumer<State> change) {
+        change.accept(state);
+        rebuildTracker.changed(change);
+    }
+
+    private static void apply(State target, RevocationData revocation) {
+        if (revocation.tokenId() != null) {
+            target.addToken(revocation.tokenId());
+        } else if (revocation.userId() != null) {
+            target.addUser(revocation.userId(), revocation.revokedAt().toEpochMilli());
+        }
+    }
+
+    private static final class State {
+        private final BloomFilter tokenIds;
+        private final Set<String> revokedTokenIds = ConcurrentHashMap.newKeySet();
+        private final Map<Long, Long> revokedUsers = new ConcurrentHashMap<>();
+
+        private State(BloomFilter tokenIds) {
+            this.tokenIds = tokenIds;
+        }
+
+        private void addToken(String tokenId) {
+            revokedTokenIds.add(tokenId);
+            tokenIds.put(tokenId);
+        }
+
+        private void addUser(Long userId, long revokedAtMillis) {
+            revokedUsers.merge(userId, revokedAtMillis, Math::max);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.devmatch.api.security.infrastructure.in.security;
+
+import com.devmatch.api.user.application.event.UserSecurityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalida las cachés de seguridad de un usuario cuando cambia su rol, su
+ * estado o su contraseña. Se ejecuta tras el commit para que la siguiente
+ * carga lea ya el estado persistido.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSecurityEventListener {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        userDetailsService.evictUser(event.userId());
+
+        // Un cambio de rol no invalida los tokens emitidos, el resto sí
+        if (event.reason() != UserSecurityChangedEvent.Reason.ROLE_CHANGED) {
+            verifiedTokenCache.evictUser(event.userId());
+        }
+    }
+}
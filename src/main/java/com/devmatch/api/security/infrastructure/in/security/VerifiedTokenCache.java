@@ -0,0 +1,184 @@
+package com.devmatch.api.security.infrastructure.in.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caché de tokens JWT ya verificados.
+ *
+ * Evita volver a parsear el token y comprobar la firma HMAC cuando un cliente
+ * reenvía el mismo bearer token. La clave es un digest SHA-256 del token (nunca
+ * el token en claro) y cada entrada caduca exactamente cuando caduca el token.
+ * Las estadísticas de aciertos y fallos se publican como métricas
+ * {@code cache.gets{cache=security.verified-tokens}}.
+ *
+ * Un índice secundario de usuario a digests permite revocar los tokens de un
+ * usuario sin recorrer toda la caché.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "security.verified-tokens";
+
+    private final Cache<String, VerifiedToken> cache;
+    private final Map<Long, Set<String>> keysByUser = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+
+    public VerifiedTokenCache(
+            @Value("${security.token-cache.maximum-size:10000}") long maximumSize,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .evictionListener((String key, VerifiedToken verified, RemovalCause cause) -> {
+                    if (verified != null) {
+                        forgetKey(verified.userId(), key);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Devuelve el ID de usuario de un token verificado previamente
+     * @param token Token JWT sin el prefijo "Bearer "
+     * @return ID del usuario o null si el token no está en caché o ya caducó
+     */
+    public Long getUserId(String token) {
+        String key = digest(token);
+        VerifiedToken verified = cache.getIfPresent(key);
+        if (verified == null) {
+            return null;
+        }
+        if (verified.expiresAtMillis() <= System.currentTimeMillis()) {
+            cache.invalidate(key);
+            forgetKey(verified.userId(), key);
+            return null;
+        }
+        return verified.userId();
+    }
+
+    /**
+     * Registra un token cuya firma acaba de ser validada.
+     * Los tokens sin claim "exp" no se cachean.
+     * @param token Token JWT ya verificado
+     * @param userId ID del usuario obtenido al validar el token
+     */
+    public void put(String token, Long userId) {
+        Long expiresAtMillis = readExpiration(token);
+        if (expiresAtMillis == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        String key = digest(token);
+        // El índice se actualiza antes que la caché para que un evictUser concurrente vea la clave
+        keysByUser.compute(userId, (id, keys) -> {
+            Set<String> userKeys = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            userKeys.add(key);
+            return userKeys;
+        });
+        cache.put(key, new VerifiedToken(userId, expiresAtMillis));
+
+        // Si evictUser vació el índice entre los dos pasos, puede haber invalidado antes de que la entrada existiera
+        Set<String> registered = keysByUser.get(userId);
+        if (registered == null || !registered.contains(key)) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Elimina todos los tokens cacheados de un usuario (revocación por usuario)
+     * @param userId ID del usuario
+     */
+    public void evictUser(Long userId) {
+        Set<String> keys = keysByUser.remove(userId);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    /**
+     * Quita un digest del índice por usuario cuando su entrada sale de la caché
+     */
+    private void forgetKey(Long userId, String key) {
+        keysByUser.computeIfPresent(userId, (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    /**
+     * Lee el claim "exp" del payload. Solo se llama con tokens cuya firma ya se
+     * ha comprobado, por lo que no es necesario volver a verificarla.
+     */
+    private Long readExpiration(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            JsonNode payload = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            JsonNode exp = payload.get("exp");
+            return exp != null && exp.canConvertToLong() ? TimeUnit.SECONDS.toMillis(exp.asLong()) : null;
+        } catch (Exception e) {
+            log.debug("No se pudo leer la expiración del token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private record VerifiedToken(Long userId, long expiresAtMillis) {
+    }
+
+    /**
+     * Cada entrada vive hasta la expiración de su propio token
+     */
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
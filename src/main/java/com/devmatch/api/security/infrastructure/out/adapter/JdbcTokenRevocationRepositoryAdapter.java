@@ -0,0 +1,63 @@
+package com.devmatch.api.security.infrastructure.out.adapter;
+
+import com.devmatch.api.security.application.port.out.TokenRevocationRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Adaptador JDBC de la tabla {@code token_revocations}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcTokenRevocationRepositoryAdapter implements TokenRevocationRepositoryPort {
+
+    private static final RowMapper<RevocationData> REVOCATION_MAPPER = (rs, rowNum) -> new RevocationData(
+            rs.getLong("id"),
+            rs.getString("token_id"),
+            rs.getObject("user_id", Long.class),
+            rs.getTimestamp("revoked_at").toInstant(),
+            rs.getTimestamp("expires_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void revokeToken(String tokenId, Long userId, Instant expiresAt) {
+        jdbcTemplate.update(
+                "INSERT INTO token_revocations (token_id, user_id, revoked_at, expires_at) VALUES (?, ?, ?, ?)",
+                tokenId, userId, Timestamp.from(Instant.now()), Timestamp.from(expiresAt));
+    }
+
+    @Override
+    public void revokeUser(Long userId, Instant revokedAt, Instant expiresAt) {
+        jdbcTemplate.update(
+                "INSERT INTO token_revocations (token_id, user_id, revoked_at, expires_at) VALUES (NULL, ?, ?, ?)",
+                userId, Timestamp.from(revokedAt), Timestamp.from(expiresAt));
+    }
+
+    @Override
+    public List<RevocationData> findActive(Instant now) {
+        return jdbcTemplate.query(
+                "SELECT id, token_id, user_id, revoked_at, expires_at FROM token_revocations "
+                        + "WHERE expires_at > ? ORDER BY id",
+                REVOCATION_MAPPER, Timestamp.from(now));
+    }
+
+    @Override
+    public List<RevocationData> findActiveSince(Instant since, Instant now) {
+        return jdbcTemplate.query(
+                "SELECT id, token_id, user_id, revoked_at, expires_at FROM token_revocations "
+                        + "WHERE revoked_at >= ? AND expires_at > ? ORDER BY id",
+                REVOCATION_MAPPER, Timestamp.from(since), Timestamp.from(now));
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        return jdbcTemplate.update("DELETE FROM token_revocations WHERE expires_at <= ?", Timestamp.from(now));
+    }
+}
@@ -0,0 +1,88 @@
+package com.devmatch.api.security.infrastructure.out.adapter;
+
+import com.devmatch.api.security.application.port.out.StatelessTokenPort;
+import com.devmatch.api.user.domain.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adaptador JWT para tokens autocontenidos: el rol y el estado del usuario
+ * se firman en el token para no consultar la base de datos en cada petición.
+ */
+@Component
+public class JwtStatelessTokenAdapter implements StatelessTokenPort {
+
+    private static final String USERNAME_CLAIM = "username";
+    private static final String ROLE_CLAIM = "role";
+    private static final String ACTIVE_CLAIM = "active";
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
+    private final Key signingKey;
+    private final long expirationMillis;
+
+    public JwtStatelessTokenAdapter(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.expiration}") long expirationMillis) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.expirationMillis = expirationMillis;
+    }
+
+    @Override
+    public String generateToken(User user) {
+        Date now = new Date();
+        return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(String.valueOf(user.getId()))
+                .claim(USERNAME_CLAIM, user.getUsername().getValue())
+                .claim(ROLE_CLAIM, user.getRole().getName())
+                .claim(ACTIVE_CLAIM, user.isActive())
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + expirationMillis))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Override
+    public Optional<TokenClaims> parseToken(String token) {
+        try {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(signingKey)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+
+            return Optional.of(new TokenClaims(
+                    claims.getId(),
+                    Long.valueOf(claims.getSubject()),
+                    claims.get(USERNAME_CLAIM, String.class),
+                    claims.get(ROLE_CLAIM, String.class),
+                    Boolean.TRUE.equals(claims.get(ACTIVE_CLAIM, Boolean.class)),
+                    issuedAtMillis(claims),
+                    claims.getExpiration().getTime() / 1000
+            ));
+        } catch (JwtException | IllegalArgumentException | NullPointerException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * El claim "iat" estándar solo tiene precisión de segundos; los tokens sin
+     * "iat_ms" se tratan como emitidos al inicio de ese segundo
+     */
+    private static long issuedAtMillis(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        return issuedAtMillis != null ? issuedAtMillis : claims.getIssuedAt().getTime();
+    }
+}
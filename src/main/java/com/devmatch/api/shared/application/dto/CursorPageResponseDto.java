@@ -0,0 +1,23 @@
+package com.devmatch.api.shared.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página de resultados con paginación por cursor (keyset).
+ *
+ * {@code nextCursor} es un valor opaco que se envía tal cual para obtener la
+ * página siguiente; es null cuando {@code hasMore} es false.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
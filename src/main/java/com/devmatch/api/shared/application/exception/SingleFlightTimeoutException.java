@@ -0,0 +1,13 @@
+package com.devmatch.api.shared.application.exception;
+
+/**
+ * Excepción lanzada cuando una petición lleva demasiado tiempo esperando a
+ * que otra termine la misma carga. Se traduce en un 503 para que el cliente
+ * reintente en lugar de acumular hilos bloqueados.
+ */
+public class SingleFlightTimeoutException extends RuntimeException {
+
+    public SingleFlightTimeoutException(String message) {
+        super(message);
+    }
+}
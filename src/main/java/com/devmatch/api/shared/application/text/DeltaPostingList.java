@@ -0,0 +1,103 @@
+package com.devmatch.api.shared.application.text;
+
+import java.util.Arrays;
+
+/**
+ * Lista de apariciones (posting list) de un término, comprimida.
+ *
+ * Cada entrada es un par (documento, frecuencia). Los documentos se añaden en
+ * orden creciente y se guardan como diferencia con el anterior; diferencias y
+ * frecuencias se codifican como varint, de modo que la mayoría ocupan un byte.
+ * Solo admite añadir al final; las bajas se gestionan fuera con lápidas.
+ */
+public class DeltaPostingList {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private byte[] data = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int size;
+    private int lastDoc = -1;
+
+    /**
+     * Añade un documento al final de la lista
+     * @param doc Número de documento, mayor que cualquiera añadido antes
+     * @param frequency Frecuencia del término en el documento
+     */
+    public void add(int doc, int frequency) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("Los documentos deben añadirse en orden creciente");
+        }
+        writeVarInt(doc - lastDoc);
+        writeVarInt(frequency);
+        lastDoc = doc;
+        size++;
+    }
+
+    /**
+     * @return Número de documentos en la lista (incluidos los dados de baja)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Bytes ocupados por la codificación
+     */
+    public int encodedLength() {
+        return length;
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Recorrido secuencial de la lista. Uso: {@code while (cursor.next()) { cursor.doc(); cursor.frequency(); }}
+     */
+    public final class Cursor {
+        private int position;
+        private int doc = -1;
+        private int frequency;
+
+        public boolean next() {
+            if (position >= length) {
+                return false;
+            }
+            doc += readVarInt();
+            frequency = readVarInt();
+            return true;
+        }
+
+        public int doc() {
+            return doc;
+        }
+
+        public int frequency() {
+            return frequency;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = data[position++];
+                value |= (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            return value;
+        }
+    }
+
+    private void writeVarInt(int value) {
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+}
@@ -0,0 +1,12 @@
+package com.devmatch.api.shared.application.text;
+
+/**
+ * Resultado de un tramo del relleno de columnas derivadas, recorrido por ID
+ * en orden ascendente.
+ *
+ * @param lastId Último ID leído; el siguiente tramo empieza después de él
+ * @param complete true si el tramo llegó al final de la tabla
+ * @param updated Filas a las que se calcularon los valores que faltaban
+ */
+public record KeyBackfillBatch(long lastId, boolean complete, int updated) {
+}
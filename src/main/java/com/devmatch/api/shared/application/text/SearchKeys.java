@@ -0,0 +1,50 @@
+package com.devmatch.api.shared.application.text;
+
+import java.util.regex.Pattern;
+
+/**
+ * Claves de búsqueda normalizadas para columnas de texto.
+ *
+ * La clave se calcula una vez al escribir y se guarda en una columna con
+ * colación binaria ({@code *_key}), de modo que las búsquedas comparan
+ * bytes en lugar de aplicar {@code LOWER()} fila a fila. "Diseño",
+ * "DISEÑO" y "diseno" comparten la clave {@code "diseno"}.
+ *
+ * Las búsquedas por subcadena ({@link #containsPattern}) empiezan por
+ * comodín y no pueden usar un índice: recorren la columna entera.
+ */
+public final class SearchKeys {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9@._-]+");
+
+    private SearchKeys() {
+    }
+
+    /**
+     * Normaliza un valor: minúsculas, sin diacríticos y con los separadores
+     * colapsados en un único espacio
+     * @param value Valor original (puede ser null)
+     * @return Clave normalizada o null si el valor está vacío
+     */
+    public static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String key = SEPARATORS.matcher(SpanishAnalyzer.fold(value)).replaceAll(" ").trim();
+        return key.isEmpty() ? null : key;
+    }
+
+    /**
+     * Patrón {@code LIKE} que busca claves que contienen el valor dado
+     * @param value Valor original (puede ser null)
+     * @return Patrón con los comodines escapados o null si el valor está vacío
+     */
+    public static String containsPattern(String value) {
+        String key = normalize(value);
+        return key == null ? null : "%" + escapeLike(key) + "%";
+    }
+
+    private static String escapeLike(String key) {
+        return key.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
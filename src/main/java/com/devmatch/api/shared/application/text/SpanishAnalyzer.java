@@ -0,0 +1,92 @@
+package com.devmatch.api.shared.application.text;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Analizador de texto en español para el índice de búsqueda.
+ *
+ * Pasa a minúsculas, elimina acentos y diacríticos (incluida la ñ), separa
+ * por cualquier carácter que no sea letra o dígito, descarta palabras vacías
+ * y aplica un stemmer ligero que elimina plurales y vocales finales de
+ * género (algoritmo ligero de J. Savoy).
+ */
+public final class SpanishAnalyzer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^a-z0-9]+");
+    private static final int MIN_STEM_LENGTH = 5;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "al", "algo", "algunas", "algunos", "ante", "antes", "como", "con", "contra", "cual",
+            "cuando", "de", "del", "desde", "donde", "durante", "e", "el", "ella", "ellas", "ellos", "en",
+            "entre", "era", "eres", "es", "esa", "esas", "ese", "eso", "esos", "esta", "estan", "estar",
+            "estas", "este", "esto", "estos", "fue", "ha", "han", "hasta", "hay", "la", "las", "le", "les",
+            "lo", "los", "mas", "me", "mi", "mis", "mucho", "muchos", "muy", "nada", "ni", "no", "nos",
+            "nosotros", "o", "os", "otra", "otras", "otro", "otros", "para", "pero", "poco", "por",
+            "porque", "que", "quien", "quienes", "se", "sea", "ser", "si", "sin", "sobre", "son", "su",
+            "sus", "tambien", "tanto", "te", "tiene", "todo", "todos", "tu", "tus", "u", "un", "una",
+            "uno", "unos", "y", "ya", "yo");
+
+    private SpanishAnalyzer() {
+    }
+
+    /**
+     * Convierte un texto en la lista de términos indexables, en orden
+     * @param text Texto original (puede ser null)
+     * @return Términos normalizados y reducidos a su raíz
+     */
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        for (String token : TOKEN_SEPARATOR.split(fold(text))) {
+            if (token.isEmpty() || STOP_WORDS.contains(token)) {
+                continue;
+            }
+            terms.add(stem(token));
+        }
+        return terms;
+    }
+
+    /**
+     * Minúsculas y sin diacríticos: "Diseño" → "diseno"
+     */
+    public static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    static String stem(String token) {
+        int length = token.length();
+        if (length < MIN_STEM_LENGTH) {
+            return token;
+        }
+        char last = token.charAt(length - 1);
+        switch (last) {
+            case 'o', 'a', 'e' -> {
+                return token.substring(0, length - 1);
+            }
+            case 's' -> {
+                if (token.endsWith("eses")) {
+                    return token.substring(0, length - 2);
+                }
+                if (token.endsWith("ces")) {
+                    return token.substring(0, length - 3) + "z";
+                }
+                if (token.endsWith("os") || token.endsWith("as") || token.endsWith("es")) {
+                    return token.substring(0, length - 2);
+                }
+                return token;
+            }
+            default -> {
+                return token;
+            }
+        }
+    }
+}
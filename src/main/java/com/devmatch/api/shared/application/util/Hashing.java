@@ -0,0 +1,37 @@
+package com.devmatch.api.shared.application.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Funciones hash no criptográficas para estructuras en memoria.
+ */
+public final class Hashing {
+
+    private Hashing() {
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre UTF-8 seguido del finalizador de MurmurHash3
+     * para repartir bien los bits altos y bajos
+     */
+    public static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix64(hash);
+    }
+
+    /**
+     * Finalizador de MurmurHash3 (fmix64)
+     */
+    public static long mix64(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,53 @@
+package com.devmatch.api.shared.application.util;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Posición de una página ordenada por {@code (created_at, id)}.
+ *
+ * Se serializa como base64url de 20 bytes (segundos, nanos e ID) para que el
+ * cliente la trate como un valor opaco.
+ *
+ * @param createdAt Fecha de creación del último elemento devuelto
+ * @param id ID del último elemento devuelto
+ */
+public record KeysetCursor(LocalDateTime createdAt, long id) {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    public String encode() {
+        Instant instant = createdAt.toInstant(ZoneOffset.UTC);
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(instant.getEpochSecond())
+                .putInt(instant.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @param cursor Cursor recibido del cliente
+     * @return Posición decodificada o null si el cursor está vacío
+     * @throws IllegalArgumentException si el cursor no es válido
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor.trim());
+            if (bytes.length != ENCODED_BYTES) {
+                throw new IllegalArgumentException("Cursor de paginación inválido");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            Instant instant = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            return new KeysetCursor(LocalDateTime.ofInstant(instant, ZoneOffset.UTC), buffer.getLong());
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("Cursor de paginación inválido");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.devmatch.api.shared.application.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Registra los cambios aplicados a un estado en memoria mientras se
+ * reconstruye desde base de datos, para volver a aplicarlos sobre el estado
+ * nuevo: un cambio confirmado después de la lectura no está en la foto cargada.
+ *
+ * Uso:
+ * <ol>
+ *   <li>{@link #begin()} antes de empezar a leer.</li>
+ *   <li>{@link #changed(Object)} en cada cambio, dentro de la misma sección
+ *       crítica que lo aplica al estado vivo.</li>
+ *   <li>{@link #swapped()} dentro de la sección crítica que publica el estado
+ *       nuevo; devuelve los cambios a volver a aplicar.</li>
+ *   <li>{@link #end()} siempre al terminar, también si la reconstrucción falla.</li>
+ * </ol>
+ * Admite reconstrucciones solapadas: los cambios se conservan mientras quede
+ * alguna en curso, y volver a aplicar un cambio de más es inocuo.
+ *
+ * @param <K> Cambio registrado (un ID a recargar o la propia operación)
+ */
+public final class RebuildTracker<K> {
+
+    private final Set<K> changedDuringRebuild = new LinkedHashSet<>();
+    private int rebuilds;
+
+    /**
+     * Marca el inicio de una reconstrucción
+     */
+    public synchronized void begin() {
+        if (rebuilds++ == 0) {
+            changedDuringRebuild.clear();
+        }
+    }
+
+    /**
+     * Registra un cambio si hay una reconstrucción en curso
+     * @param change Cambio ya aplicado al estado vivo
+     */
+    public synchronized void changed(K change) {
+        if (rebuilds > 0) {
+            changedDuringRebuild.add(change);
+        }
+    }
+
+    /**
+     * @return Cambios registrados desde el inicio de la reconstrucción, en orden
+     */
+    public synchronized List<K> swapped() {
+        return new ArrayList<>(changedDuringRebuild);
+    }
+
+    /**
+     * Marca el final de una reconstrucción, haya terminado bien o no
+     */
+    public synchronized void end() {
+        if (rebuilds > 0 && --rebuilds == 0) {
+            changedDuringRebuild.clear();
+        }
+    }
+}
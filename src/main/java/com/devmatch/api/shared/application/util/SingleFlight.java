@@ -0,0 +1,105 @@
+package com.devmatch.api.shared.application.util;
+
+import com.devmatch.api.shared.application.exception.SingleFlightTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa cargas concurrentes de una misma clave en una sola.
+ *
+ * El primer hilo que pide una clave ejecuta la carga en su propio hilo; los
+ * que llegan mientras tanto esperan su resultado (o su excepción) en lugar de
+ * repetirla. En cuanto termina, la clave queda libre y la siguiente petición
+ * vuelve a cargar: no es una caché. La espera está acotada; si se agota se
+ * lanza {@link SingleFlightTimeoutException} y la carga sigue su curso.
+ *
+ * El resultado se comparte entre todos los hilos, así que no debe modificarse.
+ * Publica {@code singleflight.calls{name, result=load|coalesced|timeout}}.
+ *
+ * @param <K> Tipo de la clave (con equals/hashCode)
+ * @param <V> Tipo del resultado
+ */
+public final class SingleFlight<K, V> {
+
+    private final String name;
+    private final long waitTimeoutMillis;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter loads;
+    private final Counter coalesced;
+    private final Counter timeouts;
+
+    public SingleFlight(String name, Duration waitTimeout, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+        this.loads = counter(meterRegistry, name, "load");
+        this.coalesced = counter(meterRegistry, name, "coalesced");
+        this.timeouts = counter(meterRegistry, name, "timeout");
+    }
+
+    /**
+     * Ejecuta la carga de la clave o espera a la que ya está en curso
+     * @param key Clave de la carga
+     * @param loader Carga a ejecutar si no hay otra en curso para la clave
+     * @return Resultado de la carga
+     * @throws SingleFlightTimeoutException Si la carga en curso no termina a tiempo
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(key, existing);
+        }
+
+        loads.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V await(K key, CompletableFuture<V> flight) {
+        try {
+            return flight.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new SingleFlightTimeoutException(
+                    "Tiempo de espera agotado para la carga " + name + " de " + key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SingleFlightTimeoutException("Espera interrumpida para la carga " + name + " de " + key);
+        } catch (ExecutionException e) {
+            // Los que esperan reciben la misma excepción que la carga (por ejemplo, proyecto no encontrado)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("singleflight.calls")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
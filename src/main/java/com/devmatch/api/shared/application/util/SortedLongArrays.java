@@ -0,0 +1,65 @@
+package com.devmatch.api.shared.application.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Operaciones copy-on-write sobre arrays {@code long[]} ordenados y sin
+ * duplicados. Los arrays devueltos nunca se modifican después, así que se
+ * pueden compartir entre hilos sin sincronización.
+ */
+public final class SortedLongArrays {
+
+    public static final long[] EMPTY = new long[0];
+
+    private SortedLongArrays() {
+    }
+
+    /**
+     * @return Array ordenado y sin duplicados con los valores de la colección
+     */
+    public static long[] of(Collection<Long> values) {
+        if (values.isEmpty()) {
+            return EMPTY;
+        }
+        long[] array = values.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return array.length == 0 ? EMPTY : array;
+    }
+
+    public static boolean contains(long[] array, long value) {
+        return Arrays.binarySearch(array, value) >= 0;
+    }
+
+    /**
+     * @return El mismo array si ya contenía el valor, o una copia con el valor insertado en orden
+     */
+    public static long[] insert(long[] array, long value) {
+        int index = Arrays.binarySearch(array, value);
+        if (index >= 0) {
+            return array;
+        }
+        int insertAt = -index - 1;
+        long[] result = new long[array.length + 1];
+        System.arraycopy(array, 0, result, 0, insertAt);
+        result[insertAt] = value;
+        System.arraycopy(array, insertAt, result, insertAt + 1, array.length - insertAt);
+        return result;
+    }
+
+    /**
+     * @return El mismo array si no contenía el valor, o una copia sin él
+     */
+    public static long[] remove(long[] array, long value) {
+        int index = Arrays.binarySearch(array, value);
+        if (index < 0) {
+            return array;
+        }
+        if (array.length == 1) {
+            return EMPTY;
+        }
+        long[] result = new long[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+}
@@ -6,6 +6,9 @@ import com.devmatch.api.project.domain.exception.ProjectLimitExceededException;
 import com.devmatch.api.role.domain.exception.RoleAlreadyExistsException;
 import com.devmatch.api.role.domain.exception.RoleInUseException;
 import com.devmatch.api.role.domain.exception.RoleNotFoundException;
+import com.devmatch.api.security.application.exception.PasswordHashingUnavailableException;
+import com.devmatch.api.security.application.exception.RateLimitExceededException;
+import com.devmatch.api.shared.application.exception.SingleFlightTimeoutException;
 import com.devmatch.api.tag.domain.exception.TagNotFoundException;
 import com.devmatch.api.tag.domain.exception.TagInUseException;
 import com.devmatch.api.user.application.exception.AuthenticationException;
@@ -14,6 +17,7 @@ import com.devmatch.api.user.domain.exception.UserNotFoundException;
 import com.devmatch.api.user.domain.exception.UserOperationNotAllowedException;
 import com.devmatch.api.user.domain.exception.ProfileTypeInUseException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -188,6 +192,60 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
     }
 
+    /**
+     * Maneja la saturación del pool de hashing de contraseñas
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailableException(PasswordHashingUnavailableException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Servicio no disponible",
+            ex.getMessage()
+        );
+        
+        log.warn("Pool de hashing saturado: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    /**
+     * Maneja esperas agotadas tras una carga compartida con otras peticiones
+     */
+    @ExceptionHandler(SingleFlightTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleSingleFlightTimeoutException(SingleFlightTimeoutException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Servicio no disponible",
+            ex.getMessage()
+        );
+        
+        log.warn("Carga compartida demasiado lenta: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    /**
+     * Maneja intentos de autenticación que superan el límite permitido
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Demasiadas peticiones",
+            ex.getMessage()
+        );
+        
+        log.warn("Límite de intentos superado: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "60")
+                .body(errorResponse);
+    }
+
     /**
      * Maneja excepciones de acceso denegado
      */
@@ -0,0 +1,23 @@
+package com.devmatch.api.shared.infrastructure.json;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración común de Jackson.
+ *
+ * Los DTOs con {@code @JsonFilter} solo se filtran cuando la respuesta
+ * configura ese filtro (respuestas parciales); en cualquier otra
+ * serialización, incluido el modelo de lectura, un filtro sin configurar
+ * equivale a serializar todos los campos.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer optionalFiltersCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+}
@@ -0,0 +1,99 @@
+package com.devmatch.api.shared.infrastructure.text;
+
+import com.devmatch.api.project.application.port.out.ProjectTextRepositoryPort;
+import com.devmatch.api.shared.application.text.KeyBackfillBatch;
+import com.devmatch.api.tag.application.port.out.TagSearchRepositoryPort;
+import com.devmatch.api.user.application.port.out.UserSearchRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiFunction;
+
+/**
+ * Rellena las claves de búsqueda ({@code *_key}) que falten, junto con el
+ * extracto de la descripción de los proyectos ({@code description_summary}).
+ *
+ * Los casos de uso calculan la clave al escribir; esto cubre las filas
+ * cargadas por scripts SQL o creadas por caminos que no pasan por ellos
+ * (por ejemplo, tags creados al vuelo desde un proyecto). En tags, un
+ * catálogo pequeño, recorre la tabla entera.
+ *
+ * Las claves y el extracto de proyectos y usuarios no están indexados:
+ * cada ejecución lee un tramo de {@code search-keys.backfill-batch-size}
+ * filas de cada tabla por orden de ID y continúa en la siguiente donde lo
+ * dejó, volviendo al principio al llegar al final. Al arrancar se recorren
+ * las tablas completas, tramo a tramo.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchKeyBackfill {
+
+    private final ProjectTextRepositoryPort projectTextRepositoryPort;
+    private final TagSearchRepositoryPort tagSearchRepositoryPort;
+    private final UserSearchRepositoryPort userSearchRepositoryPort;
+
+    @Value("${search-keys.backfill-batch-size:1000}")
+    private int batchSize;
+
+    private final BackfillCursor projectCursor = new BackfillCursor();
+    private final BackfillCursor userCursor = new BackfillCursor();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void initialize() {
+        projectCursor.reset();
+        userCursor.reset();
+        backfill(true);
+    }
+
+    @Scheduled(fixedDelayString = "${search-keys.backfill-ms:60000}",
+            initialDelayString = "${search-keys.backfill-ms:60000}")
+    public synchronized void backfill() {
+        backfill(false);
+    }
+
+    private void backfill(boolean untilEnd) {
+        try {
+            int projects = projectCursor.advance(projectTextRepositoryPort::backfillMissingKeys, batchSize, untilEnd);
+            int tags = tagSearchRepositoryPort.backfillMissingKeys();
+            int users = userCursor.advance(userSearchRepositoryPort::backfillMissingKeys, batchSize, untilEnd);
+            if (projects + tags + users > 0) {
+                log.info("Claves de búsqueda calculadas: {} proyectos, {} tags, {} usuarios", projects, tags, users);
+            }
+        } catch (Exception e) {
+            log.warn("No se pudieron calcular las claves de búsqueda pendientes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Último ID leído de una tabla; la siguiente ejecución continúa después de él
+     */
+    private static final class BackfillCursor {
+
+        private long lastId;
+
+        void reset() {
+            lastId = 0;
+        }
+
+        /**
+         * Lee un tramo, o todos hasta el final de la tabla, y avanza el cursor
+         * @return Número de filas actualizadas
+         */
+        int advance(BiFunction<Long, Integer, KeyBackfillBatch> reader, int batchSize, boolean untilEnd) {
+            int updated = 0;
+            KeyBackfillBatch batch;
+            do {
+                batch = reader.apply(lastId, batchSize);
+                updated += batch.updated();
+                lastId = batch.complete() ? 0 : batch.lastId();
+            } while (untilEnd && !batch.complete());
+            return updated;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.devmatch.api.shared.infrastructure.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Traza de una petición muestreada: duración total, tiempos de filtros y
+ * casos de uso, y número de sentencias SQL ejecutadas.
+ *
+ * Solo la modifica el hilo que atiende la petición, así que no necesita
+ * sincronización. Una vez cerrada se entrega al {@link TraceRingBufferAppender},
+ * que es quien la formatea fuera del camino de la petición.
+ */
+public class RequestTrace {
+
+    private static final int MAX_SPANS = 32;
+
+    private final String method;
+    private final String path;
+    private final long startNanos;
+    private final List<Span> spans = new ArrayList<>();
+    private int sqlCount;
+    private int droppedSpans;
+    private int status;
+    private long durationNanos;
+
+    public RequestTrace(String method, String path) {
+        this.method = method;
+        this.path = path;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Registra el tiempo de un filtro o caso de uso
+     * @param name Nombre del tramo
+     * @param nanos Duración en nanosegundos
+     */
+    public void recordSpan(String name, long nanos) {
+        if (spans.size() >= MAX_SPANS) {
+            droppedSpans++;
+            return;
+        }
+        spans.add(new Span(name, nanos));
+    }
+
+    /**
+     * Cuenta una sentencia SQL preparada durante la petición
+     */
+    public void incrementSqlCount() {
+        sqlCount++;
+    }
+
+    int sqlCount() {
+        return sqlCount;
+    }
+
+    void finish(int status) {
+        this.status = status;
+        this.durationNanos = System.nanoTime() - startNanos;
+    }
+
+    String format() {
+        StringBuilder builder = new StringBuilder(128)
+                .append(method).append(' ').append(path)
+                .append(" status=").append(status)
+                .append(" total=").append(toMillis(durationNanos)).append("ms")
+                .append(" sql=").append(sqlCount)
+                .append(" spans=[");
+        for (int i = 0; i < spans.size(); i++) {
+            Span span = spans.get(i);
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(span.name()).append('=').append(toMillis(span.nanos())).append("ms");
+        }
+        if (droppedSpans > 0) {
+            builder.append(", +").append(droppedSpans).append(" más");
+        }
+        return builder.append(']').toString();
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000d);
+    }
+
+    private record Span(String name, long nanos) {
+    }
+}
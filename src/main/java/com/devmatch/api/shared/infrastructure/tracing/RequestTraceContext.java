@@ -0,0 +1,31 @@
+package com.devmatch.api.shared.infrastructure.tracing;
+
+/**
+ * Acceso a la traza de la petición en curso.
+ *
+ * Si el trazado está desactivado o la petición no ha sido muestreada,
+ * {@link #current()} devuelve null y los puntos de instrumentación no hacen
+ * nada más que esa comprobación.
+ */
+public final class RequestTraceContext {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private RequestTraceContext() {
+    }
+
+    /**
+     * @return Traza de la petición actual o null si no se está trazando
+     */
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    static void set(RequestTrace trace) {
+        CURRENT.set(trace);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,48 @@
+package com.devmatch.api.shared.infrastructure.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Filtro que muestrea las peticiones y abre una {@link RequestTrace} para las
+ * seleccionadas. Se registra antes que la cadena de seguridad para que los
+ * tiempos de los filtros queden dentro de la traza.
+ */
+public class RequestTracingFilter extends OncePerRequestFilter {
+
+    private final TraceRingBufferAppender appender;
+    private final double sampleRate;
+
+    public RequestTracingFilter(TraceRingBufferAppender appender, double sampleRate) {
+        this.appender = appender;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestTrace trace = new RequestTrace(request.getMethod(), request.getRequestURI());
+        RequestTraceContext.set(trace);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTraceContext.clear();
+            trace.finish(response.getStatus());
+            appender.append(trace);
+        }
+    }
+}
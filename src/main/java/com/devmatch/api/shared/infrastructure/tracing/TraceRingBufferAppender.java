@@ -0,0 +1,101 @@
+package com.devmatch.api.shared.infrastructure.tracing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Buffer circular acotado que desacopla los hilos de petición del log de trazas.
+ *
+ * Los productores reservan posición con CAS y nunca bloquean: si el buffer está
+ * lleno la traza se descarta y se contabiliza en {@code tracing.dropped}. Un
+ * único hilo daemon consume el buffer, formatea cada traza y la escribe en el
+ * logger {@code devmatch.trace}.
+ */
+@Slf4j
+public class TraceRingBufferAppender {
+
+    private static final Logger TRACE_LOG = LoggerFactory.getLogger("devmatch.trace");
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AtomicReferenceArray<RequestTrace> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    private volatile boolean running = true;
+    private final Counter dropped;
+    private final Thread consumer;
+
+    public TraceRingBufferAppender(int capacity, MeterRegistry meterRegistry) {
+        int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.dropped = Counter.builder("tracing.dropped").register(meterRegistry);
+        this.consumer = new Thread(this::drainLoop, "request-trace-appender");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * Encola una traza cerrada sin bloquear al hilo de la petición
+     * @param trace Traza a publicar
+     */
+    public void append(RequestTrace trace) {
+        while (true) {
+            long sequence = tail.get();
+            if (sequence - head >= slots.length()) {
+                dropped.increment();
+                return;
+            }
+            if (tail.compareAndSet(sequence, sequence + 1)) {
+                slots.set((int) sequence & mask, trace);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Detiene el hilo consumidor tras vaciar lo pendiente
+     */
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(consumer);
+    }
+
+    private void drainLoop() {
+        while (running || head < tail.get()) {
+            if (!drainAvailable()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private boolean drainAvailable() {
+        boolean drained = false;
+        long current = head;
+        while (true) {
+            int index = (int) current & mask;
+            RequestTrace trace = slots.get(index);
+            if (trace == null) {
+                // Posición vacía o reservada pero aún no publicada por su productor
+                break;
+            }
+            slots.set(index, null);
+            head = ++current;
+            drained = true;
+            try {
+                TRACE_LOG.info(trace.format());
+            } catch (Exception e) {
+                log.debug("No se pudo escribir la traza: {}", e.getMessage());
+            }
+        }
+        return drained;
+    }
+}
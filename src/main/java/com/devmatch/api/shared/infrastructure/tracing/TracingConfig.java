@@ -0,0 +1,60 @@
+package com.devmatch.api.shared.infrastructure.tracing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuración del trazado de peticiones.
+ *
+ * Con {@code tracing.enabled=false} (por defecto) no se registra ninguno de
+ * estos beans y la instrumentación se reduce a consultar un ThreadLocal vacío.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tracing", name = "enabled", havingValue = "true")
+public class TracingConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public TraceRingBufferAppender traceRingBufferAppender(
+            @Value("${tracing.buffer-size:4096}") int bufferSize,
+            MeterRegistry meterRegistry) {
+        return new TraceRingBufferAppender(bufferSize, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestTracingFilter> requestTracingFilter(
+            TraceRingBufferAppender appender,
+            @Value("${tracing.sample-rate:0.01}") double sampleRate) {
+        FilterRegistrationBean<RequestTracingFilter> registration =
+                new FilterRegistrationBean<>(new RequestTracingFilter(appender, sampleRate));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Envuelve el DataSource para contar las sentencias de Hibernate y de JdbcTemplate por igual
+     */
+    @Bean
+    public static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof SqlCountingDataSource)
+                        ? new SqlCountingDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    public UseCaseTracingAspect useCaseTracingAspect() {
+        return new UseCaseTracingAspect();
+    }
+}
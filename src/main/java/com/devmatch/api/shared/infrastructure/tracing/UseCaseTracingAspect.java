@@ -0,0 +1,29 @@
+package com.devmatch.api.shared.infrastructure.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Registra en la traza de la petición el tiempo de cada caso de uso invocado
+ */
+@Aspect
+public class UseCaseTracingAspect {
+
+    @Around("execution(public * com.devmatch.api..application.service..*UseCaseImpl.*(..))")
+    public Object traceUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTrace trace = RequestTraceContext.current();
+        if (trace == null) {
+            return joinPoint.proceed();
+        }
+
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            trace.recordSpan(
+                    joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName(),
+                    System.nanoTime() - start);
+        }
+    }
+}
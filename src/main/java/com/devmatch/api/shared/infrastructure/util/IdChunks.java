@@ -0,0 +1,35 @@
+package com.devmatch.api.shared.infrastructure.util;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Reparte una colección de IDs en bloques para las consultas {@code IN (...)}
+ * de los adaptadores JDBC por lotes.
+ *
+ * Cada bloque tiene como mucho {@value #MAX_IDS_PER_QUERY} IDs, sin nulos ni
+ * repetidos, de modo que el número de consultas no depende del número de
+ * filas que se estén mapeando y ninguna consulta supera el tamaño razonable
+ * de una lista {@code IN}.
+ */
+public final class IdChunks {
+
+    public static final int MAX_IDS_PER_QUERY = 500;
+
+    private IdChunks() {
+    }
+
+    /**
+     * Ejecuta una acción por cada bloque de IDs, en el orden en que aparecen
+     * @param ids IDs a repartir (puede contener nulos y repetidos)
+     * @param action Acción que lanza la consulta del bloque
+     */
+    public static void forEach(Collection<Long> ids, Consumer<List<Long>> action) {
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        for (int from = 0; from < distinct.size(); from += MAX_IDS_PER_QUERY) {
+            action.accept(distinct.subList(from, Math.min(from + MAX_IDS_PER_QUERY, distinct.size())));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.devmatch.api.shared.infrastructure.util;
+
+import com.devmatch.api.shared.application.util.Hashing;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Limitador token-bucket lock-free con claves primitivas {@code long}.
+ *
+ * Las claves se reparten en franjas (stripes), cada una con una tabla de
+ * direccionamiento abierto de tamaño fijo, así que la memoria está acotada
+ * sea cual sea el número de claves distintas. Cada hueco guarda un cubo
+ * inmutable con su clave, sus tokens y su último relleno, y se actualiza
+ * sustituyéndolo con un único CAS: un hilo nunca puede consumir el cubo de
+ * otra clave ni el de un hueco que se acaba de reutilizar.
+ *
+ * Un cubo que ya se habría rellenado por completo es indistinguible de uno
+ * nuevo, de modo que su hueco se reutiliza sin perder información: las
+ * entradas caducan solas. Si en la ventana de sondeo no hay hueco libre ni
+ * caducado se reutiliza el cubo menos reciente. El límite es aproximado
+ * bajo colisiones extremas, nunca más estricto de lo configurado.
+ */
+public class StripedTokenBucketLimiter {
+
+    private static final long MILLI_TOKENS_PER_TOKEN = 1000L;
+    private static final int MAX_PROBES = 8;
+    private static final int MAX_ATTEMPTS = 4;
+
+    private final AtomicReferenceArray<Bucket>[] slots;
+    private final int stripeMask;
+    private final int stripeBits;
+    private final int slotMask;
+    private final long capacityMilliTokens;
+    private final double refillMilliTokensPerMilli;
+    private final long epochBaseMillis;
+
+    /**
+     * Estado de un hueco: se sustituye entero, nunca se modifica
+     * @param key Clave propietaria del cubo
+     * @param lastRefill Último relleno, en milisegundos desde la creación del limitador
+     * @param milliTokens Tokens disponibles en milésimas
+     */
+    private record Bucket(long key, long lastRefill, long milliTokens) {
+    }
+
+    /**
+     * @param stripes Número de franjas (se redondea a potencia de 2)
+     * @param slotsPerStripe Huecos por franja (se redondea a potencia de 2)
+     * @param capacity Tokens máximos por cubo (ráfaga permitida)
+     * @param refillPerMinute Tokens que se recuperan por minuto
+     */
+    @SuppressWarnings("unchecked")
+    public StripedTokenBucketLimiter(int stripes, int slotsPerStripe, int capacity, double refillPerMinute) {
+        int stripeCount = nextPowerOfTwo(stripes);
+        int slotCount = nextPowerOfTwo(slotsPerStripe);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacidad de token bucket fuera de rango: " + capacity);
+        }
+
+        this.slots = new AtomicReferenceArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            slots[i] = new AtomicReferenceArray<>(slotCount);
+        }
+        this.stripeMask = stripeCount - 1;
+        this.stripeBits = Integer.numberOfTrailingZeros(stripeCount);
+        this.slotMask = slotCount - 1;
+        this.capacityMilliTokens = capacity * MILLI_TOKENS_PER_TOKEN;
+        this.refillMilliTokensPerMilli = refillPerMinute * MILLI_TOKENS_PER_TOKEN / 60_000d;
+        this.epochBaseMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Intenta consumir un token del cubo asociado a una clave
+     * @param key Clave (por ejemplo {@link Hashing#hash64(String)} de una IP)
+     * @return true si quedaba al menos un token
+     */
+    public boolean tryAcquire(long key) {
+        long hash = Hashing.mix64(key);
+        AtomicReferenceArray<Bucket> stripeSlots = slots[(int) hash & stripeMask];
+        int start = (int) (hash >>> stripeBits) & slotMask;
+
+        // Si otro hilo cambia el hueco entre la lectura y el CAS se vuelve a sondear
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Boolean result = tryAcquireOnce(stripeSlots, start, key, System.currentTimeMillis() - epochBaseMillis);
+            if (result != null) {
+                return result;
+            }
+        }
+        // Contención extrema sobre los mismos huecos: se deja pasar en lugar de bloquear
+        return true;
+    }
+
+    /**
+     * @return Resultado, o null si un CAS falló y hay que reintentar
+     */
+    private Boolean tryAcquireOnce(AtomicReferenceArray<Bucket> stripeSlots, int start, long key, long now) {
+        int reclaimSlot = -1;
+        Bucket reclaimBucket = null;
+        long oldestRefill = Long.MAX_VALUE;
+
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int slot = (start + probe) & slotMask;
+            Bucket current = stripeSlots.get(slot);
+
+            if (current == null) {
+                return claim(stripeSlots, slot, null, key, now) ? Boolean.TRUE : null;
+            }
+
+            if (current.key() == key) {
+                return consume(stripeSlots, slot, current, now);
+            }
+
+            if (isFull(current, now)) {
+                if (oldestRefill != Long.MIN_VALUE) {
+                    reclaimSlot = slot;
+                    reclaimBucket = current;
+                    oldestRefill = Long.MIN_VALUE;
+                }
+            } else if (current.lastRefill() < oldestRefill) {
+                reclaimSlot = slot;
+                reclaimBucket = current;
+                oldestRefill = current.lastRefill();
+            }
+        }
+
+        // Sin hueco para la clave: se reutiliza un cubo caducado o el menos reciente
+        return claim(stripeSlots, reclaimSlot, reclaimBucket, key, now) ? Boolean.TRUE : null;
+    }
+
+    /**
+     * Ocupa un hueco con un cubo lleno del que ya se ha consumido el token actual
+     */
+    private boolean claim(AtomicReferenceArray<Bucket> stripeSlots, int slot, Bucket expected, long key, long now) {
+        return stripeSlots.compareAndSet(slot, expected,
+                new Bucket(key, now, capacityMilliTokens - MILLI_TOKENS_PER_TOKEN));
+    }
+
+    /**
+     * @return Resultado, o null si el hueco cambió y hay que reintentar
+     */
+    private Boolean consume(AtomicReferenceArray<Bucket> stripeSlots, int slot, Bucket current, long now) {
+        long elapsed = Math.max(0, now - current.lastRefill());
+        long refill = (long) (elapsed * refillMilliTokensPerMilli);
+
+        long available = Math.min(capacityMilliTokens, current.milliTokens() + refill);
+        // Si aún no se ha recuperado nada se conserva la marca de tiempo para no perder la fracción acumulada
+        long refillTime = refill > 0 ? now : current.lastRefill();
+
+        if (available < MILLI_TOKENS_PER_TOKEN) {
+            if (refill > 0) {
+                stripeSlots.compareAndSet(slot, current, new Bucket(current.key(), refillTime, available));
+            }
+            return Boolean.FALSE;
+        }
+
+        Bucket consumed = new Bucket(current.key(), refillTime, available - MILLI_TOKENS_PER_TOKEN);
+        return stripeSlots.compareAndSet(slot, current, consumed) ? Boolean.TRUE : null;
+    }
+
+    private boolean isFull(Bucket bucket, long now) {
+        long elapsed = Math.max(0, now - bucket.lastRefill());
+        return bucket.milliTokens() + (long) (elapsed * refillMilliTokensPerMilli) >= capacityMilliTokens;
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
@@ -0,0 +1,13 @@
+package com.devmatch.api.shared.infrastructure.web;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Cuerpo JSON ya serializado, listo para copiarse a la respuesta HTTP sin
+ * pasar por Jackson. Lo escribe {@link CachedResponseHttpMessageConverter}.
+ *
+ * @param body Bytes del cuerpo (de solo lectura; puede estar fuera del heap)
+ * @param gzip Si el cuerpo está comprimido con gzip
+ */
+public record CachedResponse(ByteBuffer body, boolean gzip) {
+}
@@ -0,0 +1,67 @@
+package com.devmatch.api.shared.infrastructure.web;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Escribe un {@link CachedResponse} tal cual: copia sus bytes a la salida del
+ * servlet y, si es la variante gzip, añade {@code Content-Encoding}. Spring
+ * Boot lo registra por delante del conversor de Jackson.
+ */
+@Component
+public class CachedResponseHttpMessageConverter extends AbstractHttpMessageConverter<CachedResponse> {
+
+    public CachedResponseHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CachedResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected CachedResponse readInternal(Class<? extends CachedResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("CachedResponse solo se usa en respuestas", inputMessage);
+    }
+
+    @Override
+    protected void addDefaultHeaders(HttpHeaders headers, CachedResponse response, MediaType contentType)
+            throws IOException {
+        super.addDefaultHeaders(headers, response, contentType);
+        // La variante depende de Accept-Encoding aunque esta respuesta no vaya comprimida
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (response.gzip()) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+    }
+
+    @Override
+    protected Long getContentLength(CachedResponse response, MediaType contentType) {
+        return (long) response.body().remaining();
+    }
+
+    @Override
+    protected void writeInternal(CachedResponse response, HttpOutputMessage outputMessage) throws IOException {
+        ByteBuffer body = response.body().duplicate();
+        WritableByteChannel channel = Channels.newChannel(outputMessage.getBody());
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.devmatch.api.shared.infrastructure.web;
+
+import com.devmatch.api.shared.application.util.SingleFlight;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caché de respuestas JSON ya serializadas, con su variante comprimida con gzip.
+ *
+ * Los bytes se guardan fuera del heap, en slabs de tamaño fijo
+ * ({@code ByteBuffer.allocateDirect}) que se llenan en orden: cuando no cabe
+ * una entrada se pasa al siguiente slab del anillo y se descartan las
+ * entradas del que había en esa posición. Una entrada mayor que un slab
+ * (el catálogo completo) recibe un buffer propio de su tamaño que ocupa
+ * tantas posiciones consecutivas del anillo como slabs necesitaría, y
+ * descarta lo que hubiera en ellas. Así los cuerpos grandes no cuentan para
+ * el GC y la memoria ocupada sigue acotada a {@code slabs * slab-size-bytes};
+ * solo una entrada mayor que toda la caché se sirve sin guardarse.
+ *
+ * Cada entrada se identifica por endpoint y parámetros normalizados y guarda
+ * la versión de los datos con la que se generó (por ejemplo, la ETag del
+ * catálogo). Si la versión actual es otra, la entrada no sirve y se
+ * reemplaza, de modo que cualquier cambio en proyectos o tags la invalida
+ * sin necesidad de avisar a la caché.
+ *
+ * Un slab descartado no se reutiliza: se sustituye por uno nuevo y el
+ * anterior se libera cuando terminan las respuestas que aún lo estén
+ * escribiendo. Un acierto no crea DTOs ni llama a Jackson: devuelve una vista
+ * de solo lectura sobre el slab. Los fallos concurrentes de una misma clave
+ * y versión comparten una sola carga ({@link SingleFlight}).
+ */
+@Component
+@Slf4j
+public class SerializedResponseCache {
+
+    private final int slabSize;
+    private final long maxEntrySize;
+    private final Slab[] slabs;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Object allocationLock = new Object();
+    private int currentSlab;
+
+    private final SingleFlight<VersionedKey, Entry> flights;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * @param endpoint Identificador del endpoint (por ejemplo, "projects.public")
+     * @param parameters Parámetros de la petición ya normalizados
+     */
+    public record Key(String endpoint, String parameters) {
+    }
+
+    /**
+     * @param slab Slab que contiene la respuesta, o null si no está guardada
+     * @param buffer Memoria con el JSON seguido de su variante gzip
+     */
+    private record Entry(Slab slab, ByteBuffer buffer, String version,
+                         int jsonOffset, int jsonLength, int gzipOffset, int gzipLength) {
+    }
+
+    private record VersionedKey(Key key, String version) {
+    }
+
+    private static final class Slab {
+        private final ByteBuffer buffer;
+        private int used;
+
+        private Slab(int size) {
+            this.buffer = ByteBuffer.allocateDirect(size);
+        }
+    }
+
+    public SerializedResponseCache(
+            @Value("${response-cache.slab-size-bytes:4194304}") int slabSize,
+            @Value("${response-cache.slabs:16}") int slabCount,
+            @Value("${single-flight.wait-timeout-ms:3000}") long waitTimeoutMillis,
+            MeterRegistry meterRegistry) {
+        this.slabSize = slabSize;
+        this.maxEntrySize = (long) slabSize * slabCount;
+        this.slabs = new Slab[slabCount];
+        this.flights = new SingleFlight<>("response-cache", Duration.ofMillis(waitTimeoutMillis), meterRegistry);
+        this.hits = Counter.builder("response.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("response.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("response.cache.entries", entries, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Obtiene la respuesta serializada, generándola y guardándola si no está
+     * en caché o se generó con otra versión
+     * @param key Endpoint y parámetros normalizados
+     * @param version Versión actual de los datos; si es null no se usa la caché
+     * @param acceptGzip Si el cliente acepta gzip
+     * @param writer Writer de Jackson con el que serializar el cuerpo
+     * @param body Genera el cuerpo; solo se llama si no hay acierto
+     * @return Bytes de la respuesta, comprimidos si el cliente lo acepta y hay variante gzip
+     */
+    public CachedResponse get(Key key, String version, boolean acceptGzip, ObjectWriter writer, Supplier<?> body) {
+        if (version == null) {
+            // Sin versión fiable no se guarda ni se comparte la carga
+            misses.increment();
+            return toResponse(load(null, null, writer, body), acceptGzip);
+        }
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version().equals(version)) {
+            hits.increment();
+            return toResponse(entry, acceptGzip);
+        }
+        misses.increment();
+        return toResponse(flights.execute(new VersionedKey(key, version), () -> {
+            // Otra carga de la misma versión pudo terminar justo antes de empezar esta
+            Entry stored = entries.get(key);
+            return stored != null && stored.version().equals(version) ? stored : load(key, version, writer, body);
+        }), acceptGzip);
+    }
+
+    /**
+     * @param acceptEncoding Cabecera Accept-Encoding de la petición (puede ser null)
+     * @return true si el cliente acepta gzip
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    /**
+     * @param key Clave con la que guardar la respuesta, o null para no guardarla
+     */
+    private Entry load(Key key, String version, ObjectWriter writer, Supplier<?> body) {
+        byte[] json = serialize(writer, body.get());
+        byte[] gzip = compress(json);
+        int gzipLength = gzip != null ? gzip.length : 0;
+        if (key == null || json.length + gzipLength > maxEntrySize) {
+            // Sin versión o mayor que toda la caché: se sirve desde el heap sin guardar
+            ByteBuffer buffer = ByteBuffer.allocate(json.length + gzipLength).put(json);
+            if (gzip != null) {
+                buffer.put(gzip);
+            }
+            return new Entry(null, buffer, version, 0, json.length, json.length, gzipLength);
+        }
+        return store(key, version, json, gzip);
+    }
+
+    private Entry store(Key key, String version, byte[] json, byte[] gzip) {
+        int length = json.length + (gzip != null ? gzip.length : 0);
+        synchronized (allocationLock) {
+            Slab slab = slabs[currentSlab];
+            if (length > slabSize) {
+                // Buffer propio que cuenta como los slabs que ocuparía
+                slab = new Slab(length);
+                claim((length + slabSize - 1) / slabSize, slab);
+            } else if (slab == null || slabSize - slab.used < length) {
+                slab = new Slab(slabSize);
+                claim(1, slab);
+            }
+            int jsonOffset = slab.used;
+            slab.buffer.put(jsonOffset, json);
+            int gzipOffset = jsonOffset + json.length;
+            if (gzip != null) {
+                slab.buffer.put(gzipOffset, gzip);
+            }
+            slab.used += length;
+
+            Entry entry = new Entry(slab, slab.buffer, version, jsonOffset, json.length, gzipOffset,
+                    gzip != null ? gzip.length : 0);
+            entries.put(key, entry);
+            return entry;
+        }
+    }
+
+    /**
+     * Avanza en el anillo y asigna el slab a las siguientes posiciones,
+     * descartando lo que hubiera en ellas
+     * @param positions Posiciones que ocupa el slab (más de una si es mayor que un slab)
+     */
+    private void claim(int positions, Slab slab) {
+        if (slabs[currentSlab] != null) {
+            currentSlab = (currentSlab + 1) % slabs.length;
+        }
+        for (int i = 0; i < positions; i++) {
+            int position = (currentSlab + i) % slabs.length;
+            evict(position);
+            slabs[position] = slab;
+        }
+        currentSlab = (currentSlab + positions - 1) % slabs.length;
+    }
+
+    /**
+     * Descarta las entradas del slab de una posición. Si el slab ocupaba
+     * varias posiciones, todas quedan libres.
+     */
+    private void evict(int position) {
+        Slab evicted = slabs[position];
+        if (evicted == null) {
+            return;
+        }
+        for (int i = 0; i < slabs.length; i++) {
+            if (slabs[i] == evicted) {
+                slabs[i] = null;
+            }
+        }
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.slab() == evicted);
+        log.debug("Slab {} de la caché de respuestas descartado: {} entradas", position, before - entries.size());
+    }
+
+    private static CachedResponse toResponse(Entry entry, boolean acceptGzip) {
+        boolean useGzip = acceptGzip && entry.gzipLength() > 0;
+        ByteBuffer body = useGzip
+                ? entry.buffer().slice(entry.gzipOffset(), entry.gzipLength())
+                : entry.buffer().slice(entry.jsonOffset(), entry.jsonLength());
+        return new CachedResponse(body.asReadOnlyBuffer(), useGzip);
+    }
+
+    private static byte[] serialize(ObjectWriter writer, Object body) {
+        try {
+            return writer.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la respuesta", e);
+        }
+    }
+
+    /**
+     * @return Variante gzip o null si no ocupa menos que el JSON
+     */
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.size() < json.length ? output.toByteArray() : null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.devmatch.api.tag.application.event;
+
+/**
+ * Evento publicado cuando se crea, modifica, elimina o reactiva un tag, de
+ * modo que las respuestas que incluyen el catálogo de tags deben regenerarse.
+ *
+ * @param tagId ID del tag afectado
+ */
+public record TagChangedEvent(Long tagId) {
+}
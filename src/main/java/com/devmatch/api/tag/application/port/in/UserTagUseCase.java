@@ -5,6 +5,7 @@ import com.devmatch.api.tag.application.dto.UserTagRequestDto;
 import com.devmatch.api.user.application.dto.shared.UserResponseDto;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Interfaz que define los casos de uso para la gestión de tags de usuario.
@@ -20,6 +21,14 @@ public interface UserTagUseCase {
      */
     List<TagResponseDto> getAllTags();
 
+    /**
+     * Obtiene la versión actual del catálogo de tags, que cambia con cualquier
+     * alta, cambio o baja de un tag. No accede a base de datos.
+     *
+     * @return Versión del catálogo o vacío si aún no se conoce
+     */
+    Optional<String> getCatalogVersion();
+
     /**
      * Busca tags por nombre que contengan el texto especificado.
      * Este método puede ser usado por usuarios no autenticados.
@@ -0,0 +1,40 @@
+package com.devmatch.api.tag.application.port.out;
+
+import com.devmatch.api.tag.domain.model.Tag;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para buscar tags por su clave normalizada
+ * ({@code tags.name_key}) y mantenerla al día, y para detectar cambios en
+ * el catálogo de tags.
+ */
+public interface TagSearchRepositoryPort {
+
+    /**
+     * Busca tags activos cuyo nombre normalizado contiene el texto dado
+     * @param name Texto a buscar, sin normalizar
+     * @return Tags ordenados por nombre
+     */
+    List<Tag> findActiveByNameContaining(String name);
+
+    /**
+     * Recalcula la clave de búsqueda de un tag tras crearlo o renombrarlo
+     * @param tagId ID del tag
+     * @param name Nombre actual del tag
+     */
+    void refreshNameKey(Long tagId, String name);
+
+    /**
+     * Calcula la clave de los tags que aún no la tienen
+     * @return Número de tags actualizados
+     */
+    int backfillMissingKeys();
+
+    /**
+     * Calcula una huella del contenido de la tabla de tags (nombre, tipo y
+     * estado de cada uno) que cambia con cualquier alta, cambio o baja
+     * @return Huella del catálogo
+     */
+    long findCatalogFingerprint();
+}
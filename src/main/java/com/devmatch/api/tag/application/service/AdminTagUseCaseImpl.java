@@ -3,15 +3,19 @@ package com.devmatch.api.tag.application.service;
 import com.devmatch.api.tag.application.dto.AdminTagRequestDto;
 import com.devmatch.api.tag.application.dto.AdminTagResponseDto;
 import com.devmatch.api.tag.application.dto.TagResponseDto;
+import com.devmatch.api.tag.application.event.TagChangedEvent;
 import com.devmatch.api.tag.application.port.in.AdminTagUseCase;
 import com.devmatch.api.user.application.port.out.UserRepositoryPort;
 import com.devmatch.api.tag.application.port.out.TagRepositoryPort;
+import com.devmatch.api.tag.application.port.out.TagSearchRepositoryPort;
 import com.devmatch.api.tag.application.mapper.TagMapper;
 import com.devmatch.api.user.domain.exception.UserNotFoundException;
 import com.devmatch.api.tag.domain.exception.TagNotFoundException;
 import com.devmatch.api.user.domain.model.User;
 import com.devmatch.api.tag.domain.model.Tag;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,11 +27,14 @@ import java.util.stream.Collectors;
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AdminTagUseCaseImpl implements AdminTagUseCase {
 
     private final TagRepositoryPort tagRepositoryPort;
+    private final TagSearchRepositoryPort tagSearchRepositoryPort;
     private final UserRepositoryPort userRepositoryPort;
     private final TagMapper tagMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -56,6 +63,8 @@ public class AdminTagUseCaseImpl implements AdminTagUseCase {
         tag.setActive(true);
         
         Tag savedTag = tagRepositoryPort.save(tag);
+        tagSearchRepositoryPort.refreshNameKey(savedTag.getId(), savedTag.getName());
+        eventPublisher.publishEvent(new TagChangedEvent(savedTag.getId()));
         return tagMapper.toAdminResponseDto(savedTag);
     }
 
@@ -70,6 +79,8 @@ public class AdminTagUseCaseImpl implements AdminTagUseCase {
         tag.updateTimestamp();
         
         Tag updatedTag = tagRepositoryPort.save(tag);
+        tagSearchRepositoryPort.refreshNameKey(updatedTag.getId(), updatedTag.getName());
+        eventPublisher.publishEvent(new TagChangedEvent(updatedTag.getId()));
         return tagMapper.toAdminResponseDto(updatedTag);
     }
 
@@ -84,12 +95,13 @@ public class AdminTagUseCaseImpl implements AdminTagUseCase {
         
         if (isInUse) {
             // Log de advertencia para el administrador
-            System.out.println("ADVERTENCIA: El tag '" + tag.getName() + "' está siendo utilizado por usuarios. Se procederá con la eliminación lógica.");
+            log.warn("El tag '{}' está siendo utilizado por usuarios. Se procederá con la eliminación lógica.", tag.getName());
         }
         
         // Siempre permitir la eliminación lógica
         tag.markDeleted();
         tagRepositoryPort.save(tag);
+        eventPublisher.publishEvent(new TagChangedEvent(id));
     }
 
     @Override
@@ -107,6 +119,7 @@ public class AdminTagUseCaseImpl implements AdminTagUseCase {
         tag.updateTimestamp();
         
         Tag reactivatedTag = tagRepositoryPort.save(tag);
+        eventPublisher.publishEvent(new TagChangedEvent(reactivatedTag.getId()));
         return tagMapper.toAdminResponseDto(reactivatedTag);
     }
 
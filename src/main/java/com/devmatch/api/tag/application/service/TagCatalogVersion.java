@@ -0,0 +1,71 @@
+package com.devmatch.api.tag.application.service;
+
+import com.devmatch.api.project.application.event.ProjectChangedEvent;
+import com.devmatch.api.tag.application.event.TagChangedEvent;
+import com.devmatch.api.tag.application.port.out.TagSearchRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * Versión en memoria del catálogo de tags, para cachear respuestas que lo
+ * incluyen sin consultar la base de datos en cada petición.
+ *
+ * La versión es una huella del contenido de la tabla: es la misma en todos
+ * los nodos y cambia con cualquier alta, cambio o baja, se haga por donde se
+ * haga. Se recalcula tras el commit de cada cambio de tags hecho en este
+ * nodo, tras cada cambio de proyecto (que puede crear tags al vuelo) y
+ * periódicamente para recoger los de otros nodos o scripts.
+ */
+@Component
+@Slf4j
+public class TagCatalogVersion {
+
+    private final TagSearchRepositoryPort tagSearchRepositoryPort;
+
+    private volatile Long fingerprint;
+
+    public TagCatalogVersion(TagSearchRepositoryPort tagSearchRepositoryPort) {
+        this.tagSearchRepositoryPort = tagSearchRepositoryPort;
+    }
+
+    /**
+     * @return Versión actual o vacío si no se ha podido calcular
+     */
+    public Optional<String> current() {
+        Long current = fingerprint;
+        return current != null ? Optional.of("t" + Long.toHexString(current)) : Optional.empty();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${tag.catalog-version.refresh-ms:10000}",
+            initialDelayString = "${tag.catalog-version.refresh-ms:10000}")
+    public void refresh() {
+        try {
+            fingerprint = tagSearchRepositoryPort.findCatalogFingerprint();
+        } catch (Exception e) {
+            // Sin versión fiable no se cachea nada que dependa del catálogo
+            fingerprint = null;
+            log.warn("No se pudo calcular la versión del catálogo de tags: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        refresh();
+    }
+}
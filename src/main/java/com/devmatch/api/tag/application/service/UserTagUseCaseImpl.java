@@ -6,6 +6,7 @@ import com.devmatch.api.user.application.dto.shared.UserResponseDto;
 import com.devmatch.api.tag.application.port.in.UserTagUseCase;
 import com.devmatch.api.user.application.port.out.UserRepositoryPort;
 import com.devmatch.api.tag.application.port.out.TagRepositoryPort;
+import com.devmatch.api.tag.application.port.out.TagSearchRepositoryPort;
 import com.devmatch.api.user.application.mapper.UserMapper;
 import com.devmatch.api.tag.application.mapper.TagMapper;
 import com.devmatch.api.user.domain.exception.UserNotFoundException;
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -27,9 +29,11 @@ import java.util.stream.Collectors;
 public class UserTagUseCaseImpl implements UserTagUseCase {
 
     private final TagRepositoryPort tagRepositoryPort;
+    private final TagSearchRepositoryPort tagSearchRepositoryPort;
     private final UserRepositoryPort userRepositoryPort;
     private final TagMapper tagMapper;
     private final UserMapper userMapper;
+    private final TagCatalogVersion tagCatalogVersion;
 
     @Override
     @Transactional(readOnly = true)
@@ -40,12 +44,19 @@ public class UserTagUseCaseImpl implements UserTagUseCase {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<String> getCatalogVersion() {
+        return tagCatalogVersion.current();
+    }
+
 
 
     @Override
     @Transactional(readOnly = true)
     public List<TagResponseDto> searchTagsByName(String name) {
-        List<Tag> tags = tagRepositoryPort.findByNameContaining(name);
+        // Búsqueda por subcadena sobre el nombre normalizado: "diseno" encuentra "Diseño UX"
+        // y "script" encuentra "JavaScript"
+        List<Tag> tags = tagSearchRepositoryPort.findActiveByNameContaining(name);
         return tags.stream()
                 .map(tagMapper::toResponseDto)
                 .collect(Collectors.toList());
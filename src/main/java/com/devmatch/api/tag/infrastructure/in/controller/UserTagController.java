@@ -1,10 +1,14 @@
 package com.devmatch.api.tag.infrastructure.in.controller;
 
+import com.devmatch.api.shared.infrastructure.web.CachedResponse;
+import com.devmatch.api.shared.infrastructure.web.SerializedResponseCache;
 import com.devmatch.api.tag.application.dto.TagResponseDto;
 import com.devmatch.api.tag.application.dto.UserTagRequestDto;
 import com.devmatch.api.tag.application.port.in.UserTagUseCase;
 import com.devmatch.api.user.application.dto.shared.UserResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -24,17 +28,29 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserTagController {
 
+    private static final SerializedResponseCache.Key ALL_TAGS_KEY = new SerializedResponseCache.Key("tags.active", "");
+
     private final UserTagUseCase userTagUseCase;
+    private final SerializedResponseCache serializedResponseCache;
+    private final ObjectMapper objectMapper;
 
     /**
      * Obtiene todos los tags activos disponibles en el sistema.
      * Endpoint público - no requiere autenticación.
+     * Se sirve ya serializado (y comprimido si el cliente acepta gzip) mientras no cambie el catálogo.
      *
+     * @param acceptEncoding Cabecera Accept-Encoding de la petición
      * @return Lista de todos los tags activos
      */
     @GetMapping
-    public ResponseEntity<List<TagResponseDto>> getAllActiveTags() {
-        return ResponseEntity.ok(userTagUseCase.getAllTags());
+    public ResponseEntity<CachedResponse> getAllActiveTags(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return ResponseEntity.ok(serializedResponseCache.get(
+                ALL_TAGS_KEY,
+                userTagUseCase.getCatalogVersion().orElse(null),
+                SerializedResponseCache.acceptsGzip(acceptEncoding),
+                objectMapper.writer(),
+                userTagUseCase::getAllTags));
     }
 
 
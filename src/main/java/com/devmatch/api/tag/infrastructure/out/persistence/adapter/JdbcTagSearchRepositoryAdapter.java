@@ -0,0 +1,78 @@
+package com.devmatch.api.tag.infrastructure.out.persistence.adapter;
+
+import com.devmatch.api.shared.application.text.SearchKeys;
+import com.devmatch.api.shared.application.util.Hashing;
+import com.devmatch.api.tag.application.port.out.TagSearchRepositoryPort;
+import com.devmatch.api.tag.domain.model.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Adaptador JDBC de búsqueda de tags por {@code name_key} y de la huella del catálogo.
+ *
+ * La búsqueda por nombre es de subcadena ("script" encuentra "JavaScript"),
+ * así que no puede usar un índice y {@code name_key} no lo tiene; el
+ * catálogo de tags es pequeño y el recorrido compara bytes de la clave con
+ * colación binaria.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcTagSearchRepositoryAdapter implements TagSearchRepositoryPort {
+
+    private static final RowMapper<Tag> TAG_MAPPER = (rs, rowNum) -> {
+        Tag tag = new Tag(rs.getString("name"), rs.getString("tag_type"));
+        tag.setId(rs.getLong("id"));
+        tag.setActive(rs.getBoolean("is_active"));
+        tag.setDeleted(rs.getBoolean("is_deleted"));
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        tag.setCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null);
+        tag.setUpdatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null);
+        return tag;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Tag> findActiveByNameContaining(String name) {
+        String pattern = SearchKeys.containsPattern(name);
+        if (pattern == null) {
+            return List.of();
+        }
+        return jdbcTemplate.query(
+                "SELECT id, name, tag_type, is_active, is_deleted, created_at, updated_at FROM tags "
+                        + "WHERE name_key LIKE ? AND is_active = TRUE AND is_deleted = FALSE ORDER BY name_key",
+                TAG_MAPPER, pattern);
+    }
+
+    @Override
+    public void refreshNameKey(Long tagId, String name) {
+        jdbcTemplate.update("UPDATE tags SET name_key = ? WHERE id = ?", SearchKeys.normalize(name), tagId);
+    }
+
+    @Override
+    public int backfillMissingKeys() {
+        List<Object[]> updates = jdbcTemplate.query(
+                "SELECT id, name FROM tags WHERE name_key IS NULL",
+                (rs, rowNum) -> new Object[]{SearchKeys.normalize(rs.getString("name")), rs.getLong("id")});
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE tags SET name_key = ? WHERE id = ?", updates);
+        }
+        return updates.size();
+    }
+
+    @Override
+    public long findCatalogFingerprint() {
+        // El catálogo es pequeño: el recorrido completo es más fiable que comparar updated_at, que va por segundos
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) AS tag_count, "
+                        + "COALESCE(BIT_XOR(CRC32(CONCAT_WS('|', id, name, tag_type, is_active, is_deleted))), 0) AS checksum "
+                        + "FROM tags",
+                (rs, rowNum) -> Hashing.mix64(Hashing.mix64(rs.getLong("tag_count")) ^ rs.getLong("checksum")));
+    }
+}
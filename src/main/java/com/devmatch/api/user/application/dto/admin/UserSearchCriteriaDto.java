@@ -8,5 +8,8 @@ public class UserSearchCriteriaDto {
     private String username;
     private String firstName;
     private String lastName;
+    private String country;
+    private String province;
+    private String city;
     private String status; // Puede ser "active", "inactive", "deleted" o null
 } 
\ No newline at end of file
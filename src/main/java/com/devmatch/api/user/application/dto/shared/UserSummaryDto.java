@@ -0,0 +1,29 @@
+package com.devmatch.api.user.application.dto.shared;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Datos básicos de un usuario para mostrarlo junto a proyectos, miembros o
+ * aplicaciones sin cargar su perfil completo.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryDto {
+    private Long id;
+    private String username;
+    private String firstName;
+    private String lastName;
+    private List<String> profileTypes;
+
+    /**
+     * @return Primer profile type del usuario o null si no tiene ninguno
+     */
+    public String getPrimaryProfileType() {
+        return profileTypes == null || profileTypes.isEmpty() ? null : profileTypes.get(0);
+    }
+}
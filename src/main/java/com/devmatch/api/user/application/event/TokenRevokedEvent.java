@@ -0,0 +1,10 @@
+package com.devmatch.api.user.application.event;
+
+/**
+ * Evento publicado cuando un usuario cierra sesión y su token queda revocado.
+ *
+ * @param userId ID del usuario propietario del token
+ * @param tokenId Identificador (jti) del token revocado
+ */
+public record TokenRevokedEvent(Long userId, String tokenId) {
+}
@@ -0,0 +1,11 @@
+package com.devmatch.api.user.application.event;
+
+/**
+ * Evento publicado cuando cambia algún dato público de un usuario que se
+ * muestra junto a otros recursos (nombre de usuario o tipos de perfil), de
+ * modo que las respuestas que lo incluyen ya montadas deben regenerarse.
+ *
+ * @param userId ID del usuario afectado
+ */
+public record UserProfileChangedEvent(Long userId) {
+}
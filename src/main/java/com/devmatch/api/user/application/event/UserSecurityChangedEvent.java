@@ -0,0 +1,25 @@
+package com.devmatch.api.user.application.event;
+
+import java.time.Instant;
+
+/**
+ * Evento publicado cuando cambia algún dato de un usuario que afecta a su
+ * autenticación o autorización (rol, estado, borrado o contraseña).
+ *
+ * @param userId ID del usuario afectado
+ * @param reason Motivo del cambio
+ * @param occurredAt Instante del cambio; los tokens emitidos hasta entonces dejan de ser válidos
+ */
+public record UserSecurityChangedEvent(Long userId, Reason reason, Instant occurredAt) {
+
+    public UserSecurityChangedEvent(Long userId, Reason reason) {
+        this(userId, reason, Instant.now());
+    }
+
+    public enum Reason {
+        ROLE_CHANGED,
+        STATUS_CHANGED,
+        DELETED,
+        PASSWORD_CHANGED
+    }
+}
@@ -1,6 +1,8 @@
 package com.devmatch.api.user.application.mapper;
 
+import com.devmatch.api.tag.application.dto.TagResponseDto;
 import com.devmatch.api.user.application.dto.shared.UserResponseDto;
+import com.devmatch.api.user.application.port.out.UserBatchQueryRepositoryPort;
 import com.devmatch.api.user.domain.model.User;
 import com.devmatch.api.tag.application.mapper.TagMapper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -69,4 +71,42 @@ public class UserMapper {
         
         return dto;
     }
+
+    /**
+     * Convierte los datos de un usuario cargados por lotes a UserResponseDto
+     *
+     * @param user Datos del usuario
+     * @param tags Tags del usuario
+     * @return DTO de respuesta, sin profile types
+     */
+    public UserResponseDto toDto(UserBatchQueryRepositoryPort.UserDetailData user,
+                                 List<UserBatchQueryRepositoryPort.UserTagData> tags) {
+        UserResponseDto dto = new UserResponseDto();
+        dto.setId(user.id());
+        dto.setUsername(user.username());
+        dto.setEmail(user.email());
+        dto.setFirstName(user.firstName());
+        dto.setLastName(user.lastName());
+        dto.setCountry(user.country());
+        dto.setProvince(user.province());
+        dto.setCity(user.city());
+        dto.setGithubUrl(user.githubUrl());
+        dto.setLinkedinUrl(user.linkedinUrl());
+        dto.setPortfolioUrl(user.portfolioUrl());
+        dto.setAvatarUrl(user.avatarUrl());
+        dto.setBio(user.bio());
+        dto.setRole(user.role());
+        dto.setActive(user.active());
+        dto.setDeleted(user.deleted());
+        dto.setTags(tags.stream()
+                .map(tag -> {
+                    TagResponseDto tagDto = new TagResponseDto();
+                    tagDto.setId(tag.id());
+                    tagDto.setName(tag.name());
+                    tagDto.setTagType(tag.tagType());
+                    return tagDto;
+                })
+                .collect(Collectors.toList()));
+        return dto;
+    }
 }
\ No newline at end of file
@@ -7,8 +7,8 @@ import com.devmatch.api.user.application.dto.shared.UserResponseDto;
 /**
  * Casos de uso relacionados con la autenticación de usuarios.
  * 
- * Define las operaciones necesarias para permitir el inicio de sesión
- * y el registro de nuevos usuarios en la plataforma DevMatch.
+ * Define las operaciones necesarias para permitir el inicio de sesión,
+ * el cierre de sesión y el registro de nuevos usuarios en la plataforma DevMatch.
  */
 public interface AuthUseCase {
 
@@ -28,4 +28,13 @@ public interface AuthUseCase {
      * @return DTO con la información del usuario registrado.
      */
     UserResponseDto register(UserRegisterRequestDto dto);
+
+    /**
+     * Cierra la sesión revocando el token recibido. Solo tiene efecto en modo
+     * STATELESS, el único con registro de tokens revocados; en modo STATEFUL
+     * el token sigue siendo válido hasta su expiración.
+     *
+     * @param authHeader Cabecera Authorization con el token ("Bearer ...").
+     */
+    void logout(String authHeader);
 }
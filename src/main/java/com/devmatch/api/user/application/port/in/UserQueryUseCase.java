@@ -4,6 +4,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import com.devmatch.api.user.application.dto.admin.UserSearchCriteriaDto;
 import com.devmatch.api.user.application.dto.shared.UserResponseDto;
+import com.devmatch.api.user.application.dto.shared.UserSummaryDto;
+
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * Casos de uso para realizar consultas relacionadas con usuarios.
@@ -20,12 +24,22 @@ public interface UserQueryUseCase {
      */
     UserResponseDto findUserById(Long userId);
 
+    /**
+     * Obtiene los datos básicos y los profile types de varios usuarios con un
+     * número de consultas constante, sea cual sea el número de IDs.
+     * Incluye usuarios inactivos o eliminados.
+     *
+     * @param userIds IDs de los usuarios (se ignoran duplicados y nulos).
+     * @return Usuarios encontrados indexados por ID; los IDs inexistentes no aparecen.
+     */
+    Map<Long, UserSummaryDto> findUsersByIds(Collection<Long> userIds);
+
     /**
      * Busca usuarios por múltiples criterios opcionales, incluyendo estado.
-     * La búsqueda es parcial (contiene) y todos los parámetros son opcionales.
+     * Los filtros de texto buscan subcadenas, sin distinguir mayúsculas ni acentos, y todos los parámetros son opcionales.
      * Solo para uso administrativo.
      *
-     * @param criteria DTO con los criterios de búsqueda (email, username, firstName, lastName, status)
+     * @param criteria DTO con los criterios de búsqueda (email, username, firstName, lastName, ubicación, status)
      * @param pageable Parámetros de paginación y ordenación
      * @return Página de usuarios que coinciden con los criterios especificados
      */
@@ -0,0 +1,59 @@
+package com.devmatch.api.user.application.port.out;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Puerto de salida de solo lectura para cargar datos de muchos usuarios a la
+ * vez con consultas por conjunto, en lugar de una consulta por usuario.
+ */
+public interface UserBatchQueryRepositoryPort {
+
+    /**
+     * Obtiene los datos básicos de varios usuarios, incluidos inactivos o eliminados
+     * @param userIds IDs de los usuarios
+     * @return Datos de los usuarios encontrados, en cualquier orden
+     */
+    List<UserBasicData> findBasicDataByIds(Collection<Long> userIds);
+
+    /**
+     * Obtiene los nombres de los profile types activos de varios usuarios
+     * @param userIds IDs de los usuarios
+     * @return Nombres por ID de usuario, en orden de asignación
+     */
+    Map<Long, List<String>> findProfileTypeNamesByUserIds(Collection<Long> userIds);
+
+    /**
+     * Obtiene los datos de perfil completos de varios usuarios, con el nombre de su rol
+     * @param userIds IDs de los usuarios
+     * @return Datos de los usuarios encontrados, en cualquier orden
+     */
+    List<UserDetailData> findDetailDataByIds(Collection<Long> userIds);
+
+    /**
+     * Obtiene los tags activos de varios usuarios
+     * @param userIds IDs de los usuarios
+     * @return Tags por ID de usuario, ordenados por nombre
+     */
+    Map<Long, List<UserTagData>> findTagsByUserIds(Collection<Long> userIds);
+
+    /**
+     * Obtiene los IDs de los usuarios que tienen asignado un profile type
+     * @param profileTypeId ID del profile type
+     * @return IDs de los usuarios
+     */
+    List<Long> findUserIdsByProfileTypeId(Long profileTypeId);
+
+    record UserBasicData(Long id, String username, String firstName, String lastName) {
+    }
+
+    record UserDetailData(Long id, String username, String email, String firstName, String lastName,
+                          String country, String province, String city,
+                          String githubUrl, String linkedinUrl, String portfolioUrl, String avatarUrl,
+                          String bio, String role, boolean active, boolean deleted) {
+    }
+
+    record UserTagData(Long id, String name, String tagType) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.devmatch.api.user.application.port.out;
+
+import com.devmatch.api.shared.application.text.KeyBackfillBatch;
+import com.devmatch.api.user.application.dto.admin.UserSearchCriteriaDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Puerto de salida para la búsqueda administrativa de usuarios sobre las
+ * claves normalizadas ({@code username_key}, {@code country_key},
+ * {@code province_key}, {@code city_key}) y para mantenerlas al día.
+ */
+public interface UserSearchRepositoryPort {
+
+    /**
+     * Busca los IDs de los usuarios que cumplen los criterios.
+     * Los filtros de texto buscan subcadenas sin distinguir mayúsculas ni acentos.
+     * @param criteria Criterios de búsqueda
+     * @param pageable Página solicitada y su orden; el ID desempata
+     * @return Página de IDs en el orden solicitado
+     * @throws IllegalArgumentException si se pide ordenar por una propiedad no permitida
+     */
+    Page<Long> searchUserIds(UserSearchCriteriaDto criteria, Pageable pageable);
+
+    /**
+     * Recalcula las claves de búsqueda de un usuario tras registrarlo o editar su perfil
+     * @param userId ID del usuario
+     * @param username Nombre de usuario
+     * @param country País
+     * @param province Provincia
+     * @param city Ciudad
+     */
+    void refreshSearchKeys(Long userId, String username, String country, String province, String city);
+
+    /**
+     * Lee, por orden de ID, un tramo de usuarios y calcula las claves de los
+     * que aún no las tienen. Las claves no están indexadas, así que se recorre
+     * la clave primaria en tramos acotados en lugar de filtrar por
+     * {@code username_key IS NULL}.
+     * @param afterId Se leen los usuarios con ID mayor que este
+     * @param batchSize Número máximo de usuarios a leer
+     * @return Último ID leído, si se llegó al final y cuántos se actualizaron
+     */
+    KeyBackfillBatch backfillMissingKeys(long afterId, int batchSize);
+}
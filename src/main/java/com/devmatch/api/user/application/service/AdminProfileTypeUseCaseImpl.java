@@ -5,13 +5,16 @@ import com.devmatch.api.user.application.dto.admin.AdminProfileTypeResponseDto;
 import com.devmatch.api.user.application.dto.profile.ProfileTypeResponseDto;
 import com.devmatch.api.user.application.dto.profile.UserProfileTypeRequestDto;
 import com.devmatch.api.user.application.dto.shared.UserResponseDto;
+import com.devmatch.api.user.application.event.UserProfileChangedEvent;
 import com.devmatch.api.user.application.port.in.AdminProfileTypeUseCase;
+import com.devmatch.api.user.application.port.out.UserBatchQueryRepositoryPort;
 import com.devmatch.api.user.application.port.out.UserRepositoryPort;
 import com.devmatch.api.user.application.port.out.ProfileTypeRepositoryPort;
 import com.devmatch.api.user.application.mapper.UserMapper;
 import com.devmatch.api.user.domain.exception.UserNotFoundException;
 import com.devmatch.api.user.domain.exception.ProfileTypeInUseException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,7 +28,9 @@ public class AdminProfileTypeUseCaseImpl implements AdminProfileTypeUseCase {
 
     private final UserRepositoryPort userRepositoryPort;
     private final ProfileTypeRepositoryPort profileTypeRepositoryPort;
+    private final UserBatchQueryRepositoryPort userBatchQueryRepositoryPort;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<AdminProfileTypeResponseDto> getAllProfileTypes() {
@@ -58,6 +63,11 @@ public class AdminProfileTypeUseCaseImpl implements AdminProfileTypeUseCase {
             request.getName(), 
             request.getDescription()
         );
+
+        // El nombre del tipo de perfil aparece en las respuestas ya montadas de sus usuarios
+        for (Long userId : userBatchQueryRepositoryPort.findUserIdsByProfileTypeId(id)) {
+            eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
+        }
         
         // Convertir a DTO de respuesta
         return toAdminProfileTypeResponseDto(updatedProfileType);
@@ -97,6 +107,7 @@ public class AdminProfileTypeUseCaseImpl implements AdminProfileTypeUseCase {
         
         // Agregar el tipo de perfil al usuario
         profileTypeRepositoryPort.addProfileTypeToUser(userId, request.getProfileTypeId());
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
         
         // Obtener el usuario actualizado
         var updatedUser = userRepositoryPort.findById(userId)
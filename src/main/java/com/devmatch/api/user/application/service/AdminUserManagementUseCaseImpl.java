@@ -2,6 +2,7 @@ package com.devmatch.api.user.application.service;
 
 import com.devmatch.api.user.application.dto.shared.UserResponseDto;
 import com.devmatch.api.user.application.dto.admin.UpdateUserRoleRequestDto;
+import com.devmatch.api.user.application.event.UserSecurityChangedEvent;
 import com.devmatch.api.user.application.mapper.UserMapper;
 import com.devmatch.api.user.application.port.in.AdminUserManagementUseCase;
 import com.devmatch.api.user.application.port.out.UserRepositoryPort;
@@ -10,6 +11,7 @@ import com.devmatch.api.user.domain.exception.UserOperationNotAllowedException;
 import com.devmatch.api.role.domain.model.Role;
 import com.devmatch.api.user.domain.model.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class AdminUserManagementUseCaseImpl implements AdminUserManagementUseCas
 
     private final UserRepositoryPort userRepositoryPort;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -42,6 +45,7 @@ public class AdminUserManagementUseCaseImpl implements AdminUserManagementUseCas
         user.setRole(newRole);
         
         User updatedUser = userRepositoryPort.save(user);
+        eventPublisher.publishEvent(new UserSecurityChangedEvent(userId, UserSecurityChangedEvent.Reason.ROLE_CHANGED));
         return userMapper.toDto(updatedUser);
     }
 
@@ -53,6 +57,7 @@ public class AdminUserManagementUseCaseImpl implements AdminUserManagementUseCas
 
         user.setActive(active);
         User updatedUser = userRepositoryPort.save(user);
+        eventPublisher.publishEvent(new UserSecurityChangedEvent(userId, UserSecurityChangedEvent.Reason.STATUS_CHANGED));
         return userMapper.toDto(updatedUser);
     }
 
@@ -71,5 +76,6 @@ public class AdminUserManagementUseCaseImpl implements AdminUserManagementUseCas
         user.setDeleted(true);
         user.setActive(false);
         userRepositoryPort.save(user);
+        eventPublisher.publishEvent(new UserSecurityChangedEvent(userId, UserSecurityChangedEvent.Reason.DELETED));
     }
 } 
\ No newline at end of file
@@ -3,22 +3,31 @@ package com.devmatch.api.user.application.service;
 import com.devmatch.api.user.application.dto.auth.LoginRequestDto;
 import com.devmatch.api.user.application.dto.register.UserRegisterRequestDto;
 import com.devmatch.api.user.application.dto.shared.UserResponseDto;
+import com.devmatch.api.user.application.event.TokenRevokedEvent;
 import com.devmatch.api.user.application.exception.AuthenticationException;
 import com.devmatch.api.user.application.exception.UserAlreadyExistsException;
 import com.devmatch.api.user.application.mapper.UserMapper;
 import com.devmatch.api.user.application.port.in.AuthUseCase;
 import com.devmatch.api.user.application.port.out.UserRepositoryPort;
+import com.devmatch.api.user.application.port.out.UserSearchRepositoryPort;
 import com.devmatch.api.security.application.port.out.AuthTokenRepositoryPort;
+import com.devmatch.api.security.application.port.out.StatelessTokenPort;
+import com.devmatch.api.security.application.port.out.TokenRevocationRepositoryPort;
+import com.devmatch.api.security.application.service.PasswordHashingService;
+import com.devmatch.api.security.domain.model.AuthMode;
 import com.devmatch.api.user.domain.model.User;
 import com.devmatch.api.role.domain.model.Role;
 import com.devmatch.api.user.domain.model.valueobject.user.Email;
 import com.devmatch.api.user.domain.model.valueobject.user.Password;
 import com.devmatch.api.user.domain.model.valueobject.user.Username;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
 /**
  * Implementación del caso de uso de autenticación y registro de usuarios.
  */
@@ -27,9 +36,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthUseCaseImpl implements AuthUseCase {
 
     private final UserRepositoryPort userRepositoryPort;
+    private final UserSearchRepositoryPort userSearchRepositoryPort;
     private final AuthTokenRepositoryPort authTokenRepositoryPort;
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final StatelessTokenPort statelessTokenPort;
+    private final TokenRevocationRepositoryPort tokenRevocationRepositoryPort;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${security.auth.mode:STATEFUL}")
+    private AuthMode authMode;
 
     @Override
     @Transactional
@@ -37,7 +53,7 @@ public class AuthUseCaseImpl implements AuthUseCase {
         User user = userRepositoryPort.findByUsername(dto.getUsername())
                 .orElseThrow(() -> new AuthenticationException("Credenciales inválidas"));
 
-        if (!passwordEncoder.matches(dto.getPassword(), user.getPasswordHash().getValue())) {
+        if (!passwordHashingService.matches(dto.getPassword(), user.getPasswordHash().getValue())) {
             throw new AuthenticationException("Credenciales inválidas");
         }
 
@@ -45,9 +61,37 @@ public class AuthUseCaseImpl implements AuthUseCase {
             throw new AuthenticationException("Usuario inactivo");
         }
 
+        // Rehashear con el coste configurado si el hash almacenado es más débil
+        if (passwordHashingService.needsRehash(user.getPasswordHash().getValue())) {
+            user.changePassword(new Password(passwordHashingService.encode(dto.getPassword())));
+            user = userRepositoryPort.save(user);
+        }
+
+        // En modo STATELESS el rol y el estado viajan firmados en el token
+        if (authMode == AuthMode.STATELESS) {
+            return statelessTokenPort.generateToken(user);
+        }
+
         return authTokenRepositoryPort.generateToken(user);
     }
 
+    @Override
+    @Transactional
+    public void logout(String authHeader) {
+        if (authMode != AuthMode.STATELESS || authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return;
+        }
+
+        // Solo se revocan tokens con firma válida y jti
+        statelessTokenPort.parseToken(authTokenRepositoryPort.extractToken(authHeader))
+                .filter(claims -> claims.tokenId() != null)
+                .ifPresent(claims -> {
+                    tokenRevocationRepositoryPort.revokeToken(claims.tokenId(), claims.userId(),
+                            Instant.ofEpochSecond(claims.expiresAtEpochSecond()));
+                    eventPublisher.publishEvent(new TokenRevokedEvent(claims.userId(), claims.tokenId()));
+                });
+    }
+
     @Override
     @Transactional
     public UserResponseDto register(UserRegisterRequestDto dto) {
@@ -64,7 +108,7 @@ public class AuthUseCaseImpl implements AuthUseCase {
         User user = new User(
             new Username(dto.getUsername()),
             new Email(dto.getEmail()),
-            new Password(passwordEncoder.encode(dto.getPassword())),
+            new Password(passwordHashingService.encode(dto.getPassword())),
             dto.getFirstName(),
             dto.getLastName(),
             dto.getCountry(),
@@ -80,6 +124,8 @@ public class AuthUseCaseImpl implements AuthUseCase {
 
         // Guardar el usuario
         User savedUser = userRepositoryPort.save(user);
+        userSearchRepositoryPort.refreshSearchKeys(savedUser.getId(), savedUser.getUsername().getValue(),
+                savedUser.getCountry(), savedUser.getProvince(), savedUser.getCity());
         return userMapper.toDto(savedUser);
     }
 } 
\ No newline at end of file
@@ -1,19 +1,22 @@
 package com.devmatch.api.user.application.service;
 
+import com.devmatch.api.security.application.service.PasswordHashingService;
 import com.devmatch.api.user.application.dto.profile.UserUpdateProfileRequestDto;
 import com.devmatch.api.user.application.dto.profile.UserChangePasswordRequestDto;
 import com.devmatch.api.user.application.dto.profile.UserChangeEmailRequestDto;
 import com.devmatch.api.user.application.dto.profile.UserChangeAvatarRequestDto;
 import com.devmatch.api.user.application.dto.shared.UserResponseDto;
+import com.devmatch.api.user.application.event.UserSecurityChangedEvent;
 import com.devmatch.api.user.application.mapper.UserMapper;
 import com.devmatch.api.user.application.port.in.ProfileUseCase;
 import com.devmatch.api.user.application.port.out.UserRepositoryPort;
+import com.devmatch.api.user.application.port.out.UserSearchRepositoryPort;
 import com.devmatch.api.user.domain.exception.UserNotFoundException;
 import com.devmatch.api.user.domain.model.User;
 import com.devmatch.api.user.domain.model.valueobject.user.Email;
 import com.devmatch.api.user.domain.model.valueobject.user.Password;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,8 +30,10 @@ import java.util.List;
 public class ProfileUseCaseImpl implements ProfileUseCase {
 
     private final UserRepositoryPort userRepositoryPort;
+    private final UserSearchRepositoryPort userSearchRepositoryPort;
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -77,6 +82,8 @@ public class ProfileUseCaseImpl implements ProfileUseCase {
         }
 
         User updatedUser = userRepositoryPort.save(user);
+        userSearchRepositoryPort.refreshSearchKeys(userId, updatedUser.getUsername().getValue(),
+                updatedUser.getCountry(), updatedUser.getProvince(), updatedUser.getCity());
         return userMapper.toDto(updatedUser, getProfileTypesForUser(userId));
     }
 
@@ -86,17 +93,19 @@ public class ProfileUseCaseImpl implements ProfileUseCase {
         User user = userRepositoryPort.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("Usuario no encontrado"));
 
-        if (!passwordEncoder.matches(dto.getCurrentPassword(), user.getPasswordHash().getValue())) {
+        if (!passwordHashingService.matches(dto.getCurrentPassword(), user.getPasswordHash().getValue())) {
             throw new IllegalArgumentException("La contraseña actual es incorrecta");
         }
 
-        // Verificar que la nueva contraseña sea diferente a la actual
-        if (passwordEncoder.matches(dto.getNewPassword(), user.getPasswordHash().getValue())) {
+        // Verificar que la nueva contraseña sea diferente a la actual. Como la actual ya
+        // coincide con el hash, basta con compararlas sin un segundo cálculo de BCrypt
+        if (dto.getNewPassword().equals(dto.getCurrentPassword())) {
             throw new IllegalArgumentException("La nueva contraseña no puede ser igual a la contraseña actual");
         }
 
-        user.changePassword(new Password(passwordEncoder.encode(dto.getNewPassword())));
+        user.changePassword(new Password(passwordHashingService.encode(dto.getNewPassword())));
         userRepositoryPort.save(user);
+        eventPublisher.publishEvent(new UserSecurityChangedEvent(userId, UserSecurityChangedEvent.Reason.PASSWORD_CHANGED));
     }
 
     @Override
@@ -111,7 +120,7 @@ public class ProfileUseCaseImpl implements ProfileUseCase {
         }
 
         // Verificar la contraseña
-        if (!passwordEncoder.matches(dto.getPassword(), user.getPasswordHash().getValue())) {
+        if (!passwordHashingService.matches(dto.getPassword(), user.getPasswordHash().getValue())) {
             throw new IllegalArgumentException("La contraseña es incorrecta");
         }
 
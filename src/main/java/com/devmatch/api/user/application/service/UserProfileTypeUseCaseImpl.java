@@ -3,12 +3,14 @@ package com.devmatch.api.user.application.service;
 import com.devmatch.api.user.application.dto.profile.ProfileTypeResponseDto;
 import com.devmatch.api.user.application.dto.profile.UserProfileTypeRequestDto;
 import com.devmatch.api.user.application.dto.shared.UserResponseDto;
+import com.devmatch.api.user.application.event.UserProfileChangedEvent;
 import com.devmatch.api.user.application.port.in.UserProfileTypeUseCase;
 import com.devmatch.api.user.application.port.out.UserRepositoryPort;
 import com.devmatch.api.user.application.port.out.ProfileTypeRepositoryPort;
 import com.devmatch.api.user.application.mapper.UserMapper;
 import com.devmatch.api.user.domain.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ public class UserProfileTypeUseCaseImpl implements UserProfileTypeUseCase {
     private final UserRepositoryPort userRepositoryPort;
     private final ProfileTypeRepositoryPort profileTypeRepositoryPort;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<ProfileTypeResponseDto> getUserProfileTypes(String username) {
@@ -51,6 +54,7 @@ public class UserProfileTypeUseCaseImpl implements UserProfileTypeUseCase {
         
         // Agregar el tipo de perfil al usuario
         profileTypeRepositoryPort.addProfileTypeToUser(user.getId(), request.getProfileTypeId());
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
         
         // Obtener el usuario actualizado con los nuevos tipos de perfil
         var updatedUser = userRepositoryPort.findById(user.getId())
@@ -73,6 +77,7 @@ public class UserProfileTypeUseCaseImpl implements UserProfileTypeUseCase {
         
         // Remover el tipo de perfil del usuario
         profileTypeRepositoryPort.removeProfileTypeFromUser(user.getId(), profileTypeId);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
         
         // Obtener el usuario actualizado con los tipos de perfil actualizados
         var updatedUser = userRepositoryPort.findById(user.getId())
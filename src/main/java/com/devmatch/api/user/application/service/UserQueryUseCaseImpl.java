@@ -2,17 +2,25 @@ package com.devmatch.api.user.application.service;
 
 import com.devmatch.api.user.application.dto.admin.UserSearchCriteriaDto;
 import com.devmatch.api.user.application.dto.shared.UserResponseDto;
+import com.devmatch.api.user.application.dto.shared.UserSummaryDto;
 import com.devmatch.api.user.application.mapper.UserMapper;
 import com.devmatch.api.user.application.port.in.UserQueryUseCase;
+import com.devmatch.api.user.application.port.out.UserBatchQueryRepositoryPort;
 import com.devmatch.api.user.application.port.out.UserRepositoryPort;
+import com.devmatch.api.user.application.port.out.UserSearchRepositoryPort;
 import com.devmatch.api.user.domain.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Implementación del caso de uso UserQueryUseCase.
@@ -23,6 +31,8 @@ import java.util.List;
 public class UserQueryUseCaseImpl implements UserQueryUseCase {
 
     private final UserRepositoryPort userRepositoryPort;
+    private final UserSearchRepositoryPort userSearchRepositoryPort;
+    private final UserBatchQueryRepositoryPort userBatchQueryRepositoryPort;
     private final UserMapper userMapper;
 
     @Override
@@ -33,6 +43,33 @@ public class UserQueryUseCaseImpl implements UserQueryUseCase {
                 .orElseThrow(() -> new UserNotFoundException("Usuario no encontrado"));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, UserSummaryDto> findUsersByIds(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        // Dos consultas por conjunto: datos básicos y profile types
+        List<UserBatchQueryRepositoryPort.UserBasicData> users = userBatchQueryRepositoryPort.findBasicDataByIds(userIds);
+        if (users.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<String>> profileTypes = userBatchQueryRepositoryPort.findProfileTypeNamesByUserIds(
+                users.stream().map(UserBatchQueryRepositoryPort.UserBasicData::id).toList());
+
+        Map<Long, UserSummaryDto> summaries = new HashMap<>();
+        for (UserBatchQueryRepositoryPort.UserBasicData user : users) {
+            summaries.put(user.id(), new UserSummaryDto(
+                    user.id(),
+                    user.username(),
+                    user.firstName(),
+                    user.lastName(),
+                    profileTypes.getOrDefault(user.id(), List.of())));
+        }
+        return summaries;
+    }
+
     /**
      * Método auxiliar para obtener los profile types de un usuario
      */
@@ -46,6 +83,24 @@ public class UserQueryUseCaseImpl implements UserQueryUseCase {
     @Override
     @Transactional(readOnly = true)
     public Page<UserResponseDto> searchUsers(UserSearchCriteriaDto criteria, Pageable pageable) {
-        return userRepositoryPort.searchUsers(criteria, pageable).map(userMapper::toDto);
+        // Los filtros y el orden se resuelven en SQL; la página se carga con dos consultas por conjunto
+        Page<Long> userIds = userSearchRepositoryPort.searchUserIds(criteria, pageable);
+        if (userIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, userIds.getTotalElements());
+        }
+        Map<Long, UserBatchQueryRepositoryPort.UserDetailData> users = new HashMap<>();
+        for (UserBatchQueryRepositoryPort.UserDetailData user : userBatchQueryRepositoryPort.findDetailDataByIds(userIds.getContent())) {
+            users.put(user.id(), user);
+        }
+        Map<Long, List<UserBatchQueryRepositoryPort.UserTagData>> tags =
+                userBatchQueryRepositoryPort.findTagsByUserIds(users.keySet());
+
+        // Se respeta el orden de los IDs de la página
+        List<UserResponseDto> page = userIds.getContent().stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .map(user -> userMapper.toDto(user, tags.getOrDefault(user.id(), List.of())))
+                .toList();
+        return new PageImpl<>(page, pageable, userIds.getTotalElements());
     }
 } 
\ No newline at end of file
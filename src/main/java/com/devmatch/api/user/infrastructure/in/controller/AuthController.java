@@ -1,10 +1,12 @@
 package com.devmatch.api.user.infrastructure.in.controller;
 
+import com.devmatch.api.security.infrastructure.in.security.AuthRateLimiter;
 import com.devmatch.api.user.application.dto.auth.JwtResponse;
 import com.devmatch.api.user.application.dto.auth.LoginRequestDto;
 import com.devmatch.api.user.application.dto.register.UserRegisterRequestDto;
 import com.devmatch.api.user.application.dto.shared.UserResponseDto;
 import com.devmatch.api.user.application.port.in.AuthUseCase;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -15,15 +17,24 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthUseCase authUseCase;
+    private final AuthRateLimiter authRateLimiter;
 
     @PostMapping("/login")
-    public ResponseEntity<JwtResponse> login(@RequestBody LoginRequestDto loginRequest) {
+    public ResponseEntity<JwtResponse> login(@RequestBody LoginRequestDto loginRequest, HttpServletRequest request) {
+        authRateLimiter.checkAttempt(request.getRemoteAddr(), loginRequest.getUsername());
         String token = authUseCase.login(loginRequest);
         return ResponseEntity.ok(new JwtResponse(token));
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = "Authorization", required = false) String authHeader) {
+        authUseCase.logout(authHeader);
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/register")
-    public ResponseEntity<UserResponseDto> register(@RequestBody UserRegisterRequestDto registerRequest) {
+    public ResponseEntity<UserResponseDto> register(@RequestBody UserRegisterRequestDto registerRequest, HttpServletRequest request) {
+        authRateLimiter.checkAttempt(request.getRemoteAddr(), registerRequest.getUsername());
         UserResponseDto user = authUseCase.register(registerRequest);
         return ResponseEntity.ok(user);
     }
@@ -0,0 +1,111 @@
+package com.devmatch.api.user.infrastructure.out.persistence.adapter;
+
+import com.devmatch.api.shared.infrastructure.util.IdChunks;
+import com.devmatch.api.user.application.port.out.UserBatchQueryRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adaptador JDBC de consultas de usuarios por lotes.
+ *
+ * Cada método lanza una única consulta {@code IN (...)} por cada bloque de
+ * {@value IdChunks#MAX_IDS_PER_QUERY} IDs, de modo que el número de consultas no
+ * depende del número de filas que se estén mapeando.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcUserBatchQueryRepositoryAdapter implements UserBatchQueryRepositoryPort {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public List<UserBasicData> findBasicDataByIds(Collection<Long> userIds) {
+        List<UserBasicData> users = new ArrayList<>();
+        IdChunks.forEach(userIds, chunk -> users.addAll(namedParameterJdbcTemplate.query(
+                "SELECT id, username, first_name, last_name FROM users WHERE id IN (:ids)",
+                Map.of("ids", chunk),
+                (rs, rowNum) -> new UserBasicData(
+                        rs.getLong("id"),
+                        rs.getString("username"),
+                        rs.getString("first_name"),
+                        rs.getString("last_name")))));
+        return users;
+    }
+
+    @Override
+    public Map<Long, List<String>> findProfileTypeNamesByUserIds(Collection<Long> userIds) {
+        Map<Long, List<String>> profileTypes = new HashMap<>();
+        IdChunks.forEach(userIds, chunk -> namedParameterJdbcTemplate.query(
+                "SELECT upt.user_id, pt.name FROM user_profile_types upt "
+                        + "JOIN profile_types pt ON pt.id = upt.profile_type_id "
+                        + "WHERE upt.user_id IN (:ids) AND upt.is_active = TRUE AND upt.is_deleted = FALSE "
+                        + "ORDER BY upt.user_id, upt.created_at, pt.id",
+                Map.of("ids", chunk),
+                rs -> {
+                    profileTypes.computeIfAbsent(rs.getLong("user_id"), id -> new ArrayList<>())
+                            .add(rs.getString("name"));
+                }));
+        return profileTypes;
+    }
+
+    @Override
+    public List<UserDetailData> findDetailDataByIds(Collection<Long> userIds) {
+        List<UserDetailData> users = new ArrayList<>();
+        IdChunks.forEach(userIds, chunk -> users.addAll(namedParameterJdbcTemplate.query(
+                "SELECT u.id, u.username, u.email, u.first_name, u.last_name, u.country, u.province, u.city, "
+                        + "u.github_url, u.linkedin_url, u.portfolio_url, u.avatar_url, u.bio, "
+                        + "r.name AS role_name, u.is_active, u.is_deleted "
+                        + "FROM users u LEFT JOIN roles r ON r.id = u.role_id WHERE u.id IN (:ids)",
+                Map.of("ids", chunk),
+                (rs, rowNum) -> new UserDetailData(
+                        rs.getLong("id"),
+                        rs.getString("username"),
+                        rs.getString("email"),
+                        rs.getString("first_name"),
+                        rs.getString("last_name"),
+                        rs.getString("country"),
+                        rs.getString("province"),
+                        rs.getString("city"),
+                        rs.getString("github_url"),
+                        rs.getString("linkedin_url"),
+                        rs.getString("portfolio_url"),
+                        rs.getString("avatar_url"),
+                        rs.getString("bio"),
+                        rs.getString("role_name"),
+                        rs.getBoolean("is_active"),
+                        rs.getBoolean("is_deleted")))));
+        return users;
+    }
+
+    @Override
+    public Map<Long, List<UserTagData>> findTagsByUserIds(Collection<Long> userIds) {
+        Map<Long, List<UserTagData>> tags = new HashMap<>();
+        IdChunks.forEach(userIds, chunk -> namedParameterJdbcTemplate.query(
+                "SELECT ut.user_id, t.id, t.name, t.tag_type FROM user_tags ut "
+                        + "JOIN tags t ON t.id = ut.tag_id "
+                        + "WHERE ut.user_id IN (:ids) AND ut.is_active = TRUE AND ut.is_deleted = FALSE "
+                        + "ORDER BY ut.user_id, t.name",
+                Map.of("ids", chunk),
+                rs -> {
+                    tags.computeIfAbsent(rs.getLong("user_id"), id -> new ArrayList<>())
+                            .add(new UserTagData(rs.getLong("id"), rs.getString("name"), rs.getString("tag_type")));
+                }));
+        return tags;
+    }
+
+    @Override
+    public List<Long> findUserIdsByProfileTypeId(Long profileTypeId) {
+        return namedParameterJdbcTemplate.queryForList(
+                "SELECT user_id FROM user_profile_types "
+                        + "WHERE profile_type_id = :profileTypeId AND is_active = TRUE AND is_deleted = FALSE",
+                Map.of("profileTypeId", profileTypeId),
+                Long.class);
+    }
+}
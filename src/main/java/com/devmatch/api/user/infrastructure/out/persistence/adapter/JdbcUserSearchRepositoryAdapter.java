@@ -0,0 +1,176 @@
+package com.devmatch.api.user.infrastructure.out.persistence.adapter;
+
+import com.devmatch.api.shared.application.text.KeyBackfillBatch;
+import com.devmatch.api.shared.application.text.SearchKeys;
+import com.devmatch.api.user.application.dto.admin.UserSearchCriteriaDto;
+import com.devmatch.api.user.application.port.out.UserSearchRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Adaptador JDBC de búsqueda administrativa de usuarios.
+ *
+ * Todos los filtros de texto buscan subcadenas, como la búsqueda original.
+ * El nombre de usuario y la ubicación se comparan sobre sus claves
+ * normalizadas, que ya están en minúsculas y sin acentos, en lugar de
+ * aplicar {@code LOWER()} fila a fila. Un {@code LIKE '%...%'} no puede
+ * usar un índice, así que las claves no están indexadas: cada búsqueda
+ * recorre la tabla, aceptable para una búsqueda solo administrativa.
+ * El orden de la página sale del
+ * {@link Pageable}, limitado a las columnas de {@link #SORT_COLUMNS}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcUserSearchRepositoryAdapter implements UserSearchRepositoryPort {
+
+    /**
+     * Propiedades de {@code UserResponseDto} por las que se puede ordenar y su columna
+     */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "username", "username",
+            "email", "email",
+            "firstName", "first_name",
+            "lastName", "last_name",
+            "country", "country",
+            "province", "province",
+            "city", "city",
+            "active", "is_active",
+            "deleted", "is_deleted");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Page<Long> searchUserIds(UserSearchCriteriaDto criteria, Pageable pageable) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        List<Object> parameters = new ArrayList<>();
+
+        appendLike(where, parameters, "username_key", SearchKeys.containsPattern(criteria.getUsername()));
+        appendLike(where, parameters, "country_key", SearchKeys.containsPattern(criteria.getCountry()));
+        appendLike(where, parameters, "province_key", SearchKeys.containsPattern(criteria.getProvince()));
+        appendLike(where, parameters, "city_key", SearchKeys.containsPattern(criteria.getCity()));
+        // email, first_name y last_name usan la colación utf8mb4_unicode_ci de la tabla, que ya
+        // ignora mayúsculas y acentos, así que basta con no envolver la columna en LOWER()
+        appendLike(where, parameters, "email", rawContains(criteria.getEmail()));
+        appendLike(where, parameters, "first_name", rawContains(criteria.getFirstName()));
+        appendLike(where, parameters, "last_name", rawContains(criteria.getLastName()));
+
+        if (criteria.getStatus() != null) {
+            switch (criteria.getStatus().trim().toLowerCase(Locale.ROOT)) {
+                case "active" -> where.append(" AND is_active = TRUE AND is_deleted = FALSE");
+                case "inactive" -> where.append(" AND is_active = FALSE AND is_deleted = FALSE");
+                case "deleted" -> where.append(" AND is_deleted = TRUE");
+                default -> {
+                    // Cualquier otro valor no filtra por estado
+                }
+            }
+        }
+
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users" + where, Long.class, parameters.toArray());
+        if (total == null || total == 0) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        String sql = "SELECT id FROM users" + where + orderBy(pageable.getSort());
+        List<Object> pageParameters = new ArrayList<>(parameters);
+        if (pageable.isPaged()) {
+            sql += " LIMIT ? OFFSET ?";
+            pageParameters.add(pageable.getPageSize());
+            pageParameters.add(pageable.getOffset());
+        }
+        List<Long> ids = jdbcTemplate.queryForList(sql, Long.class, pageParameters.toArray());
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    @Override
+    public void refreshSearchKeys(Long userId, String username, String country, String province, String city) {
+        jdbcTemplate.update(
+                "UPDATE users SET username_key = ?, country_key = ?, province_key = ?, city_key = ? WHERE id = ?",
+                SearchKeys.normalize(username),
+                SearchKeys.normalize(country),
+                SearchKeys.normalize(province),
+                SearchKeys.normalize(city),
+                userId);
+    }
+
+    @Override
+    public KeyBackfillBatch backfillMissingKeys(long afterId, int batchSize) {
+        List<KeySource> rows = jdbcTemplate.query(
+                "SELECT id, username, country, province, city, username_key IS NULL AS missing "
+                        + "FROM users WHERE id > ? ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new KeySource(
+                        rs.getLong("id"),
+                        rs.getBoolean("missing"),
+                        rs.getString("username"),
+                        rs.getString("country"),
+                        rs.getString("province"),
+                        rs.getString("city")),
+                afterId, batchSize);
+
+        List<Object[]> updates = rows.stream()
+                .filter(KeySource::missing)
+                .map(row -> new Object[]{
+                        SearchKeys.normalize(row.username()),
+                        SearchKeys.normalize(row.country()),
+                        SearchKeys.normalize(row.province()),
+                        SearchKeys.normalize(row.city()),
+                        row.id()})
+                .toList();
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE users SET username_key = ?, country_key = ?, province_key = ?, city_key = ? WHERE id = ?",
+                    updates);
+        }
+        long lastId = rows.isEmpty() ? afterId : rows.get(rows.size() - 1).id();
+        return new KeyBackfillBatch(lastId, rows.size() < batchSize, updates.size());
+    }
+
+    /**
+     * Traduce el orden solicitado a SQL, con el ID como desempate para que las páginas sean estables
+     * @throws IllegalArgumentException si se pide ordenar por una propiedad no permitida
+     */
+    private static String orderBy(Sort sort) {
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+        boolean byId = false;
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("No se puede ordenar usuarios por: " + order.getProperty());
+            }
+            orderBy.append(column).append(order.isAscending() ? " ASC" : " DESC").append(", ");
+            byId |= column.equals("id");
+        }
+        if (byId) {
+            return orderBy.substring(0, orderBy.length() - 2);
+        }
+        return orderBy.append("id").toString();
+    }
+
+    private static void appendLike(StringBuilder where, List<Object> parameters, String column, String pattern) {
+        if (pattern != null) {
+            where.append(" AND ").append(column).append(" LIKE ?");
+            parameters.add(pattern);
+        }
+    }
+
+    private static String rawContains(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return "%" + value.trim().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    private record KeySource(long id, boolean missing, String username, String country, String province, String city) {
+    }
+}
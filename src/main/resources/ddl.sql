@@ -26,6 +26,7 @@ CREATE TABLE profile_types (
 CREATE TABLE tags (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     name VARCHAR(50) NOT NULL UNIQUE,           -- Ej: Java, Angular, UX/UI, Docker
+    name_key VARCHAR(50) COLLATE utf8mb4_bin,   -- Nombre normalizado (minúsculas, sin acentos) para búsquedas
     tag_type VARCHAR(30) NOT NULL,              -- Ej: LANGUAGE, FRAMEWORK, TOOL...
     is_active BOOLEAN NOT NULL DEFAULT TRUE,
     is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
@@ -58,6 +59,10 @@ CREATE TABLE users (
     country VARCHAR(60) NOT NULL,
     province VARCHAR(60),
     city VARCHAR(60),
+    username_key VARCHAR(50) COLLATE utf8mb4_bin,  -- Claves normalizadas (minúsculas, sin acentos) para búsquedas
+    country_key VARCHAR(60) COLLATE utf8mb4_bin,
+    province_key VARCHAR(60) COLLATE utf8mb4_bin,
+    city_key VARCHAR(60) COLLATE utf8mb4_bin,
     github_url VARCHAR(255),
     linkedin_url VARCHAR(255),
     portfolio_url VARCHAR(255),
@@ -145,7 +150,9 @@ CREATE INDEX idx_user_achievements_is_active ON user_achievements(is_active);
 CREATE TABLE projects (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     title VARCHAR(100) NOT NULL,
+    title_key VARCHAR(100) COLLATE utf8mb4_bin,  -- Título normalizado (minúsculas, sin acentos) para búsquedas
     description TEXT NOT NULL,
+    description_summary VARCHAR(255),  -- Extracto de la descripción para listados, calculado al escribir
     status VARCHAR(20) NOT NULL,
     owner_id BIGINT,
     repo_url VARCHAR(255),
@@ -165,6 +172,19 @@ CREATE INDEX idx_projects_is_public ON projects(is_public);
 CREATE INDEX idx_projects_is_active ON projects(is_active);
 CREATE INDEX idx_projects_is_deleted ON projects(is_deleted);
 CREATE INDEX idx_projects_owner_id ON projects(owner_id);
+CREATE INDEX idx_projects_public_created ON projects(is_public, is_deleted, created_at, id);
+CREATE INDEX idx_projects_owner_created ON projects(owner_id, is_deleted, created_at, id);
+
+-- ==============================================================================
+-- PROJECT READ MODEL (respuesta ya montada de cada proyecto)
+-- ==============================================================================
+CREATE TABLE project_read_model (
+    project_id BIGINT PRIMARY KEY,
+    payload JSON NOT NULL,                      -- ProjectResponseDto serializado: owner, tags y miembros
+    version BIGINT NOT NULL DEFAULT 1,          -- se incrementa cuando cambia el payload
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_project_read_model_project_id FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+);
 
 -- ==============================================================================
 -- PROJECT TAGS
@@ -324,3 +344,30 @@ CREATE TABLE user_notifications (
 CREATE INDEX idx_user_notifications_user_id ON user_notifications(user_id);
 CREATE INDEX idx_user_notifications_notification_type ON user_notifications(notification_type);
 CREATE INDEX idx_user_notifications_is_read ON user_notifications(is_read);
+
+-- ==============================================================================
+-- TOKEN REVOCATIONS (modo de autorización STATELESS)
+-- ==============================================================================
+CREATE TABLE token_revocations (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    token_id VARCHAR(64) NULL,                  -- jti del token revocado; NULL si se revoca al usuario
+    user_id BIGINT NULL,
+    revoked_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3), -- milisegundos: se compara con el claim iat_ms
+    expires_at TIMESTAMP NOT NULL,              -- a partir de aquí la revocación ya no es necesaria
+    CONSTRAINT fk_token_revocations_user_id FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_token_revocations_expires_at ON token_revocations(expires_at);
+CREATE INDEX idx_token_revocations_revoked_at ON token_revocations(revoked_at);
+
+-- ==============================================================================
+-- PROJECT CHANGES (propagación entre nodos de los índices y cachés en memoria)
+-- ==============================================================================
+CREATE TABLE project_changes (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id BIGINT NOT NULL,                 -- sin FK: solo es un aviso, no un dato
+    node_id VARCHAR(36) NOT NULL,               -- nodo que hizo el cambio; no lo vuelve a aplicar
+    changed_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+);
+
+CREATE INDEX idx_project_changes_changed_at ON project_changes(changed_at);
@@ -0,0 +1,174 @@
+package com.devmatch.api.project.application.service;
+
+import com.devmatch.api.project.application.dto.ProjectFields;
+import com.devmatch.api.project.application.dto.ProjectPublicSearchRequestDto;
+import com.devmatch.api.project.application.event.ProjectChangedEvent;
+import com.devmatch.api.project.application.port.in.ProjectManagementUseCase;
+import com.devmatch.api.shared.infrastructure.tracing.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Los listados de proyectos cargan owners, miembros y tags por lotes: el
+ * número de sentencias SQL no depende de cuántas filas devuelven.
+ * Cada test inserta filas reales y se deshace al terminar.
+ */
+@SpringBootTest(properties = "tracing.enabled=true")
+@Transactional
+class ProjectQueryCountTest {
+
+	@Autowired
+	private ProjectManagementUseCase projectManagementUseCase;
+
+	@Autowired
+	private ProjectAccessIndex projectAccessIndex;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final List<Long> seededProjects = new ArrayList<>();
+	private final String suffix = Long.toString(System.nanoTime(), 36);
+	private int sequence;
+	private Long tagId;
+
+	@Test
+	void ownerListingRunsTheSameQueriesForFewAndManyProjects() {
+		Long fewProjectsOwner = seedOwnerWithProjects(2, 1);
+		Long manyProjectsOwner = seedOwnerWithProjects(25, 3);
+
+		int few = countQueries(() -> projectManagementUseCase.getProjectsByOwnerWithSecurity(
+				fewProjectsOwner, fewProjectsOwner, new ProjectPublicSearchRequestDto(), ProjectFields.ALL));
+		int many = countQueries(() -> projectManagementUseCase.getProjectsByOwnerWithSecurity(
+				manyProjectsOwner, manyProjectsOwner, new ProjectPublicSearchRequestDto(), ProjectFields.ALL));
+
+		assertThat(few).isPositive();
+		assertThat(many).isEqualTo(few);
+	}
+
+	@Test
+	void ownerPageRunsTheSameQueriesForFewAndManyProjects() {
+		Long fewProjectsOwner = seedOwnerWithProjects(2, 1);
+		Long manyProjectsOwner = seedOwnerWithProjects(25, 3);
+
+		int few = countQueries(() -> projectManagementUseCase.getProjectsByOwnerPage(
+				fewProjectsOwner, fewProjectsOwner, pageRequest(), ProjectFields.ALL));
+		int many = countQueries(() -> projectManagementUseCase.getProjectsByOwnerPage(
+				manyProjectsOwner, manyProjectsOwner, pageRequest(), ProjectFields.ALL));
+
+		assertThat(few).isPositive();
+		assertThat(many).isEqualTo(few);
+	}
+
+	@Test
+	void publicListingRunsTheSameQueriesAfterAddingProjects() {
+		seedOwnerWithProjects(2, 1);
+		int before = countQueries(() -> projectManagementUseCase.getAllPublicProjects(ProjectFields.ALL));
+
+		seedOwnerWithProjects(25, 3);
+		int after = countQueries(() -> projectManagementUseCase.getAllPublicProjects(ProjectFields.ALL));
+
+		assertThat(before).isPositive();
+		assertThat(after).isEqualTo(before);
+	}
+
+	@Test
+	void memberListingRunsTheSameQueriesForSmallAndLargeTeams() {
+		Long ownerId = seedUser();
+		Long smallTeam = seedProject(ownerId, 1);
+		Long largeTeam = seedProject(ownerId, 20);
+
+		int small = countQueries(() -> projectManagementUseCase.getProjectMembers(smallTeam, ownerId));
+		int large = countQueries(() -> projectManagementUseCase.getProjectMembers(largeTeam, ownerId));
+
+		assertThat(small).isPositive();
+		assertThat(large).isEqualTo(small);
+	}
+
+	/**
+	 * Las filas insertadas se deshacen; el índice de acceso vuelve a leerlas para olvidarlas
+	 */
+	@AfterTransaction
+	void forgetSeededProjects() {
+		for (Long projectId : seededProjects) {
+			projectAccessIndex.onProjectChanged(new ProjectChangedEvent(projectId));
+		}
+	}
+
+	private int countQueries(Runnable action) {
+		// Sin entidades en el contexto de persistencia, cada medición carga lo mismo desde cero
+		entityManager.clear();
+		return SqlStatementCounter.count(action);
+	}
+
+	private ProjectPublicSearchRequestDto pageRequest() {
+		ProjectPublicSearchRequestDto request = new ProjectPublicSearchRequestDto();
+		request.setLimit(100);
+		return request;
+	}
+
+	private Long seedOwnerWithProjects(int projects, int membersPerProject) {
+		Long ownerId = seedUser();
+		for (int i = 0; i < projects; i++) {
+			seedProject(ownerId, membersPerProject);
+		}
+		return ownerId;
+	}
+
+	private Long seedProject(Long ownerId, int members) {
+		Long projectId = insert(
+				"INSERT INTO projects (title, description, status, owner_id, is_public) VALUES (?, ?, 'OPEN', ?, TRUE)",
+				"Proyecto " + suffix + " " + (++sequence), "Descripción del proyecto", ownerId);
+		jdbcTemplate.update("INSERT INTO project_tags (project_id, tag_id) VALUES (?, ?)", projectId, seedTag());
+		for (int i = 0; i < members; i++) {
+			jdbcTemplate.update("INSERT INTO project_members (project_id, user_id, member_role) VALUES (?, ?, 'DEVELOPER')",
+					projectId, seedUser());
+		}
+		seededProjects.add(projectId);
+		projectAccessIndex.onProjectChanged(new ProjectChangedEvent(projectId));
+		return projectId;
+	}
+
+	private Long seedUser() {
+		String username = "qc_" + suffix + "_" + (++sequence);
+		return insert("INSERT INTO users (username, email, password_hash, country) VALUES (?, ?, 'x', 'España')",
+				username, username + "@example.com");
+	}
+
+	private Long seedTag() {
+		if (tagId == null) {
+			tagId = insert("INSERT INTO tags (name, name_key, tag_type) VALUES (?, ?, 'TECHNOLOGY')",
+					"QC " + suffix, "qc " + suffix);
+		}
+		return tagId;
+	}
+
+	private Long insert(String sql, Object... args) {
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.update(connection -> {
+			PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+			for (int i = 0; i < args.length; i++) {
+				statement.setObject(i + 1, args[i]);
+			}
+			return statement;
+		}, keyHolder);
+		return keyHolder.getKey().longValue();
+	}
+}
@@ -0,0 +1,60 @@
+package com.devmatch.api.project.infrastructure.in.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectFieldsResponseAdviceTest {
+
+	private final ProjectFieldsResponseAdvice advice = new ProjectFieldsResponseAdvice();
+
+	@Test
+	void appliesToEndpointsDeclaringFields() throws NoSuchMethodException {
+		assertThat(supports("withFields")).isTrue();
+		assertThat(supports("withNamedFields")).isTrue();
+	}
+
+	@Test
+	void ignoresEndpointsWithoutFields() throws NoSuchMethodException {
+		assertThat(supports("withoutFields")).isFalse();
+		assertThat(supports("withOtherParameter")).isFalse();
+	}
+
+	private boolean supports(String methodName) throws NoSuchMethodException {
+		MethodParameter returnType = new MethodParameter(
+				Endpoints.class.getDeclaredMethod(methodName, Endpoints.PARAMETER_TYPES.get(methodName)), -1);
+		return advice.supports(returnType, MappingJackson2HttpMessageConverter.class);
+	}
+
+	@SuppressWarnings("unused")
+	private static final class Endpoints {
+
+		private static final Map<String, Class<?>[]> PARAMETER_TYPES = Map.of(
+				"withFields", new Class<?>[]{Long.class, String.class},
+				"withNamedFields", new Class<?>[]{String.class},
+				"withoutFields", new Class<?>[]{Long.class},
+				"withOtherParameter", new Class<?>[]{String.class});
+
+		Object withFields(@PathVariable Long id, @RequestParam(required = false) String fields) {
+			return null;
+		}
+
+		Object withNamedFields(@RequestParam("fields") String selection) {
+			return null;
+		}
+
+		Object withoutFields(@PathVariable Long id) {
+			return null;
+		}
+
+		Object withOtherParameter(@RequestParam(required = false) String cursor) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,164 @@
+package com.devmatch.api.security.infrastructure.in.security;
+
+import com.devmatch.api.security.application.port.out.StatelessTokenPort.TokenClaims;
+import com.devmatch.api.security.application.port.out.TokenRevocationRepositoryPort;
+import com.devmatch.api.security.domain.model.AuthMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationRegistryTest {
+
+	private static final long TOKEN_LIFETIME_MILLIS = 3_600_000L;
+
+	private InMemoryRevocations revocations;
+	private TokenRevocationRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		revocations = new InMemoryRevocations();
+		registry = new TokenRevocationRegistry(revocations, AuthMode.STATELESS, TOKEN_LIFETIME_MILLIS, 1_000, 30_000);
+		registry.initialize();
+	}
+
+	@Test
+	void refreshPicksUpRevocationsFromOtherNodes() {
+		revocations.commit(revocations.insertToken("jti-1", 1L));
+
+		registry.refresh();
+
+		assertThat(registry.isRevoked(claims("jti-1", 1L))).isTrue();
+		assertThat(registry.isRevoked(claims("jti-2", 1L))).isFalse();
+	}
+
+	@Test
+	void refreshPicksUpLowerIdCommittedAfterAHigherId() {
+		// Dos transacciones insertan en orden de ID pero confirman en orden inverso
+		long first = revocations.insertToken("jti-1", 1L);
+		long second = revocations.insertToken("jti-2", 2L);
+		revocations.commit(second);
+
+		registry.refresh();
+
+		assertThat(registry.isRevoked(claims("jti-2", 2L))).isTrue();
+		assertThat(registry.isRevoked(claims("jti-1", 1L))).isFalse();
+
+		revocations.commit(first);
+		registry.refresh();
+
+		assertThat(registry.isRevoked(claims("jti-1", 1L))).isTrue();
+	}
+
+	@Test
+	void refreshPicksUpUserRevocationCommittedOutOfOrder() {
+		Instant issuedAt = Instant.now().minusSeconds(60);
+		long userRevocation = revocations.insertUser(7L, Instant.now());
+		revocations.commit(revocations.insertToken("jti-9", 9L));
+
+		registry.refresh();
+		revocations.commit(userRevocation);
+		registry.refresh();
+
+		assertThat(registry.isRevoked(claims("jti-7", 7L, issuedAt))).isTrue();
+	}
+
+	@Test
+	void rebuildKeepsRevocationsSeenByRefresh() {
+		revocations.commit(revocations.insertToken("jti-1", 1L));
+		registry.refresh();
+
+		registry.rebuild();
+
+		assertThat(registry.isRevoked(claims("jti-1", 1L))).isTrue();
+	}
+
+	@Test
+	void tokensIssuedAfterAUserRevocationAreAccepted() {
+		Instant revokedAt = Instant.now().minusSeconds(10);
+		revocations.commit(revocations.insertUser(7L, revokedAt));
+
+		registry.refresh();
+
+		assertThat(registry.isRevoked(claims("jti-old", 7L, revokedAt.minusMillis(1)))).isTrue();
+		assertThat(registry.isRevoked(claims("jti-new", 7L, revokedAt.plusMillis(1)))).isFalse();
+	}
+
+	private static TokenClaims claims(String tokenId, Long userId) {
+		return claims(tokenId, userId, Instant.now().minusSeconds(60));
+	}
+
+	private static TokenClaims claims(String tokenId, Long userId, Instant issuedAt) {
+		return new TokenClaims(tokenId, userId, "user" + userId, "USER", true,
+				issuedAt.toEpochMilli(), issuedAt.plusMillis(TOKEN_LIFETIME_MILLIS).getEpochSecond());
+	}
+
+	/**
+	 * Tabla de revocaciones en memoria: los IDs se asignan al insertar, como
+	 * AUTO_INCREMENT, pero las filas solo son visibles una vez confirmadas
+	 */
+	private static final class InMemoryRevocations implements TokenRevocationRepositoryPort {
+
+		private final List<Row> rows = new ArrayList<>();
+
+		long insertToken(String tokenId, Long userId) {
+			return insert(tokenId, userId, Instant.now());
+		}
+
+		long insertUser(Long userId, Instant revokedAt) {
+			return insert(null, userId, revokedAt);
+		}
+
+		void commit(long id) {
+			rows.stream().filter(row -> row.data.id() == id).forEach(row -> row.committed = true);
+		}
+
+		private long insert(String tokenId, Long userId, Instant revokedAt) {
+			long id = rows.size() + 1;
+			rows.add(new Row(new RevocationData(id, tokenId, userId, revokedAt, revokedAt.plusMillis(TOKEN_LIFETIME_MILLIS))));
+			return id;
+		}
+
+		@Override
+		public void revokeToken(String tokenId, Long userId, Instant expiresAt) {
+			commit(insertToken(tokenId, userId));
+		}
+
+		@Override
+		public void revokeUser(Long userId, Instant revokedAt, Instant expiresAt) {
+			commit(insertUser(userId, revokedAt));
+		}
+
+		@Override
+		public List<RevocationData> findActive(Instant now) {
+			return findActiveSince(Instant.EPOCH, now);
+		}
+
+		@Override
+		public List<RevocationData> findActiveSince(Instant since, Instant now) {
+			return rows.stream()
+					.filter(row -> row.committed)
+					.map(row -> row.data)
+					.filter(data -> !data.revokedAt().isBefore(since) && data.expiresAt().isAfter(now))
+					.toList();
+		}
+
+		@Override
+		public int deleteExpired(Instant now) {
+			return 0;
+		}
+
+		private static final class Row {
+			private final RevocationData data;
+			private boolean committed;
+
+			private Row(RevocationData data) {
+				this.data = data;
+			}
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.devmatch.api.security.infrastructure.in.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+	private final VerifiedTokenCache cache = new VerifiedTokenCache(100, new ObjectMapper(), new SimpleMeterRegistry());
+
+	@Test
+	void returnsUserOfCachedToken() {
+		String token = token("a", Instant.now().plusSeconds(60));
+
+		cache.put(token, 1L);
+
+		assertThat(cache.getUserId(token)).isEqualTo(1L);
+		assertThat(cache.getUserId(token("b", Instant.now().plusSeconds(60)))).isNull();
+	}
+
+	@Test
+	void evictUserRemovesOnlyThatUsersTokens() {
+		String first = token("a", Instant.now().plusSeconds(60));
+		String second = token("b", Instant.now().plusSeconds(60));
+		String other = token("c", Instant.now().plusSeconds(60));
+		cache.put(first, 1L);
+		cache.put(second, 1L);
+		cache.put(other, 2L);
+
+		cache.evictUser(1L);
+
+		assertThat(cache.getUserId(first)).isNull();
+		assertThat(cache.getUserId(second)).isNull();
+		assertThat(cache.getUserId(other)).isEqualTo(2L);
+	}
+
+	@Test
+	void tokensCachedAfterAnEvictionAreKept() {
+		cache.evictUser(1L);
+		String token = token("a", Instant.now().plusSeconds(60));
+
+		cache.put(token, 1L);
+
+		assertThat(cache.getUserId(token)).isEqualTo(1L);
+	}
+
+	@Test
+	void doesNotCacheExpiredTokensOrTokensWithoutExpiration() {
+		String expired = token("a", Instant.now().minusSeconds(1));
+		String withoutExpiration = "e30." + encode("{\"sub\":\"1\"}") + ".firma";
+
+		cache.put(expired, 1L);
+		cache.put(withoutExpiration, 1L);
+
+		assertThat(cache.getUserId(expired)).isNull();
+		assertThat(cache.getUserId(withoutExpiration)).isNull();
+	}
+
+	private static String token(String id, Instant expiresAt) {
+		return "e30." + encode("{\"jti\":\"" + id + "\",\"exp\":" + expiresAt.getEpochSecond() + "}") + ".firma";
+	}
+
+	private static String encode(String json) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+	}
+}
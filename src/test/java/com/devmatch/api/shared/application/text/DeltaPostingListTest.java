@@ -0,0 +1,73 @@
+package com.devmatch.api.shared.application.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeltaPostingListTest {
+
+	@Test
+	void iteratesDocumentsAndFrequenciesInInsertionOrder() {
+		DeltaPostingList list = new DeltaPostingList();
+		list.add(3, 2);
+		list.add(130, 1);
+		list.add(100_000, 7);
+
+		List<int[]> entries = new ArrayList<>();
+		DeltaPostingList.Cursor cursor = list.cursor();
+		while (cursor.next()) {
+			entries.add(new int[]{cursor.doc(), cursor.frequency()});
+		}
+
+		assertThat(entries).containsExactly(new int[]{3, 2}, new int[]{130, 1}, new int[]{100_000, 7});
+		assertThat(list.size()).isEqualTo(3);
+	}
+
+	@Test
+	void encodesSmallGapsInOneByte() {
+		DeltaPostingList list = new DeltaPostingList();
+		list.add(3, 2);       // hueco 4: 1 + 1 bytes
+		list.add(130, 1);     // hueco 127: 1 + 1 bytes
+		list.add(100_000, 7); // hueco 99870: 3 + 1 bytes
+
+		assertThat(list.encodedLength()).isEqualTo(8);
+	}
+
+	@Test
+	void growsBeyondInitialCapacity() {
+		DeltaPostingList list = new DeltaPostingList();
+		for (int doc = 0; doc < 10_000; doc++) {
+			list.add(doc * 1_000, doc % 5 + 1);
+		}
+
+		DeltaPostingList.Cursor cursor = list.cursor();
+		int count = 0;
+		while (cursor.next()) {
+			assertThat(cursor.doc()).isEqualTo(count * 1_000);
+			assertThat(cursor.frequency()).isEqualTo(count % 5 + 1);
+			count++;
+		}
+		assertThat(count).isEqualTo(10_000);
+	}
+
+	@Test
+	void emptyListHasNoEntries() {
+		DeltaPostingList list = new DeltaPostingList();
+
+		assertThat(list.cursor().next()).isFalse();
+		assertThat(list.size()).isZero();
+	}
+
+	@Test
+	void rejectsDocumentsOutOfOrder() {
+		DeltaPostingList list = new DeltaPostingList();
+		list.add(10, 1);
+
+		assertThatThrownBy(() -> list.add(10, 1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> list.add(5, 1)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
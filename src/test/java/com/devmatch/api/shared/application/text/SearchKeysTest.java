@@ -0,0 +1,41 @@
+package com.devmatch.api.shared.application.text;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchKeysTest {
+
+	@Test
+	void normalizeFoldsCaseAndAccents() {
+		assertThat(SearchKeys.normalize("Diseño")).isEqualTo("diseno");
+		assertThat(SearchKeys.normalize("DISEÑO")).isEqualTo("diseno");
+		assertThat(SearchKeys.normalize("diseno")).isEqualTo("diseno");
+	}
+
+	@Test
+	void normalizeCollapsesSeparators() {
+		assertThat(SearchKeys.normalize("  Diseño   UX/UI ")).isEqualTo("diseno ux ui");
+		assertThat(SearchKeys.normalize("ana.garcia@example.com")).isEqualTo("ana.garcia@example.com");
+	}
+
+	@Test
+	void normalizeReturnsNullForEmptyValues() {
+		assertThat(SearchKeys.normalize(null)).isNull();
+		assertThat(SearchKeys.normalize("   ")).isNull();
+		assertThat(SearchKeys.normalize("¿?")).isNull();
+	}
+
+	@Test
+	void containsPatternMatchesAnywhereInTheKey() {
+		assertThat(SearchKeys.containsPattern("Script")).isEqualTo("%script%");
+		assertThat(SearchKeys.containsPattern(" ")).isNull();
+	}
+
+	@Test
+	void containsPatternEscapesLikeWildcards() {
+		assertThat(SearchKeys.containsPattern("mi_tag")).isEqualTo("%mi\\_tag%");
+		// % no forma parte de ninguna clave: se trata como separador
+		assertThat(SearchKeys.containsPattern("50%")).isEqualTo("%50%");
+	}
+}
@@ -0,0 +1,47 @@
+package com.devmatch.api.shared.application.text;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpanishAnalyzerTest {
+
+	@Test
+	void foldRemovesCaseAndDiacritics() {
+		assertThat(SpanishAnalyzer.fold("Diseño")).isEqualTo("diseno");
+		assertThat(SpanishAnalyzer.fold("ÑANDÚ Pingüino")).isEqualTo("nandu pinguino");
+	}
+
+	@Test
+	void analyzeDropsStopWordsAndStemsTerms() {
+		assertThat(SpanishAnalyzer.analyze("Los Diseños de las APIs"))
+				.containsExactly("disen", "apis");
+	}
+
+	@Test
+	void analyzeSplitsOnAnyNonAlphanumericCharacter() {
+		assertThat(SpanishAnalyzer.analyze("backend/frontend, java-21"))
+				.containsExactly("backend", "frontend", "java", "21");
+	}
+
+	@Test
+	void analyzeReturnsNoTermsForEmptyText() {
+		assertThat(SpanishAnalyzer.analyze(null)).isEmpty();
+		assertThat(SpanishAnalyzer.analyze("  ")).isEmpty();
+		assertThat(SpanishAnalyzer.analyze("de la y el")).isEmpty();
+	}
+
+	@Test
+	void stemRemovesGenderAndPluralEndings() {
+		assertThat(SpanishAnalyzer.stem("proyecto")).isEqualTo("proyect");
+		assertThat(SpanishAnalyzer.stem("proyectos")).isEqualTo("proyect");
+		assertThat(SpanishAnalyzer.stem("luces")).isEqualTo("luz");
+		assertThat(SpanishAnalyzer.stem("meses")).isEqualTo("mes");
+	}
+
+	@Test
+	void stemKeepsShortTokens() {
+		assertThat(SpanishAnalyzer.stem("java")).isEqualTo("java");
+		assertThat(SpanishAnalyzer.stem("apis")).isEqualTo("apis");
+	}
+}
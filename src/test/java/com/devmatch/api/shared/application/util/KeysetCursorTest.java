@@ -0,0 +1,44 @@
+package com.devmatch.api.shared.application.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+	@Test
+	void encodeAndDecodeRoundTrip() {
+		KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 3, 15, 10, 30, 45, 123_456_789), 42L);
+
+		String encoded = cursor.encode();
+
+		assertThat(encoded).matches("[A-Za-z0-9_-]+");
+		assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+	}
+
+	@Test
+	void decodeReturnsNullForEmptyCursor() {
+		assertThat(KeysetCursor.decode(null)).isNull();
+		assertThat(KeysetCursor.decode("  ")).isNull();
+	}
+
+	@Test
+	void decodeRejectsMalformedCursor() {
+		assertThatThrownBy(() -> KeysetCursor.decode("no es base64!"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Cursor de paginación inválido");
+	}
+
+	@Test
+	void decodeRejectsCursorWithWrongLength() {
+		String tooShort = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[12]);
+
+		assertThatThrownBy(() -> KeysetCursor.decode(tooShort))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Cursor de paginación inválido");
+	}
+}
@@ -0,0 +1,57 @@
+package com.devmatch.api.shared.application.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RebuildTrackerTest {
+
+	@Test
+	void ignoresChangesOutsideARebuild() {
+		RebuildTracker<Long> tracker = new RebuildTracker<>();
+		tracker.changed(1L);
+
+		tracker.begin();
+
+		assertThat(tracker.swapped()).isEmpty();
+	}
+
+	@Test
+	void returnsChangesInOrderWithoutDuplicates() {
+		RebuildTracker<Long> tracker = new RebuildTracker<>();
+		tracker.begin();
+		tracker.changed(3L);
+		tracker.changed(1L);
+		tracker.changed(3L);
+
+		assertThat(tracker.swapped()).containsExactly(3L, 1L);
+	}
+
+	@Test
+	void keepsChangesWhileAnOverlappingRebuildIsRunning() {
+		RebuildTracker<Long> tracker = new RebuildTracker<>();
+		tracker.begin();
+		tracker.changed(1L);
+		tracker.begin();
+		tracker.changed(2L);
+		tracker.end();
+
+		assertThat(tracker.swapped()).containsExactly(1L, 2L);
+
+		tracker.end();
+		tracker.changed(3L);
+		tracker.begin();
+
+		assertThat(tracker.swapped()).isEmpty();
+	}
+
+	@Test
+	void unbalancedEndIsHarmless() {
+		RebuildTracker<Long> tracker = new RebuildTracker<>();
+		tracker.end();
+		tracker.begin();
+		tracker.changed(1L);
+
+		assertThat(tracker.swapped()).containsExactly(1L);
+	}
+}
@@ -0,0 +1,145 @@
+package com.devmatch.api.shared.application.util;
+
+import com.devmatch.api.shared.application.exception.SingleFlightTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentCallsForTheSameKeyShareOneLoad() throws Exception {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+
+		Future<String> first = executor.submit(() -> singleFlight.execute(1L, () -> {
+			loads.incrementAndGet();
+			loading.countDown();
+			await(release);
+			return "valor";
+		}));
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		Future<String> second = executor.submit(() -> singleFlight.execute(1L, () -> {
+			loads.incrementAndGet();
+			return "otro";
+		}));
+		awaitCount("coalesced", 1);
+		release.countDown();
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("valor");
+		assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("valor");
+		assertThat(loads).hasValue(1);
+		assertThat(count("load")).isEqualTo(1);
+	}
+
+	@Test
+	void sequentialCallsLoadAgain() {
+		SingleFlight<Long, Integer> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+		AtomicInteger loads = new AtomicInteger();
+
+		singleFlight.execute(1L, loads::incrementAndGet);
+		int second = singleFlight.execute(1L, loads::incrementAndGet);
+
+		assertThat(second).isEqualTo(2);
+		assertThat(count("load")).isEqualTo(2);
+		assertThat(count("coalesced")).isZero();
+	}
+
+	@Test
+	void waitersReceiveTheLoaderException() throws Exception {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<String> first = executor.submit(() -> singleFlight.execute(1L, () -> {
+			loading.countDown();
+			await(release);
+			throw new IllegalStateException("no encontrado");
+		}));
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		Future<String> second = executor.submit(() -> singleFlight.execute(1L, () -> "otro"));
+		awaitCount("coalesced", 1);
+		release.countDown();
+
+		assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+				.hasCauseInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+				.hasCauseInstanceOf(IllegalStateException.class)
+				.hasRootCauseMessage("no encontrado");
+	}
+
+	@Test
+	void waitIsBoundedByTheTimeout() throws Exception {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofMillis(50), meterRegistry);
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<String> first = executor.submit(() -> singleFlight.execute(1L, () -> {
+			loading.countDown();
+			await(release);
+			return "valor";
+		}));
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThatThrownBy(() -> singleFlight.execute(1L, () -> "otro"))
+				.isInstanceOf(SingleFlightTimeoutException.class);
+		assertThat(count("timeout")).isEqualTo(1);
+
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("valor");
+	}
+
+	@Test
+	void differentKeysDoNotCoalesce() {
+		SingleFlight<Long, Long> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+
+		assertThat(singleFlight.execute(1L, () -> 1L)).isEqualTo(1L);
+		assertThat(singleFlight.execute(2L, () -> 2L)).isEqualTo(2L);
+		assertThat(count("coalesced")).isZero();
+	}
+
+	private double count(String result) {
+		return meterRegistry.get("singleflight.calls").tag("name", "test").tag("result", result).counter().count();
+	}
+
+	private void awaitCount(String result, double expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (count(result) < expected) {
+			if (System.nanoTime() > deadline) {
+				throw new AssertionError("singleflight.calls{result=" + result + "} no llegó a " + expected);
+			}
+			Thread.sleep(5);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
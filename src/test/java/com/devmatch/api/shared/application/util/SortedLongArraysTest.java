@@ -0,0 +1,64 @@
+package com.devmatch.api.shared.application.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortedLongArraysTest {
+
+	@Test
+	void ofSortsAndRemovesDuplicates() {
+		assertThat(SortedLongArrays.of(List.of(5L, 1L, 3L, 5L, 1L))).containsExactly(1L, 3L, 5L);
+		assertThat(SortedLongArrays.of(List.of())).isSameAs(SortedLongArrays.EMPTY);
+	}
+
+	@Test
+	void containsUsesBinarySearch() {
+		long[] array = SortedLongArrays.of(List.of(2L, 4L, 8L));
+
+		assertThat(SortedLongArrays.contains(array, 4L)).isTrue();
+		assertThat(SortedLongArrays.contains(array, 5L)).isFalse();
+		assertThat(SortedLongArrays.contains(SortedLongArrays.EMPTY, 1L)).isFalse();
+	}
+
+	@Test
+	void insertKeepsOrderAndCopies() {
+		long[] array = SortedLongArrays.of(List.of(2L, 8L));
+
+		long[] inserted = SortedLongArrays.insert(array, 4L);
+
+		assertThat(inserted).containsExactly(2L, 4L, 8L);
+		assertThat(array).containsExactly(2L, 8L);
+		assertThat(SortedLongArrays.insert(inserted, 1L)).containsExactly(1L, 2L, 4L, 8L);
+		assertThat(SortedLongArrays.insert(inserted, 9L)).containsExactly(2L, 4L, 8L, 9L);
+	}
+
+	@Test
+	void insertReturnsSameArrayWhenValueIsPresent() {
+		long[] array = SortedLongArrays.of(List.of(2L, 8L));
+
+		assertThat(SortedLongArrays.insert(array, 8L)).isSameAs(array);
+	}
+
+	@Test
+	void removeCopiesWithoutTheValue() {
+		long[] array = SortedLongArrays.of(List.of(2L, 4L, 8L));
+
+		assertThat(SortedLongArrays.remove(array, 4L)).containsExactly(2L, 8L);
+		assertThat(array).containsExactly(2L, 4L, 8L);
+	}
+
+	@Test
+	void removeReturnsSameArrayWhenValueIsAbsent() {
+		long[] array = SortedLongArrays.of(List.of(2L, 8L));
+
+		assertThat(SortedLongArrays.remove(array, 3L)).isSameAs(array);
+	}
+
+	@Test
+	void removingLastValueReturnsEmpty() {
+		assertThat(SortedLongArrays.remove(new long[]{7L}, 7L)).isSameAs(SortedLongArrays.EMPTY);
+	}
+}
@@ -0,0 +1,123 @@
+package com.devmatch.api.shared.infrastructure.text;
+
+import com.devmatch.api.project.application.port.out.ProjectTextRepositoryPort;
+import com.devmatch.api.shared.application.text.KeyBackfillBatch;
+import com.devmatch.api.tag.application.port.out.TagSearchRepositoryPort;
+import com.devmatch.api.user.application.dto.admin.UserSearchCriteriaDto;
+import com.devmatch.api.user.application.port.out.UserSearchRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SearchKeyBackfillTest {
+
+	private final ProjectTextRepositoryPort projects = mock(ProjectTextRepositoryPort.class);
+	private final InMemoryUsers users = new InMemoryUsers();
+	private final SearchKeyBackfill backfill = new SearchKeyBackfill(
+			projects, mock(TagSearchRepositoryPort.class), users);
+
+	SearchKeyBackfillTest() {
+		when(projects.backfillMissingKeys(anyLong(), anyInt())).thenReturn(new KeyBackfillBatch(0, true, 0));
+	}
+
+	@Test
+	void initializeFillsEveryUserInBoundedBatches() {
+		users.add(25, 3, 17, 24);
+		ReflectionTestUtils.setField(backfill, "batchSize", 10);
+
+		backfill.initialize();
+
+		assertThat(users.missing()).isEmpty();
+		assertThat(users.reads).containsExactly(0L, 10L, 20L);
+	}
+
+	@Test
+	void scheduledRunReadsOneBatchAndWrapsAroundAtTheEnd() {
+		users.add(25);
+		ReflectionTestUtils.setField(backfill, "batchSize", 10);
+
+		backfill.backfill();
+		backfill.backfill();
+		users.markMissing(5);
+		backfill.backfill();
+		backfill.backfill();
+
+		assertThat(users.reads).containsExactly(0L, 10L, 20L, 0L);
+		assertThat(users.missing()).isEmpty();
+	}
+
+	@Test
+	void projectsAreReadInBatchesAfterTheLastId() {
+		when(projects.backfillMissingKeys(anyLong(), anyInt()))
+				.thenReturn(new KeyBackfillBatch(10, false, 2), new KeyBackfillBatch(14, true, 1));
+		ReflectionTestUtils.setField(backfill, "batchSize", 10);
+
+		backfill.initialize();
+
+		verify(projects).backfillMissingKeys(0, 10);
+		verify(projects).backfillMissingKeys(10, 10);
+	}
+
+	/**
+	 * Usuarios por ID con una marca de clave pendiente
+	 */
+	private static final class InMemoryUsers implements UserSearchRepositoryPort {
+
+		private final TreeMap<Long, Boolean> missingById = new TreeMap<>();
+		private final List<Long> reads = new ArrayList<>();
+
+		void add(int count, long... missingIds) {
+			for (long id = 1; id <= count; id++) {
+				missingById.put(id, false);
+			}
+			for (long id : missingIds) {
+				markMissing(id);
+			}
+		}
+
+		void markMissing(long id) {
+			missingById.put(id, true);
+		}
+
+		List<Long> missing() {
+			return missingById.entrySet().stream().filter(Map.Entry::getValue).map(Map.Entry::getKey).toList();
+		}
+
+		@Override
+		public KeyBackfillBatch backfillMissingKeys(long afterId, int batchSize) {
+			reads.add(afterId);
+			List<Long> batch = missingById.tailMap(afterId, false).keySet().stream().limit(batchSize).toList();
+			int updated = 0;
+			for (Long id : batch) {
+				if (missingById.put(id, false)) {
+					updated++;
+				}
+			}
+			long lastId = batch.isEmpty() ? afterId : batch.get(batch.size() - 1);
+			return new KeyBackfillBatch(lastId, batch.size() < batchSize, updated);
+		}
+
+		@Override
+		public Page<Long> searchUserIds(UserSearchCriteriaDto criteria, Pageable pageable) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void refreshSearchKeys(Long userId, String username, String country, String province, String city) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
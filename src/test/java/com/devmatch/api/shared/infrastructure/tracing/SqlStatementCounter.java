@@ -0,0 +1,23 @@
+package com.devmatch.api.shared.infrastructure.tracing;
+
+/**
+ * Cuenta las sentencias SQL que ejecuta una acción a través de
+ * {@link SqlCountingDataSource}, como si fuera una petición trazada.
+ * Requiere {@code tracing.enabled=true} en el contexto del test.
+ */
+public final class SqlStatementCounter {
+
+	private SqlStatementCounter() {
+	}
+
+	public static int count(Runnable action) {
+		RequestTrace trace = new RequestTrace("TEST", "sql-count");
+		RequestTraceContext.set(trace);
+		try {
+			action.run();
+		} finally {
+			RequestTraceContext.clear();
+		}
+		return trace.sqlCount();
+	}
+}
@@ -0,0 +1,56 @@
+package com.devmatch.api.shared.infrastructure.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedTokenBucketLimiterTest {
+
+	@Test
+	void allowsBurstUpToCapacity() {
+		StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(4, 64, 3, 0);
+
+		assertThat(limiter.tryAcquire(1L)).isTrue();
+		assertThat(limiter.tryAcquire(1L)).isTrue();
+		assertThat(limiter.tryAcquire(1L)).isTrue();
+		assertThat(limiter.tryAcquire(1L)).isFalse();
+	}
+
+	@Test
+	void keysHaveIndependentBuckets() {
+		StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(4, 64, 1, 0);
+
+		assertThat(limiter.tryAcquire(1L)).isTrue();
+		assertThat(limiter.tryAcquire(1L)).isFalse();
+		assertThat(limiter.tryAcquire(2L)).isTrue();
+	}
+
+	@Test
+	void refillsOverTime() throws InterruptedException {
+		// 60 000 tokens por minuto: uno por milisegundo
+		StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(1, 8, 1, 60_000);
+
+		assertThat(limiter.tryAcquire(1L)).isTrue();
+		Thread.sleep(20);
+
+		assertThat(limiter.tryAcquire(1L)).isTrue();
+	}
+
+	@Test
+	void evictedKeysStartWithAFullBucket() {
+		// Un único hueco: cada clave nueva desaloja a la anterior
+		StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(1, 1, 1, 0);
+
+		assertThat(limiter.tryAcquire(1L)).isTrue();
+		assertThat(limiter.tryAcquire(1L)).isFalse();
+		assertThat(limiter.tryAcquire(2L)).isTrue();
+		assertThat(limiter.tryAcquire(1L)).isTrue();
+	}
+
+	@Test
+	void rejectsCapacityBelowOne() {
+		assertThatThrownBy(() -> new StripedTokenBucketLimiter(1, 8, 0, 10))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
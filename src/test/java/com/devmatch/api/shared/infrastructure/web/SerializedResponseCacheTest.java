@@ -0,0 +1,100 @@
+package com.devmatch.api.shared.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedResponseCacheTest {
+
+	private static final int SLAB_SIZE = 1024;
+
+	private final ObjectWriter writer = new ObjectMapper().writer();
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	void storesEntriesLargerThanOneSlab() throws IOException {
+		SerializedResponseCache cache = newCache(8);
+		String body = "x".repeat(3 * SLAB_SIZE);
+
+		CachedResponse first = get(cache, "catalog", body, false);
+		CachedResponse second = get(cache, "catalog", body, false);
+		CachedResponse compressed = get(cache, "catalog", body, true);
+
+		assertThat(loads).hasValue(1);
+		assertThat(text(first)).isEqualTo("\"" + body + "\"");
+		assertThat(text(second)).isEqualTo("\"" + body + "\"");
+		assertThat(compressed.gzip()).isTrue();
+		assertThat(gunzip(compressed)).isEqualTo("\"" + body + "\"");
+	}
+
+	@Test
+	void largeEntryEvictsTheSlabsItOccupies() throws IOException {
+		SerializedResponseCache cache = newCache(4);
+		// Cada entrada pequeña ocupa más de medio slab: una por slab, en las posiciones 0, 1 y 2
+		String small = "s".repeat(SLAB_SIZE / 2 + 100);
+		get(cache, "a", small, false);
+		get(cache, "b", small, false);
+		get(cache, "c", small, false);
+
+		// Necesita tres slabs: la posición 3 y, al dar la vuelta, la 0 y la 1
+		get(cache, "large", "x".repeat(2 * SLAB_SIZE + 500), false);
+		loads.set(0);
+
+		get(cache, "c", small, false);
+		get(cache, "large", "x".repeat(2 * SLAB_SIZE + 500), false);
+		assertThat(loads).hasValue(0);
+
+		assertThat(text(get(cache, "a", small, false))).isEqualTo("\"" + small + "\"");
+		get(cache, "b", small, false);
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void entryLargerThanTheWholeCacheIsServedWithoutStoring() throws IOException {
+		SerializedResponseCache cache = newCache(2);
+		String body = "x".repeat(3 * SLAB_SIZE);
+
+		CachedResponse first = get(cache, "catalog", body, false);
+		get(cache, "catalog", body, false);
+
+		assertThat(loads).hasValue(2);
+		assertThat(text(first)).isEqualTo("\"" + body + "\"");
+	}
+
+	private SerializedResponseCache newCache(int slabs) {
+		return new SerializedResponseCache(SLAB_SIZE, slabs, 1000, new SimpleMeterRegistry());
+	}
+
+	private CachedResponse get(SerializedResponseCache cache, String endpoint, String body, boolean gzip) {
+		return cache.get(new SerializedResponseCache.Key(endpoint, ""), "v1", gzip, writer, () -> {
+			loads.incrementAndGet();
+			return body;
+		});
+	}
+
+	private static String text(CachedResponse response) {
+		return new String(bytes(response.body()), StandardCharsets.UTF_8);
+	}
+
+	private static String gunzip(CachedResponse response) throws IOException {
+		try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(bytes(response.body())))) {
+			return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static byte[] bytes(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.duplicate().get(bytes);
+		return bytes;
+	}
+}